@@ -0,0 +1,61 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+  @Param({"1", "10", "100"})
+  private int itemCount;
+
+  private Money price;
+  private Money[] subTotals;
+  private int quantity;
+
+  @Setup
+  public void setUp() {
+    price = new Money(new BigDecimal("12.34"));
+    quantity = 3;
+    subTotals = new Money[itemCount];
+    for (int i = 0; i < itemCount; i++) {
+      subTotals[i] = new Money(BigDecimal.valueOf(100 + i, 2));
+    }
+  }
+
+  @Benchmark
+  public Money add() {
+    return price.add(subTotals[0]);
+  }
+
+  @Benchmark
+  public Money multiply() {
+    return price.multiply(quantity);
+  }
+
+  @Benchmark
+  public Money sumSubTotals() {
+    Money total = Money.ZERO;
+    for (Money subTotal : subTotals) {
+      total = total.add(subTotal);
+    }
+    return total;
+  }
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7Generator;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmark {
+  @Param({"1", "10", "100"})
+  private int itemCount;
+
+  @Param({"10", "1000"})
+  private int menuSize;
+
+  private final IdGenerator idGenerator = new UuidV7Generator();
+  private Restaurant restaurant;
+  private List<OrderItem> items;
+  private Money price;
+  private Order order;
+
+  @Setup
+  public void setUp() {
+    restaurant = OrderFixtures.restaurant(menuSize);
+    items = OrderFixtures.orderItems(restaurant, itemCount);
+    price = OrderFixtures.total(items);
+    order = OrderFixtures.order(restaurant, items, price);
+  }
+
+  @Benchmark
+  public Order validateOrder() {
+    order.validateOrder();
+    return order;
+  }
+
+  @Benchmark
+  public Order initializeOrder() {
+    Order newOrder = OrderFixtures.order(restaurant, items, price);
+    newOrder.initializeOrder(idGenerator);
+    return newOrder;
+  }
+}
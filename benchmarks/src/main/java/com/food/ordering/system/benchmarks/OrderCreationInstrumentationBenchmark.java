@@ -0,0 +1,75 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.domain.id.UuidV7Generator;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.instrumentation.OrderCreationStage;
+import com.food.ordering.system.order.service.domain.instrumentation.OrderCreationStageTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the order creation stage timers. Only the in-memory validation runs between the stages here, so the
+ * difference to the baseline is an upper bound for the share the timers take of a request that also hits the
+ * database and Kafka.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCreationInstrumentationBenchmark {
+  private final OrderDomainService orderDomainService = new OrderDomainServiceImpl(new UuidV7Generator());
+  private final OrderCreationStageTimer orderCreationStageTimer = new OrderCreationStageTimer(new SimpleMeterRegistry());
+  private Restaurant restaurant;
+  private List<OrderItem> items;
+  private Money price;
+
+  @Setup
+  public void setUp() {
+    restaurant = OrderFixtures.restaurant(100);
+    items = OrderFixtures.orderItems(restaurant, 10);
+    price = OrderFixtures.total(items);
+  }
+
+  @Benchmark
+  public OrderCreatedEvent baseline() {
+    return orderDomainService.validateAndInitiateOrder(OrderFixtures.order(restaurant, items, price), restaurant);
+  }
+
+  @Benchmark
+  public OrderCreatedEvent instrumented(Blackhole blackhole) {
+    return orderCreationStageTimer.record(OrderCreationStage.TOTAL, () -> {
+      OrderCreatedEvent orderCreatedEvent = orderCreationStageTimer.record(OrderCreationStage.PERSIST, () -> {
+        orderCreationStageTimer.record(OrderCreationStage.CUSTOMER_CHECK, () -> blackhole.consume(restaurant));
+        orderCreationStageTimer.record(OrderCreationStage.RESTAURANT_LOOKUP, () -> blackhole.consume(restaurant));
+        OrderCreatedEvent event = orderCreationStageTimer.record(OrderCreationStage.VALIDATE_AND_INITIATE,
+            () -> orderDomainService.validateAndInitiateOrder(OrderFixtures.order(restaurant, items, price), restaurant));
+        orderCreationStageTimer.record(OrderCreationStage.SAVE_ORDER, () -> blackhole.consume(event));
+        orderCreationStageTimer.record(OrderCreationStage.PUBLISH, () -> blackhole.consume(event));
+        return event;
+      });
+      orderCreationStageTimer.record(OrderCreationStage.RESPONSE_MAPPING,
+          () -> blackhole.consume(orderCreatedEvent.getOrder()));
+      return orderCreatedEvent;
+    });
+  }
+}
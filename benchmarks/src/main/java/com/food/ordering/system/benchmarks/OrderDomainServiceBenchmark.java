@@ -0,0 +1,55 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.domain.id.UuidV7Generator;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderDomainServiceBenchmark {
+  @Param({"1", "10", "100"})
+  private int itemCount;
+
+  @Param({"10", "100", "1000"})
+  private int menuSize;
+
+  private final OrderDomainService orderDomainService = new OrderDomainServiceImpl(new UuidV7Generator());
+  private Restaurant restaurant;
+  private List<OrderItem> items;
+  private Money price;
+
+  @Setup
+  public void setUp() {
+    restaurant = OrderFixtures.restaurant(menuSize);
+    items = OrderFixtures.orderItems(restaurant, itemCount);
+    price = OrderFixtures.total(items);
+  }
+
+  @Benchmark
+  public OrderCreatedEvent validateAndInitiateOrder() {
+    // An order can only be initiated once; the items are reused, as re-initializing them is idempotent.
+    return orderDomainService.validateAndInitiateOrder(OrderFixtures.order(restaurant, items, price), restaurant);
+  }
+}
@@ -0,0 +1,75 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class OrderFixtures {
+  private static final CustomerId CUSTOMER_ID = new CustomerId(new UUID(1, 1));
+  private static final StreetAddress DELIVERY_ADDRESS = new StreetAddress(new UUID(1, 2), "Street", "12345", "City");
+
+  private OrderFixtures() {
+  }
+
+  public static Restaurant restaurant(int menuSize) {
+    List<Product> products = new ArrayList<>(menuSize);
+    for (int i = 0; i < menuSize; i++) {
+      products.add(new Product(new ProductId(new UUID(0, i)), "product-" + i, new Money(productPrice(i))));
+    }
+
+    return Restaurant.builder()
+        .restaurantId(new RestaurantId(new UUID(2, menuSize)))
+        .products(products)
+        .isActive(true)
+        .build();
+  }
+
+  public static List<OrderItem> orderItems(Restaurant restaurant, int itemCount) {
+    List<Product> menu = restaurant.getProducts();
+    List<OrderItem> items = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      Product menuProduct = menu.get((int) ((i * 7919L) % menu.size()));
+      int quantity = i % 3 + 1;
+      items.add(OrderItem.builder()
+          .product(new Product(menuProduct.getId(), menuProduct.getName(), menuProduct.getPrice()))
+          .quantity(quantity)
+          .price(menuProduct.getPrice())
+          .subTotal(menuProduct.getPrice().multiply(quantity))
+          .build());
+    }
+    return items;
+  }
+
+  public static Money total(List<OrderItem> items) {
+    Money total = Money.ZERO;
+    for (OrderItem item : items) {
+      total = total.add(item.getSubTotal());
+    }
+    return total;
+  }
+
+  public static Order order(Restaurant restaurant, List<OrderItem> items, Money price) {
+    return Order.builder()
+        .customerId(CUSTOMER_ID)
+        .restaurantId(restaurant.getId())
+        .deliveryAddress(DELIVERY_ADDRESS)
+        .price(price)
+        .items(items)
+        .build();
+  }
+
+  private static BigDecimal productPrice(int index) {
+    return BigDecimal.valueOf(100 + index % 5_000, 2);
+  }
+}
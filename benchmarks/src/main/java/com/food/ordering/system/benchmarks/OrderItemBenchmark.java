@@ -0,0 +1,47 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderItemBenchmark {
+  @Param({"1", "10", "100"})
+  private int itemCount;
+
+  @Param({"10", "1000"})
+  private int menuSize;
+
+  private List<OrderItem> items;
+
+  @Setup
+  public void setUp() {
+    items = OrderFixtures.orderItems(OrderFixtures.restaurant(menuSize), itemCount);
+  }
+
+  @Benchmark
+  public boolean isPriceValid() {
+    boolean valid = true;
+    for (OrderItem item : items) {
+      valid &= item.isPriceValid();
+    }
+    return valid;
+  }
+}
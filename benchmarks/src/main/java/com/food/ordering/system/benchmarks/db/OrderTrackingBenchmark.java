@@ -0,0 +1,146 @@
+package com.food.ordering.system.benchmarks.db;
+
+import com.food.ordering.system.benchmarks.OrderFixtures;
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7Generator;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.order.service.dataaccess.notification.NotificationOrigin;
+import com.food.ordering.system.order.service.dataaccess.order.adapter.OrderRepositoryImpl;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJdbcRepository;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares tracking an order by loading the whole aggregate with tracking it through the projection query, against
+ * an in-memory H2 database so the difference is the hydration and mapping work rather than network time. Run with the GC profiler (the default of BenchmarkRunner) to see allocations per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderTrackingBenchmark {
+  private static final int ORDER_COUNT = 1_000;
+
+  @Param({"1", "10"})
+  private int itemCount;
+
+  private final IdGenerator idGenerator = new UuidV7Generator();
+  private EntityManagerFactory entityManagerFactory;
+  private TransactionTemplate readOnlyTransactionTemplate;
+  private OrderRepository orderRepository;
+  private OrderDataMapper orderDataMapper;
+  private TrackingId[] trackingIds;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:order-tracking-" + itemCount + ";DB_CLOSE_DELAY=-1");
+
+    LocalContainerEntityManagerFactoryBean entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+    entityManagerFactoryBean.setDataSource(dataSource);
+    entityManagerFactoryBean.setPackagesToScan("com.food.ordering.system.order.service.dataaccess.order.entity");
+    entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+        "hibernate.hbm2ddl.auto", "create-drop",
+        "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+    entityManagerFactoryBean.afterPropertiesSet();
+    entityManagerFactory = entityManagerFactoryBean.getObject();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+    readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    readOnlyTransactionTemplate.setReadOnly(true);
+
+    OrderJpaRepository orderJpaRepository = new JpaRepositoryFactory(
+        SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory))
+        .getRepository(OrderJpaRepository.class);
+    orderRepository = new OrderRepositoryImpl(orderJpaRepository,
+        new OrderJdbcRepository(jdbcTemplate, new NotificationOrigin()), new OrderDataAccessMapper());
+    orderDataMapper = new OrderDataMapper(idGenerator);
+
+    Restaurant restaurant = OrderFixtures.restaurant(100);
+    trackingIds = new TrackingId[ORDER_COUNT];
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      for (int i = 0; i < ORDER_COUNT; i++) {
+        Order order = order(restaurant);
+        order.initializeOrder(idGenerator);
+        orderRepository.save(order);
+        trackingIds[i] = order.getTrackingId();
+      }
+    });
+  }
+
+  @TearDown
+  public void tearDown() {
+    entityManagerFactory.close();
+  }
+
+  @Benchmark
+  public TrackOrderResponse trackByAggregate() {
+    TrackingId trackingId = nextTrackingId();
+    return readOnlyTransactionTemplate.execute(status -> orderRepository.findOrderByTrackingId(trackingId)
+        .map(orderDataMapper::orderToTrackOrderResponse)
+        .orElseThrow());
+  }
+
+  @Benchmark
+  public TrackOrderResponse trackByProjection() {
+    TrackingId trackingId = nextTrackingId();
+    return readOnlyTransactionTemplate.execute(status -> orderRepository.findTrackOrderResponseByTrackingId(trackingId)
+        .orElseThrow());
+  }
+
+  private TrackingId nextTrackingId() {
+    next = (next + 1) % ORDER_COUNT;
+    return trackingIds[next];
+  }
+
+  private Order order(Restaurant restaurant) {
+    List<OrderItem> items = OrderFixtures.orderItems(restaurant, itemCount);
+    return Order.builder()
+        .customerId(new CustomerId(UUID.randomUUID()))
+        .restaurantId(restaurant.getId())
+        .deliveryAddress(new StreetAddress(UUID.randomUUID(), "Street", "12345", "City"))
+        .price(OrderFixtures.total(items))
+        .items(items)
+        .build();
+  }
+}
@@ -0,0 +1,102 @@
+package com.food.ordering.system.benchmarks.db;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7Generator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Inserts the same number of rows into a UUID primary key table once with random (v4) and once with time-ordered
+ * (v7) ids against a real PostgreSQL, printing insert throughput per 10% of rows and the final primary key index
+ * size. Example: {@code java -Dindex.rows=50000000 -cp target/benchmarks.jar
+ * com.food.ordering.system.benchmarks.db.UuidIndexBenchmark}.
+ * <p>
+ * Properties: {@code index.url}, {@code index.username}, {@code index.password}, {@code index.rows} (default
+ * 50,000,000), {@code index.batch-size} (rows per transaction, default 10,000) and {@code index.keep-tables}.
+ */
+public class UuidIndexBenchmark {
+  private static final String DEFAULT_URL = "jdbc:postgresql://localhost:5432/postgres?reWriteBatchedInserts=true";
+
+  public static void main(String[] args) throws SQLException {
+    String url = System.getProperty("index.url", DEFAULT_URL);
+    String username = System.getProperty("index.username", "postgres");
+    String password = System.getProperty("index.password", "");
+    long rows = Long.getLong("index.rows", 50_000_000L);
+    int batchSize = Integer.getInteger("index.batch-size", 10_000);
+    boolean keepTables = Boolean.getBoolean("index.keep-tables");
+
+    IdGenerator uuidV7Generator = new UuidV7Generator();
+    Map<String, IdGenerator> idGenerators = new LinkedHashMap<>();
+    idGenerators.put("v4", UUID::randomUUID);
+    idGenerators.put("v7", uuidV7Generator);
+
+    try (Connection connection = DriverManager.getConnection(url, username, password)) {
+      for (Map.Entry<String, IdGenerator> idGenerator : idGenerators.entrySet()) {
+        run(connection, "uuid_index_benchmark_" + idGenerator.getKey(), idGenerator.getValue(), rows, batchSize,
+            keepTables);
+      }
+    }
+  }
+
+  private static void run(Connection connection, String table, IdGenerator idGenerator, long rows, int batchSize,
+                          boolean keepTables) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + table);
+      statement.execute("CREATE TABLE " + table + " (id UUID NOT NULL, created_at TIMESTAMP WITH TIME ZONE NOT NULL "
+          + "DEFAULT now(), CONSTRAINT " + table + "_pkey PRIMARY KEY (id))");
+    }
+
+    connection.setAutoCommit(false);
+    long reportEvery = Math.max(rows / 10, batchSize);
+    long start = System.nanoTime();
+    long intervalStart = start;
+    long intervalRows = 0;
+    long inserted = 0;
+
+    try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " (id) VALUES (?)")) {
+      while (inserted < rows) {
+        long batchEnd = Math.min(inserted + batchSize, rows);
+        intervalRows += batchEnd - inserted;
+        for (; inserted < batchEnd; inserted++) {
+          insert.setObject(1, idGenerator.generateId());
+          insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+
+        if (inserted % reportEvery < batchSize || inserted == rows) {
+          long now = System.nanoTime();
+          System.out.printf("%s %,14d rows %,12.0f rows/s%n", table, inserted,
+              intervalRows / ((now - intervalStart) / 1e9));
+          intervalStart = now;
+          intervalRows = 0;
+        }
+      }
+    } finally {
+      connection.setAutoCommit(true);
+    }
+
+    double seconds = (System.nanoTime() - start) / 1e9;
+    try (Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey'), "
+             + "pg_relation_size('" + table + "')")) {
+      resultSet.next();
+      System.out.printf("%s total %,d rows in %.1f s (%,.0f rows/s), pkey index %,d MB, table %,d MB%n", table, rows,
+          seconds, rows / seconds, resultSet.getLong(1) >> 20, resultSet.getLong(2) >> 20);
+    }
+
+    if (!keepTables) {
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("DROP TABLE " + table);
+      }
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.food.ordering.system.benchmarks.load;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Publishes outbox-sized batches to a running Kafka cluster with the producer settings of each
+ * {@code kafka-producer-config.delivery-mode}: plain at-least-once, idempotent, and transactional with one transaction
+ * per batch, like the order outbox relay. Each batch is awaited before the next one is sent, e.g.
+ * {@code java -Dload.bootstrap-servers=localhost:19092 -cp target/benchmarks.jar com.food.ordering.system.benchmarks.load.KafkaProducerModeLoadTest}.
+ * <p>
+ * Properties: {@code load.bootstrap-servers} (required), {@code load.topic} (default {@code producer-mode-load-test}),
+ * {@code load.modes} (default at_least_once,idempotent,transactional), {@code load.batch-size} (default 100, the
+ * outbox relay batch size), {@code load.payload-bytes} (default 250, a v2 restaurant approval request),
+ * {@code load.warmup-seconds} and {@code load.duration-seconds}.
+ */
+public class KafkaProducerModeLoadTest {
+
+  public static void main(String[] args) throws Exception {
+    String bootstrapServers = System.getProperty("load.bootstrap-servers");
+    if (bootstrapServers == null) {
+      throw new IllegalArgumentException("load.bootstrap-servers is required");
+    }
+    String topic = System.getProperty("load.topic", "producer-mode-load-test");
+    List<String> modes = Arrays.stream(System.getProperty("load.modes", "at_least_once,idempotent,transactional")
+            .split(","))
+        .map(String::trim)
+        .toList();
+    int batchSize = Integer.getInteger("load.batch-size", 100);
+    byte[] payload = new byte[Integer.getInteger("load.payload-bytes", 250)];
+    ThreadLocalRandom.current().nextBytes(payload);
+    Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+    Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 30));
+
+    System.out.printf("%-16s %10s %12s %14s%n", "mode", "batch", "msg/s", "avg batch ms");
+    for (String mode : modes) {
+      try (KafkaProducer<String, byte[]> producer = new KafkaProducer<>(producerConfig(bootstrapServers, mode))) {
+        boolean transactional = "transactional".equals(mode);
+        if (transactional) {
+          producer.initTransactions();
+        }
+        run(producer, transactional, topic, batchSize, payload, warmup);
+        long batches = run(producer, transactional, topic, batchSize, payload, duration);
+        System.out.printf("%-16s %10d %12.1f %14.2f%n", mode, batchSize,
+            batches * batchSize / (double) duration.toSeconds(), duration.toMillis() / (double) batches);
+      }
+    }
+  }
+
+  private static Map<String, Object> producerConfig(String bootstrapServers, String mode) {
+    Map<String, Object> config = new HashMap<>();
+    config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+    config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy");
+    config.put(ProducerConfig.ACKS_CONFIG, "all");
+    config.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+    config.put(ProducerConfig.RETRIES_CONFIG, 5);
+    switch (mode) {
+      case "at_least_once" -> config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false);
+      case "idempotent" -> config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+      case "transactional" -> {
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, "producer-mode-load-test-" + UUID.randomUUID());
+      }
+      default -> throw new IllegalArgumentException("Unknown delivery mode " + mode);
+    }
+    return config;
+  }
+
+  private static long run(KafkaProducer<String, byte[]> producer, boolean transactional, String topic, int batchSize,
+                          byte[] payload, Duration duration) throws Exception {
+    long deadline = System.nanoTime() + duration.toNanos();
+    long batches = 0;
+    Future<?>[] sendResults = new Future[batchSize];
+    while (System.nanoTime() < deadline) {
+      if (transactional) {
+        producer.beginTransaction();
+      }
+      for (int i = 0; i < batchSize; i++) {
+        sendResults[i] = producer.send(new ProducerRecord<>(topic, UUID.randomUUID().toString(), payload));
+      }
+      if (transactional) {
+        producer.commitTransaction();
+      }
+      for (Future<?> sendResult : sendResults) {
+        sendResult.get();
+      }
+      batches++;
+    }
+    return batches;
+  }
+}
@@ -0,0 +1,144 @@
+package com.food.ordering.system.benchmarks.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load test against a running order-service: each client sends its next request as soon as the
+ * previous one completes. Run it once with the service started with {@code spring.threads.virtual.enabled=false} and
+ * once with {@code true} (Java 21+) to compare platform and virtual threads, e.g.
+ * {@code java -Dload.label=virtual -cp target/benchmarks.jar com.food.ordering.system.benchmarks.load.OrderServiceLoadTest}.
+ * <p>
+ * Properties: {@code load.url} (required, e.g. {@code http://localhost:8181/orders/<tracking id>}), {@code load.body-file}
+ * (POSTs its JSON content instead of a GET),
+ * {@code load.clients} (default 1000,5000,10000), {@code load.warmup-seconds}, {@code load.duration-seconds} and
+ * {@code load.label}. Beyond ~8k clients raise {@code server.tomcat.max-connections} on the service.
+ */
+public class OrderServiceLoadTest {
+  private static final String CONTENT_TYPE = "application/json";
+  private static final String ACCEPT = "application/vnd.api.v1+json";
+
+  public static void main(String[] args) throws IOException {
+    String url = System.getProperty("load.url");
+    if (url == null) {
+      throw new IllegalArgumentException("load.url is required");
+    }
+    URI uri = URI.create(url);
+    String bodyFile = System.getProperty("load.body-file");
+    List<Integer> clientCounts = Arrays.stream(System.getProperty("load.clients", "1000,5000,10000").split(","))
+        .map(String::trim)
+        .map(Integer::valueOf)
+        .toList();
+    Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+    Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 30));
+    String label = System.getProperty("load.label", "order-service");
+
+    HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri)
+        .timeout(Duration.ofSeconds(60))
+        .header("Accept", ACCEPT);
+    HttpRequest request = bodyFile == null
+        ? requestBuilder.GET().build()
+        : requestBuilder.header("Content-Type", CONTENT_TYPE)
+        .POST(HttpRequest.BodyPublishers.ofString(Files.readString(Path.of(bodyFile))))
+        .build();
+
+    ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+    HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(10))
+        .executor(executor)
+        .build();
+
+    System.out.printf("%-16s %8s %12s %10s %10s %10s %10s%n", "label", "clients", "req/s", "p50 ms", "p99 ms",
+        "p99.9 ms", "errors");
+    try {
+      for (int clients : clientCounts) {
+        run(httpClient, request, clients, warmup);
+        LatencyStats stats = run(httpClient, request, clients, duration);
+        System.out.printf("%-16s %8d %12.1f %10d %10d %10d %10d%n", label, clients,
+            stats.count() / (double) duration.toSeconds(), stats.percentile(0.50), stats.percentile(0.99),
+            stats.percentile(0.999), stats.errors());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static LatencyStats run(HttpClient httpClient, HttpRequest request, int clients, Duration duration) {
+    LatencyStats stats = new LatencyStats();
+    long deadline = System.nanoTime() + duration.toNanos();
+    List<CompletableFuture<Void>> runningClients = new ArrayList<>(clients);
+    for (int i = 0; i < clients; i++) {
+      CompletableFuture<Void> done = new CompletableFuture<>();
+      sendNext(httpClient, request, deadline, stats, done);
+      runningClients.add(done);
+    }
+    CompletableFuture.allOf(runningClients.toArray(CompletableFuture[]::new)).join();
+    return stats;
+  }
+
+  private static void sendNext(HttpClient httpClient, HttpRequest request, long deadline, LatencyStats stats,
+                               CompletableFuture<Void> done) {
+    if (System.nanoTime() >= deadline) {
+      done.complete(null);
+      return;
+    }
+
+    long start = System.nanoTime();
+    httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .whenComplete((response, error) -> {
+          stats.record(System.nanoTime() - start, error == null && response.statusCode() < 500);
+          sendNext(httpClient, request, deadline, stats, done);
+        });
+  }
+
+  private static class LatencyStats {
+    private static final int MAX_LATENCY_MS = 60_000;
+
+    private final AtomicLongArray latencyMsBuckets = new AtomicLongArray(MAX_LATENCY_MS + 1);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    void record(long latencyNanos, boolean success) {
+      latencyMsBuckets.incrementAndGet((int) Math.min(Duration.ofNanos(latencyNanos).toMillis(), MAX_LATENCY_MS));
+      count.increment();
+      if (!success) {
+        errors.increment();
+      }
+    }
+
+    long count() {
+      return count.sum();
+    }
+
+    long errors() {
+      return errors.sum();
+    }
+
+    long percentile(double quantile) {
+      long rank = (long) Math.ceil(quantile * count.sum());
+      long seen = 0;
+      for (int latencyMs = 0; latencyMs <= MAX_LATENCY_MS; latencyMs++) {
+        seen += latencyMsBuckets.get(latencyMs);
+        if (seen >= rank && seen > 0) {
+          return latencyMs;
+        }
+      }
+      return MAX_LATENCY_MS;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.food.ordering.system.benchmarks.messaging;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2;
+import com.food.ordering.system.kafka.order.avro.model.v2.RestaurantApprovalRequestAvroModelV2;
+import com.food.ordering.system.kafka.order.avro.model.v2.Uuid;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes the saga request messages with the v1 (string UUID, decimal bytes price) and v2 (fixed(16)
+ * UUID, long minor-unit price) schemas. The encoded size of each message is printed during setup; the 5 byte
+ * schema registry header is the same for both versions and not included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvroSchemaVersionBenchmark {
+  @Param({"PaymentRequestV1", "PaymentRequestV2", "RestaurantApprovalRequestV1", "RestaurantApprovalRequestV2"})
+  private String message;
+
+  @Param({"10"})
+  private int productCount;
+
+  private SpecificRecordBase record;
+  private SpecificDatumWriter<SpecificRecordBase> writer;
+  private SpecificDatumReader<SpecificRecordBase> reader;
+  private ByteArrayOutputStream outputStream;
+  private BinaryEncoder encoder;
+  private BinaryDecoder decoder;
+  private byte[] encoded;
+
+  @Setup
+  public void setUp() throws IOException {
+    record = switch (message) {
+      case "PaymentRequestV1" -> paymentRequestV1();
+      case "PaymentRequestV2" -> paymentRequestV2();
+      case "RestaurantApprovalRequestV1" -> restaurantApprovalRequestV1(productCount);
+      case "RestaurantApprovalRequestV2" -> restaurantApprovalRequestV2(productCount);
+      default -> throw new IllegalArgumentException("Unknown message: " + message);
+    };
+    writer = new SpecificDatumWriter<>(record.getSchema());
+    reader = new SpecificDatumReader<>(record.getSchema());
+    outputStream = new ByteArrayOutputStream(1024);
+    encoded = serialize();
+    System.out.printf("%n%s encoded size: %d bytes%n", message, encoded.length);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    outputStream.reset();
+    encoder = EncoderFactory.get().binaryEncoder(outputStream, encoder);
+    writer.write(record, encoder);
+    encoder.flush();
+    return outputStream.toByteArray();
+  }
+
+  @Benchmark
+  public SpecificRecordBase deserialize() throws IOException {
+    decoder = DecoderFactory.get().binaryDecoder(encoded, decoder);
+    return reader.read(null, decoder);
+  }
+
+  private static PaymentRequestAvroModel paymentRequestV1() {
+    return PaymentRequestAvroModel.newBuilder()
+        .setId(UUID.randomUUID())
+        .setSagaId(UUID.randomUUID())
+        .setCustomerId(UUID.randomUUID())
+        .setOrderId(UUID.randomUUID())
+        .setPrice(new BigDecimal("123.45"))
+        .setCreatedAt(Instant.now())
+        .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+        .build();
+  }
+
+  private static PaymentRequestAvroModelV2 paymentRequestV2() {
+    return PaymentRequestAvroModelV2.newBuilder()
+        .setId(uuid(UUID.randomUUID()))
+        .setSagaId(uuid(UUID.randomUUID()))
+        .setCustomerId(uuid(UUID.randomUUID()))
+        .setOrderId(uuid(UUID.randomUUID()))
+        .setPriceCents(12_345L)
+        .setCreatedAt(Instant.now())
+        .setPaymentOrderStatus(com.food.ordering.system.kafka.order.avro.model.v2.PaymentOrderStatus.PENDING)
+        .build();
+  }
+
+  private static RestaurantApprovalRequestAvroModel restaurantApprovalRequestV1(int productCount) {
+    List<Product> products = new ArrayList<>(productCount);
+    for (int i = 0; i < productCount; i++) {
+      products.add(Product.newBuilder().setId(UUID.randomUUID().toString()).setQuantity(i + 1).build());
+    }
+    return RestaurantApprovalRequestAvroModel.newBuilder()
+        .setId(UUID.randomUUID())
+        .setSagaId(UUID.randomUUID())
+        .setRestaurantId(UUID.randomUUID())
+        .setOrderId(UUID.randomUUID())
+        .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+        .setProducts(products)
+        .setPrice(new BigDecimal("123.45"))
+        .setCreatedAt(Instant.now())
+        .build();
+  }
+
+  private static RestaurantApprovalRequestAvroModelV2 restaurantApprovalRequestV2(int productCount) {
+    List<com.food.ordering.system.kafka.order.avro.model.v2.Product> products = new ArrayList<>(productCount);
+    for (int i = 0; i < productCount; i++) {
+      products.add(com.food.ordering.system.kafka.order.avro.model.v2.Product.newBuilder()
+          .setId(uuid(UUID.randomUUID()))
+          .setQuantity(i + 1)
+          .build());
+    }
+    return RestaurantApprovalRequestAvroModelV2.newBuilder()
+        .setId(uuid(UUID.randomUUID()))
+        .setSagaId(uuid(UUID.randomUUID()))
+        .setRestaurantId(uuid(UUID.randomUUID()))
+        .setOrderId(uuid(UUID.randomUUID()))
+        .setRestaurantOrderStatus(com.food.ordering.system.kafka.order.avro.model.v2.RestaurantOrderStatus.PAID)
+        .setProducts(products)
+        .setPriceCents(12_345L)
+        .setCreatedAt(Instant.now())
+        .build();
+  }
+
+  private static Uuid uuid(UUID uuid) {
+    return new Uuid(ByteBuffer.allocate(16)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits())
+        .array());
+  }
+}
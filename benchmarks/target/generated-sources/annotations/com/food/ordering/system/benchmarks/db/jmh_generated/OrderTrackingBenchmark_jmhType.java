@@ -0,0 +1,4 @@
+package com.food.ordering.system.benchmarks.db.jmh_generated;
+public class OrderTrackingBenchmark_jmhType extends OrderTrackingBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.food.ordering.system.benchmarks.jmh_generated;
+public class IdGeneratorBenchmark_jmhType extends IdGeneratorBenchmark_jmhType_B3 {
+}
+
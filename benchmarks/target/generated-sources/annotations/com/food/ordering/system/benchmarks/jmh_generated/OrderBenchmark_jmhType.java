@@ -0,0 +1,4 @@
+package com.food.ordering.system.benchmarks.jmh_generated;
+public class OrderBenchmark_jmhType extends OrderBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.food.ordering.system.benchmarks.jmh_generated;
+public class OrderCreationInstrumentationBenchmark_jmhType extends OrderCreationInstrumentationBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.food.ordering.system.benchmarks.jmh_generated;
+public class OrderDomainServiceBenchmark_jmhType extends OrderDomainServiceBenchmark_jmhType_B3 {
+}
+
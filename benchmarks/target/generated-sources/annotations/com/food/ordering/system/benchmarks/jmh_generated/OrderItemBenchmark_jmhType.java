@@ -0,0 +1,4 @@
+package com.food.ordering.system.benchmarks.jmh_generated;
+public class OrderItemBenchmark_jmhType extends OrderItemBenchmark_jmhType_B3 {
+}
+
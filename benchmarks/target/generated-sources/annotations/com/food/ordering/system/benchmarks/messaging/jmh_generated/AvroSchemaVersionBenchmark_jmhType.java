@@ -0,0 +1,4 @@
+package com.food.ordering.system.benchmarks.messaging.jmh_generated;
+public class AvroSchemaVersionBenchmark_jmhType extends AvroSchemaVersionBenchmark_jmhType_B3 {
+}
+
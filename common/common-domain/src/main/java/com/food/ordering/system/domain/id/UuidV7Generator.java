@@ -0,0 +1,50 @@
+package com.food.ordering.system.domain.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered RFC 9562 version 7 UUIDs: a 48-bit unix millisecond timestamp followed by a 12-bit counter and
+ * 62 random bits. The timestamp and counter share one atomic long, so ids from one generator are strictly
+ * increasing without locking; when the counter runs out within a millisecond it carries into the timestamp.
+ */
+public class UuidV7Generator implements IdGenerator {
+  private static final int COUNTER_BITS = 12;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+  private final LongSupplier currentTimeMillis;
+  private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+  public UuidV7Generator() {
+    this(System::currentTimeMillis);
+  }
+
+  UuidV7Generator(LongSupplier currentTimeMillis) {
+    this.currentTimeMillis = currentTimeMillis;
+  }
+
+  @Override
+  public UUID generateId() {
+    long timestampAndCounter = nextTimestampAndCounter();
+    long mostSigBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+        | VERSION
+        | (timestampAndCounter & ((1L << COUNTER_BITS) - 1));
+    long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  private long nextTimestampAndCounter() {
+    long now = currentTimeMillis.getAsLong() << COUNTER_BITS;
+    while (true) {
+      long last = lastTimestampAndCounter.get();
+      long next = now > last ? now : last + 1;
+      if (lastTimestampAndCounter.compareAndSet(last, next)) {
+        return next;
+      }
+    }
+  }
+}
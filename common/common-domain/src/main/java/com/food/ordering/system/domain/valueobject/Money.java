@@ -1,39 +1,75 @@
 package com.food.ordering.system.domain.valueobject;
 
+import com.food.ordering.system.domain.exception.DomainException;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
 
 public class Money {
-  public static final Money ZERO = new Money(BigDecimal.ZERO);
-  private final BigDecimal amount;
-  
+  private static final int SCALE = 2;
+  private static final int CACHED_CENTS = 10_000;
+  private static final Money[] CACHE = new Money[CACHED_CENTS + 1];
+
+  static {
+    for (int cents = 0; cents <= CACHED_CENTS; cents++) {
+      CACHE[cents] = new Money(cents);
+    }
+  }
+
+  public static final Money ZERO = CACHE[0];
+
+  private final long cents;
+
   public Money(BigDecimal amount) {
-    this.amount = amount;
+    this.cents = toCents(amount);
+  }
+
+  private Money(long cents) {
+    this.cents = cents;
+  }
+
+  public static Money ofCents(long cents) {
+    return cents >= 0 && cents <= CACHED_CENTS ? CACHE[(int) cents] : new Money(cents);
   }
-  
+
+  public long getCents() {
+    return cents;
+  }
+
   public BigDecimal getAmount() {
-    return amount;
+    return BigDecimal.valueOf(cents, SCALE);
   }
-  
+
   public boolean isGreaterThanZero() {
-    return this.amount.compareTo(BigDecimal.ZERO) > 0;
+    return cents > 0;
   }
-  
+
   public boolean isGreaterThan(Money money) {
-    return this.amount.compareTo(money.amount) > 0;
+    return cents > money.cents;
   }
-  
+
   public Money add(Money money) {
-    return new Money(setScale(this.amount.add(money.amount)));
+    try {
+      return ofCents(Math.addExact(cents, money.cents));
+    } catch (ArithmeticException e) {
+      throw new DomainException("Money overflow adding " + getAmount() + " and " + money.getAmount(), e);
+    }
   }
-  
+
   public Money subtract(Money money) {
-    return new Money(setScale(this.amount.subtract(money.amount)));
+    try {
+      return ofCents(Math.subtractExact(cents, money.cents));
+    } catch (ArithmeticException e) {
+      throw new DomainException("Money overflow subtracting " + money.getAmount() + " from " + getAmount(), e);
+    }
   }
-  
-  public Money multiply(BigDecimal value) {
-    return new Money(setScale(this.amount.multiply(value)));
+
+  public Money multiply(int multiplier) {
+    try {
+      return ofCents(Math.multiplyExact(cents, multiplier));
+    } catch (ArithmeticException e) {
+      throw new DomainException("Money overflow multiplying " + getAmount() + " by " + multiplier, e);
+    }
   }
 
   @Override
@@ -41,15 +77,19 @@ public class Money {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     Money money = (Money) o;
-    return Objects.equals(amount, money.amount);
+    return cents == money.cents;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(amount);
+    return Long.hashCode(cents);
   }
-  
-  private BigDecimal setScale(BigDecimal value) {
-    return value.setScale(2, RoundingMode.HALF_EVEN);
+
+  private static long toCents(BigDecimal amount) {
+    try {
+      return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    } catch (ArithmeticException e) {
+      throw new DomainException("Money amount " + amount + " is out of range", e);
+    }
   }
 }
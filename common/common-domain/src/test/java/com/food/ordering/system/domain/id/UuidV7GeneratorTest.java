@@ -0,0 +1,84 @@
+package com.food.ordering.system.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7GeneratorTest {
+  private static final long TIMESTAMP = 1_700_000_000_000L;
+
+  @Test
+  public void testVersionVariantAndTimestamp() {
+    UUID id = new UuidV7Generator(() -> TIMESTAMP).generateId();
+
+    assertEquals(7, id.version());
+    assertEquals(2, id.variant());
+    assertEquals(TIMESTAMP, id.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  public void testIdsAreStrictlyIncreasingWithinAndAcrossMilliseconds() {
+    long[] now = {TIMESTAMP};
+    UuidV7Generator uuidV7Generator = new UuidV7Generator(() -> now[0]);
+
+    UUID previous = uuidV7Generator.generateId();
+    for (int i = 0; i < 10_000; i++) {
+      if (i % 1_000 == 0) {
+        now[0]++;
+      }
+      UUID next = uuidV7Generator.generateId();
+      assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), next.getMostSignificantBits()) < 0,
+          previous + " is not before " + next);
+      previous = next;
+    }
+  }
+
+  @Test
+  public void testClockGoingBackwardsKeepsOrder() {
+    long[] now = {TIMESTAMP};
+    UuidV7Generator uuidV7Generator = new UuidV7Generator(() -> now[0]);
+
+    UUID first = uuidV7Generator.generateId();
+    now[0] -= 1_000;
+    UUID second = uuidV7Generator.generateId();
+
+    assertTrue(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()) < 0);
+  }
+
+  @Test
+  public void testConcurrentIdsAreUnique() throws Exception {
+    UuidV7Generator uuidV7Generator = new UuidV7Generator();
+    Set<UUID> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 8; thread++) {
+        futures.add(executor.submit(() -> {
+          Set<UUID> threadIds = new HashSet<>();
+          for (int i = 0; i < 50_000; i++) {
+            threadIds.add(uuidV7Generator.generateId());
+          }
+          ids.addAll(threadIds);
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(400_000, ids.size());
+  }
+}
@@ -0,0 +1,72 @@
+package com.food.ordering.system.domain.valueobject;
+
+import com.food.ordering.system.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyTest {
+
+  @Test
+  public void testThreeDecimalAmountsAreRoundedHalfEven() {
+    assertEquals(1234, new Money(new BigDecimal("12.345")).getCents());
+    assertEquals(1236, new Money(new BigDecimal("12.355")).getCents());
+    assertEquals(1235, new Money(new BigDecimal("12.346")).getCents());
+    assertEquals(-1234, new Money(new BigDecimal("-12.345")).getCents());
+  }
+
+  @Test
+  public void testAmountRoundTrips() {
+    BigDecimal amount = new BigDecimal("50.30");
+
+    assertEquals(amount, new Money(amount).getAmount());
+    assertEquals(new BigDecimal("7.00"), new Money(new BigDecimal("7")).getAmount());
+    assertEquals(new BigDecimal("123456789.01"), Money.ofCents(12_345_678_901L).getAmount());
+  }
+
+  @Test
+  public void testNegativeAmounts() {
+    Money negative = new Money(new BigDecimal("-2.50"));
+
+    assertEquals(new BigDecimal("-2.50"), negative.getAmount());
+    assertFalse(negative.isGreaterThanZero());
+    assertTrue(Money.ZERO.isGreaterThan(negative));
+    assertEquals(Money.ofCents(-150), negative.add(Money.ofCents(100)));
+    assertEquals(Money.ofCents(-100), Money.ofCents(150).subtract(Money.ofCents(250)));
+    assertEquals(Money.ofCents(-750), negative.multiply(3));
+  }
+
+  @Test
+  public void testOverflowRaisesDomainException() {
+    Money max = Money.ofCents(Long.MAX_VALUE);
+    Money min = Money.ofCents(Long.MIN_VALUE);
+
+    assertThrows(DomainException.class, () -> max.add(Money.ofCents(1)));
+    assertThrows(DomainException.class, () -> min.subtract(Money.ofCents(1)));
+    assertThrows(DomainException.class, () -> max.multiply(2));
+    assertThrows(DomainException.class, () -> new Money(new BigDecimal("1E+20")));
+  }
+
+  @Test
+  public void testEqualsAcrossCachedAndUncachedInstances() {
+    Money cached = Money.ofCents(10_000);
+    Money constructed = new Money(new BigDecimal("100.00"));
+    Money uncached = Money.ofCents(10_001);
+
+    assertSame(cached, Money.ofCents(10_000));
+    assertNotSame(cached, constructed);
+    assertEquals(cached, constructed);
+    assertEquals(cached.hashCode(), constructed.hashCode());
+    assertNotSame(uncached, Money.ofCents(10_001));
+    assertEquals(uncached, Money.ofCents(10_001));
+    assertEquals(uncached, cached.add(Money.ofCents(1)));
+    assertSame(Money.ZERO, Money.ofCents(5).subtract(Money.ofCents(5)));
+  }
+}
@@ -1,7 +1,3 @@
-DROP SCHEMA IF EXISTS customer CASCADE;
-
-CREATE SCHEMA customer;
-
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
 CREATE TABLE customer.customers
@@ -13,8 +9,6 @@ CREATE TABLE customer.customers
     CONSTRAINT customers_pkey PRIMARY KEY (id)
 );
 
-DROP MATERIALIZED VIEW IF EXISTS customer.order_customer_m_view;
-
 CREATE MATERIALIZED VIEW customer.order_customer_m_view
 TABLESPACE pg_default
 AS
@@ -23,8 +17,6 @@ SELECT id, username, first_name, last_name FROM customer.customers
 
 REFRESH MATERIALIZED VIEW customer.order_customer_m_view;
 
-DROP FUNCTION IF EXISTS customer.refresh_order_customer_m_view;
-
 CREATE OR REPLACE FUNCTION customer.refresh_order_customer_m_view()
 RETURNS TRIGGER
 AS '
@@ -34,8 +26,6 @@ AS '
     END;
 ' LANGUAGE plpgsql;
 
-DROP TRIGGER IF EXISTS refresh_order_customer_m_view ON customer.customers;
-
 CREATE TRIGGER refresh_order_customer_m_view
     AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
                     ON customer.customers
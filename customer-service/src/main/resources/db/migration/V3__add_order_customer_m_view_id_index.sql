@@ -0,0 +1,2 @@
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS order_customer_m_view_id_idx
+    ON customer.order_customer_m_view (id);
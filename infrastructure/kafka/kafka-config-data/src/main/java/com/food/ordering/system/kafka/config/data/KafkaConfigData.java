@@ -11,6 +11,8 @@ public class KafkaConfigData {
     private String bootstrapServers;
     private String schemaRegistryUrlKey;
     private String schemaRegistryUrl;
+    private String valueSubjectNameStrategyKey;
+    private String valueSubjectNameStrategy;
     private Integer numOfPartitions;
     private Short replicationFactor;
 }
@@ -5,6 +5,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "kafka-consumer-config")
@@ -12,11 +14,27 @@ public class KafkaConsumerConfigData {
     private String keyDeserializer;
     private String valueDeserializer;
     private String autoOffsetReset;
+    private String isolationLevel;
     private String specificAvroReaderKey;
     private String specificAvroReader;
     private Boolean batchListener;
     private Boolean autoStartup;
     private Integer concurrencyLevel;
+    private Boolean keyOrderedProcessingEnabled;
+    private Integer keyOrderedLanesPerCore;
+    private Integer keyOrderedMaxLanes;
+    private Boolean backpressureEnabled;
+    private Long backpressureCheckIntervalMs;
+    private Long backpressureMinPauseMs;
+    private Long backpressureMaxPauseMs;
+    private Long backpressurePauseBatchLatencyMs;
+    private Integer backpressurePausePendingConnections;
+    private Integer backpressureResumePendingConnections;
+    private Long backpressureResumeProbeLatencyMs;
+    private String retryTopicSuffix;
+    private List<Long> retryTopicDelaysMs;
+    private String deadLetterTopicSuffix;
+    private String deadLetterReplayGroupId;
     private Integer sessionTimeoutMs;
     private Integer heartbeatIntervalMs;
     private Integer maxPollIntervalMs;
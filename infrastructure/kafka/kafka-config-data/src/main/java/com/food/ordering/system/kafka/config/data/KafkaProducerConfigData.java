@@ -17,4 +17,7 @@ public class KafkaProducerConfigData {
     private Integer lingerMs;
     private Integer requestTimeoutMs;
     private Integer retryCount;
+    private Long sendLogSampleInterval;
+    private ProducerDeliveryMode deliveryMode;
+    private String transactionalIdPrefix;
 }
\ No newline at end of file
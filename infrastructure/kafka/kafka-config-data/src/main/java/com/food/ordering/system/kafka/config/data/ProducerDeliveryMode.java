@@ -0,0 +1,5 @@
+package com.food.ordering.system.kafka.config.data;
+
+public enum ProducerDeliveryMode {
+  AT_LEAST_ONCE, IDEMPOTENT, TRANSACTIONAL
+}
@@ -0,0 +1,235 @@
+package com.food.ordering.system.kafka.consumer.backpressure;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Pauses all listener containers when batch processing gets slow or threads queue up for database connections, and
+ * resumes them once the database has recovered. A paused container keeps polling without fetching records, so it
+ * stays in the group instead of exceeding max.poll.interval.ms and triggering a rebalance.
+ * <p>
+ * Paused listeners release their connections, so an empty pool queue says nothing about the database. Resuming
+ * therefore also requires a probe, acquiring a connection and validating it with a round trip, to be faster than
+ * backpressure-resume-probe-latency-ms. A pause that follows the previous resume within backpressure-max-pause-ms
+ * doubles the pause duration, up to backpressure-max-pause-ms, so a database that is still struggling is not hit
+ * with a full backlog every few seconds.
+ */
+@Slf4j
+@Component
+public class ConsumerBackpressureController {
+  private static final String PENDING_CONNECTIONS_GAUGE = "hikaricp.connections.pending";
+  private static final double LATENCY_SMOOTHING = 0.3;
+  private static final int PROBE_TIMEOUT_SECONDS = 5;
+
+  public enum PauseReason {
+    BATCH_LATENCY, DB_POOL_SATURATION
+  }
+
+  private final KafkaConsumerConfigData kafkaConsumerConfigData;
+  private final MeterRegistry meterRegistry;
+  private final Supplier<Collection<? extends MessageListenerContainer>> listenerContainers;
+  private final LongSupplier resumeProbe;
+  private final Timer batchProcessingTimer;
+  private final Map<PauseReason, Counter> pauseCounters = new EnumMap<>(PauseReason.class);
+  private final ThreadLocal<Long> batchStartNanos = new ThreadLocal<>();
+  private final ScheduledExecutorService executor;
+
+  private volatile double batchLatencyMs;
+  private volatile boolean batchCompletedSinceResume;
+  private volatile PauseReason pauseReason;
+  private volatile long pausedAtNanos;
+  private volatile long resumedAtNanos;
+  private volatile int consecutivePauses;
+
+  public ConsumerBackpressureController(KafkaConsumerConfigData kafkaConsumerConfigData,
+                                        MeterRegistry meterRegistry,
+                                        KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+                                        DataSource dataSource) {
+    this(kafkaConsumerConfigData, meterRegistry, kafkaListenerEndpointRegistry::getListenerContainers,
+        () -> probeDatabase(dataSource));
+  }
+
+  ConsumerBackpressureController(KafkaConsumerConfigData kafkaConsumerConfigData,
+                                 MeterRegistry meterRegistry,
+                                 Supplier<Collection<? extends MessageListenerContainer>> listenerContainers,
+                                 LongSupplier resumeProbe) {
+    this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+    this.meterRegistry = meterRegistry;
+    this.listenerContainers = listenerContainers;
+    this.resumeProbe = resumeProbe;
+    this.batchProcessingTimer = Timer.builder("kafka.consumer.batch.processing").register(meterRegistry);
+    Gauge.builder("kafka.consumer.batch.latency.smoothed", () -> batchLatencyMs)
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+    for (PauseReason reason : PauseReason.values()) {
+      String tag = reason.name().toLowerCase();
+      pauseCounters.put(reason, Counter.builder("kafka.consumer.backpressure.pauses")
+          .tag("reason", tag)
+          .register(meterRegistry));
+      Gauge.builder("kafka.consumer.backpressure.paused", () -> pauseReason == reason ? 1 : 0)
+          .tag("reason", tag)
+          .register(meterRegistry);
+    }
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "kafka-consumer-backpressure");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!Boolean.TRUE.equals(kafkaConsumerConfigData.getBackpressureEnabled())) {
+      log.info("Kafka consumer backpressure is disabled");
+      return;
+    }
+    executor.scheduleWithFixedDelay(this::evaluate, kafkaConsumerConfigData.getBackpressureCheckIntervalMs(),
+        kafkaConsumerConfigData.getBackpressureCheckIntervalMs(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  public <K, V> BatchInterceptor<K, V> batchInterceptor() {
+    return new BatchInterceptor<>() {
+      @Override
+      public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        batchStartNanos.set(System.nanoTime());
+        return records;
+      }
+
+      @Override
+      public void success(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        batchCompleted();
+      }
+
+      @Override
+      public void failure(ConsumerRecords<K, V> records, Exception exception, Consumer<K, V> consumer) {
+        batchCompleted();
+      }
+    };
+  }
+
+  public PauseReason getPauseReason() {
+    return pauseReason;
+  }
+
+  void batchCompleted(long elapsedNanos) {
+    batchProcessingTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    double elapsedMs = elapsedNanos / 1_000_000.0;
+    batchLatencyMs = batchLatencyMs == 0 ? elapsedMs
+        : LATENCY_SMOOTHING * elapsedMs + (1 - LATENCY_SMOOTHING) * batchLatencyMs;
+    batchCompletedSinceResume = true;
+  }
+
+  long pauseDurationMs() {
+    long maxPauseMs = kafkaConsumerConfigData.getBackpressureMaxPauseMs();
+    long pauseMs = kafkaConsumerConfigData.getBackpressureMinPauseMs();
+    for (int i = 1; i < consecutivePauses && pauseMs < maxPauseMs; i++) {
+      pauseMs *= 2;
+    }
+    return Math.min(pauseMs, maxPauseMs);
+  }
+
+  void evaluate() {
+    try {
+      double pendingConnections = pendingConnections();
+      if (pauseReason == null) {
+        if (pendingConnections >= kafkaConsumerConfigData.getBackpressurePausePendingConnections()) {
+          pause(PauseReason.DB_POOL_SATURATION, "{} threads waiting for a database connection", pendingConnections);
+        } else if (batchCompletedSinceResume
+            && batchLatencyMs >= kafkaConsumerConfigData.getBackpressurePauseBatchLatencyMs()) {
+          pause(PauseReason.BATCH_LATENCY, "smoothed batch processing time is {} ms", batchLatencyMs);
+        }
+      } else if (System.nanoTime() - pausedAtNanos >= TimeUnit.MILLISECONDS.toNanos(pauseDurationMs())
+          && pendingConnections <= kafkaConsumerConfigData.getBackpressureResumePendingConnections()) {
+        long probeLatencyMs = resumeProbe.getAsLong();
+        if (probeLatencyMs <= kafkaConsumerConfigData.getBackpressureResumeProbeLatencyMs()) {
+          resume(probeLatencyMs);
+        } else {
+          log.debug("Kafka listener containers stay paused, database probe took {} ms", probeLatencyMs);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.error("Error while evaluating kafka consumer backpressure", e);
+    }
+  }
+
+  private void batchCompleted() {
+    Long startNanos = batchStartNanos.get();
+    if (startNanos != null) {
+      batchStartNanos.remove();
+      batchCompleted(System.nanoTime() - startNanos);
+    }
+  }
+
+  private void pause(PauseReason reason, String cause, double value) {
+    long now = System.nanoTime();
+    boolean repeated = consecutivePauses > 0
+        && now - resumedAtNanos < TimeUnit.MILLISECONDS.toNanos(kafkaConsumerConfigData.getBackpressureMaxPauseMs());
+    consecutivePauses = repeated ? consecutivePauses + 1 : 1;
+    log.warn("Pausing kafka listener containers for at least " + pauseDurationMs() + " ms: " + cause, value);
+    pauseReason = reason;
+    pausedAtNanos = now;
+    pauseCounters.get(reason).increment();
+    listenerContainers.get().stream()
+        .filter(MessageListenerContainer::isRunning)
+        .forEach(MessageListenerContainer::pause);
+  }
+
+  private void resume(long probeLatencyMs) {
+    log.info("Resuming kafka listener containers paused for {} after {} ms, database probe took {} ms",
+        pauseReason, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pausedAtNanos), probeLatencyMs);
+    pauseReason = null;
+    resumedAtNanos = System.nanoTime();
+    batchCompletedSinceResume = false;
+    listenerContainers.get().stream()
+        .filter(MessageListenerContainer::isPauseRequested)
+        .forEach(MessageListenerContainer::resume);
+  }
+
+  private double pendingConnections() {
+    return meterRegistry.find(PENDING_CONNECTIONS_GAUGE).gauges().stream()
+        .mapToDouble(Gauge::value)
+        .sum();
+  }
+
+  private static long probeDatabase(DataSource dataSource) {
+    long startNanos = System.nanoTime();
+    try (Connection connection = dataSource.getConnection()) {
+      if (!connection.isValid(PROBE_TIMEOUT_SECONDS)) {
+        return Long.MAX_VALUE;
+      }
+    } catch (SQLException e) {
+      log.warn("Database probe failed: {}", e.getMessage());
+      return Long.MAX_VALUE;
+    }
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+}
@@ -2,15 +2,21 @@ package com.food.ordering.system.kafka.consumer.config;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.backpressure.ConsumerBackpressureController;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 
 import java.io.Serializable;
 import java.util.HashMap;
@@ -21,10 +27,20 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
 
   private final KafkaConfigData kafkaConfigData;
   private final KafkaConsumerConfigData kafkaConsumerConfigData;
+  private final ConsumerBackpressureController consumerBackpressureController;
+  private final CommonErrorHandler kafkaRetryErrorHandler;
+  private final Environment environment;
 
-  public KafkaConsumerConfig(KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData) {
+  public KafkaConsumerConfig(KafkaConfigData kafkaConfigData,
+                             KafkaConsumerConfigData kafkaConsumerConfigData,
+                             ConsumerBackpressureController consumerBackpressureController,
+                             CommonErrorHandler kafkaRetryErrorHandler,
+                             Environment environment) {
     this.kafkaConfigData = kafkaConfigData;
     this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+    this.consumerBackpressureController = consumerBackpressureController;
+    this.kafkaRetryErrorHandler = kafkaRetryErrorHandler;
+    this.environment = environment;
   }
 
   @Bean
@@ -32,9 +48,12 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
     Map<String, Object> config = new HashMap<>();
     config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
     config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getKeyDeserializer());
-    config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getValueDeserializer());
+    config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+    config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, kafkaConsumerConfigData.getValueDeserializer());
     config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, kafkaConsumerConfigData.getAutoOffsetReset());
+    config.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, kafkaConsumerConfigData.getIsolationLevel());
     config.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
+    config.put(kafkaConfigData.getValueSubjectNameStrategyKey(), kafkaConfigData.getValueSubjectNameStrategy());
     config.put(kafkaConsumerConfigData.getSpecificAvroReaderKey(), kafkaConsumerConfigData.getSpecificAvroReader());
     config.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, kafkaConsumerConfigData.getSessionTimeoutMs());
     config.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, kafkaConsumerConfigData.getHeartbeatIntervalMs());
@@ -53,12 +72,29 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
 
   @Bean
   public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<K, V>> kafkaListenerContainerFactory() {
+    ConcurrentKafkaListenerContainerFactory<K, V> factory = containerFactory();
+    factory.setBatchInterceptor(consumerBackpressureController.batchInterceptor());
+    return factory;
+  }
+
+  @Bean
+  public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<K, V>> kafkaRetryListenerContainerFactory() {
+    return containerFactory();
+  }
+
+  private ConcurrentKafkaListenerContainerFactory<K, V> containerFactory() {
     ConcurrentKafkaListenerContainerFactory<K, V> factory = new ConcurrentKafkaListenerContainerFactory<>();
     factory.setConsumerFactory(consumerFactory());
     factory.setBatchListener(kafkaConsumerConfigData.getBatchListener());
     factory.setConcurrency(kafkaConsumerConfigData.getConcurrencyLevel());
     factory.setAutoStartup(kafkaConsumerConfigData.getAutoStartup());
     factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
+    factory.setCommonErrorHandler(kafkaRetryErrorHandler);
+    if (Threading.VIRTUAL.isActive(environment)) {
+      SimpleAsyncTaskExecutor listenerTaskExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+      listenerTaskExecutor.setVirtualThreads(true);
+      factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+    }
     return factory;
   }
 }
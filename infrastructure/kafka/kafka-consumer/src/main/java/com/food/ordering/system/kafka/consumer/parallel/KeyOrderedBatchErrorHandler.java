@@ -0,0 +1,172 @@
+package com.food.ordering.system.kafka.consumer.parallel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ConsumerAwareRecordRecoverer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.ListenerUtils;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handles a {@link KeyOrderedBatchFailedException} partition by partition. Each partition is committed up to its own
+ * contiguous prefix of completed messages; a failed message in that prefix is handed to the recoverer and counts as
+ * completed once it is recovered. The partition is then sought back to its first message that was not processed, so
+ * messages completed by other lanes or on other partitions are not redelivered. A partition whose first unprocessed
+ * message was deferred is also paused until that message is due, so it is not fetched again in the meantime. Every
+ * other failure goes to the delegate.
+ */
+@Slf4j
+public class KeyOrderedBatchErrorHandler implements CommonErrorHandler {
+  private final CommonErrorHandler delegate;
+  private final ConsumerAwareRecordRecoverer recoverer;
+  private final ScheduledExecutorService resumeExecutor;
+
+  public KeyOrderedBatchErrorHandler(CommonErrorHandler delegate, ConsumerAwareRecordRecoverer recoverer) {
+    this.delegate = delegate;
+    this.recoverer = recoverer;
+    this.resumeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "kafka-partition-resume");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public void shutdown() {
+    resumeExecutor.shutdownNow();
+  }
+
+  @Override
+  public boolean seeksAfterHandling() {
+    return true;
+  }
+
+  @Override
+  public void handleBatch(Exception thrownException, ConsumerRecords<?, ?> data, Consumer<?, ?> consumer,
+                          MessageListenerContainer container, Runnable invokeListener) {
+    KeyOrderedBatchFailedException failure = keyOrderedBatchFailure(thrownException);
+    if (failure == null) {
+      delegate.handleBatch(thrownException, data, consumer, container, invokeListener);
+      return;
+    }
+
+    Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+    Map<TopicPartition, Long> seeks = new HashMap<>();
+    Map<TopicPartition, Long> pauses = new HashMap<>();
+    int index = 0;
+    for (ConsumerRecord<?, ?> record : data) {
+      int batchIndex = index++;
+      TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+      if (seeks.containsKey(topicPartition)) {
+        continue;
+      }
+      if (failure.isCompleted(batchIndex) || recovered(record, consumer, failure.getFailure(batchIndex))) {
+        offsets.put(topicPartition, ListenerUtils.createOffsetAndMetadata(container, record.offset() + 1));
+      } else {
+        seeks.put(topicPartition, record.offset());
+        Long deferredUntil = failure.getDeferredUntil(batchIndex);
+        if (deferredUntil != null) {
+          pauses.put(topicPartition, deferredUntil);
+        }
+      }
+    }
+
+    if (!offsets.isEmpty()) {
+      commit(offsets, consumer, container.getContainerProperties());
+    }
+    seeks.forEach(consumer::seek);
+    pauses.forEach((topicPartition, deferredUntil) -> pauseUntil(container, topicPartition, deferredUntil));
+    if (!seeks.isEmpty()) {
+      log.debug("Redelivering partitions {} from offsets {}", seeks.keySet(), seeks.values());
+      throw new KafkaException("Seek to current after exception",
+          failure.hasFailures() ? KafkaException.Level.ERROR : KafkaException.Level.DEBUG, thrownException);
+    }
+  }
+
+  @Override
+  public boolean handleOne(Exception thrownException, ConsumerRecord<?, ?> record, Consumer<?, ?> consumer,
+                           MessageListenerContainer container) {
+    return delegate.handleOne(thrownException, record, consumer, container);
+  }
+
+  @Override
+  public void handleRemaining(Exception thrownException, List<ConsumerRecord<?, ?>> records, Consumer<?, ?> consumer,
+                              MessageListenerContainer container) {
+    delegate.handleRemaining(thrownException, records, consumer, container);
+  }
+
+  @Override
+  public void handleOtherException(Exception thrownException, Consumer<?, ?> consumer,
+                                   MessageListenerContainer container, boolean batchListener) {
+    delegate.handleOtherException(thrownException, consumer, container, batchListener);
+  }
+
+  @Override
+  public boolean isAckAfterHandle() {
+    return delegate.isAckAfterHandle();
+  }
+
+  @Override
+  public void clearThreadState() {
+    delegate.clearThreadState();
+  }
+
+  @Override
+  public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions,
+                                   Runnable publishPause) {
+    delegate.onPartitionsAssigned(consumer, partitions, publishPause);
+  }
+
+  private void pauseUntil(MessageListenerContainer container, TopicPartition topicPartition, long deferredUntil) {
+    container.pausePartition(topicPartition);
+    resumeExecutor.schedule(() -> container.resumePartition(topicPartition),
+        Math.max(0, deferredUntil - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+  }
+
+  private boolean recovered(ConsumerRecord<?, ?> record, Consumer<?, ?> consumer, RuntimeException failure) {
+    if (failure == null) {
+      return false;
+    }
+    try {
+      recoverer.accept(record, consumer, failure);
+      return true;
+    } catch (RuntimeException e) {
+      log.error("Recovering record from {}-{}@{} failed, it will be redelivered", record.topic(), record.partition(),
+          record.offset(), e);
+      return false;
+    }
+  }
+
+  private static void commit(Map<TopicPartition, OffsetAndMetadata> offsets, Consumer<?, ?> consumer,
+                             ContainerProperties containerProperties) {
+    if (!containerProperties.isSyncCommits()) {
+      consumer.commitAsync(offsets, containerProperties.getCommitCallback());
+    } else if (containerProperties.getSyncCommitTimeout() != null) {
+      consumer.commitSync(offsets, containerProperties.getSyncCommitTimeout());
+    } else {
+      consumer.commitSync(offsets);
+    }
+  }
+
+  private static KeyOrderedBatchFailedException keyOrderedBatchFailure(Throwable thrownException) {
+    for (Throwable cause = thrownException; cause != null; cause = cause.getCause()) {
+      if (cause instanceof KeyOrderedBatchFailedException keyOrderedBatchFailure) {
+        return keyOrderedBatchFailure;
+      }
+    }
+    return null;
+  }
+}
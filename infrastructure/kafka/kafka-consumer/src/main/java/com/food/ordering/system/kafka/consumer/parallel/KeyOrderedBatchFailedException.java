@@ -0,0 +1,49 @@
+package com.food.ordering.system.kafka.consumer.parallel;
+
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Thrown by {@link KeyOrderedBatchProcessor} when messages of a batch failed or were deferred. Its index is the
+ * earliest such message, as for any {@link BatchListenerFailedException}, and it also records which batch indexes
+ * completed, failed or were deferred so the error handler can treat every partition on its own.
+ */
+public class KeyOrderedBatchFailedException extends BatchListenerFailedException {
+  private final transient boolean[] completed;
+  private final transient Map<Integer, RuntimeException> failures;
+  private final transient Map<Integer, Long> deferredUntil;
+
+  KeyOrderedBatchFailedException(boolean[] completed, Map<Integer, RuntimeException> failures,
+                                 Map<Integer, Long> deferredUntil) {
+    super("Processing failed or was deferred at batch index " + earliestIndex(failures, deferredUntil),
+        failures.isEmpty() ? null : failures.values().iterator().next(), earliestIndex(failures, deferredUntil));
+    this.completed = completed;
+    this.failures = failures;
+    this.deferredUntil = deferredUntil;
+  }
+
+  public boolean isCompleted(int index) {
+    return completed[index];
+  }
+
+  public RuntimeException getFailure(int index) {
+    return failures.get(index);
+  }
+
+  public Long getDeferredUntil(int index) {
+    return deferredUntil.get(index);
+  }
+
+  public boolean hasFailures() {
+    return !failures.isEmpty();
+  }
+
+  private static int earliestIndex(Map<Integer, RuntimeException> failures, Map<Integer, Long> deferredUntil) {
+    return IntStream.concat(failures.keySet().stream().mapToInt(Integer::intValue),
+            deferredUntil.keySet().stream().mapToInt(Integer::intValue))
+        .min()
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,180 @@
+package com.food.ordering.system.kafka.consumer.parallel;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.KafkaNull;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Splits a poll batch into lanes by record key and processes the lanes concurrently. A key always maps to the same
+ * lane and a lane keeps the batch order, so records of one order stay ordered while different orders run in parallel.
+ * <p>
+ * A lane that fails as a whole is retried message by message up to its first failing message; the rest of that lane
+ * is not attempted. If any message failed or could not be deserialized a {@link KeyOrderedBatchFailedException} is
+ * thrown that records which messages completed and which failed, so {@link KeyOrderedBatchErrorHandler} can commit
+ * every partition up to its own completed prefix and only redeliver what was not processed. Messages the caller
+ * defers are not processed at all and are redelivered once they are due.
+ * <p>
+ * Every lane runs its own transactions and holds a database connection while one is open, so the lane count is
+ * capped by {@code key-ordered-max-lanes}, which has to fit in the connection pool next to the listener threads
+ * themselves.
+ */
+@Slf4j
+@Component
+public class KeyOrderedBatchProcessor {
+  private final boolean enabled;
+  private final int lanes;
+  private final AsyncTaskExecutor laneExecutor;
+
+  public KeyOrderedBatchProcessor(KafkaConsumerConfigData kafkaConsumerConfigData, Environment environment) {
+    this.enabled = Boolean.TRUE.equals(kafkaConsumerConfigData.getKeyOrderedProcessingEnabled());
+    int lanesPerCore = kafkaConsumerConfigData.getKeyOrderedLanesPerCore();
+    this.lanes = Math.min(Runtime.getRuntime().availableProcessors() * lanesPerCore,
+        kafkaConsumerConfigData.getKeyOrderedMaxLanes());
+    this.laneExecutor = laneExecutor(lanes, Threading.VIRTUAL.isActive(environment));
+    log.info("Key ordered processing {} with {} lanes", enabled ? "enabled" : "disabled", lanes);
+  }
+
+  KeyOrderedBatchProcessor(int lanes, AsyncTaskExecutor laneExecutor) {
+    this.enabled = true;
+    this.lanes = lanes;
+    this.laneExecutor = laneExecutor;
+  }
+
+  public <T> void process(List<T> messages, List<String> keys, Consumer<List<T>> laneHandler) {
+    process(messages, keys, Map.of(), laneHandler);
+  }
+
+  public <T> void process(List<T> messages, List<String> keys, Map<Integer, Long> deferredUntil,
+                          Consumer<List<T>> laneHandler) {
+    boolean[] completed = new boolean[messages.size()];
+    Map<Integer, RuntimeException> failures = new TreeMap<>();
+    for (int i = 0; i < messages.size(); i++) {
+      if (isUndeserializable(messages.get(i))) {
+        failures.put(i, new IllegalStateException("Message at batch index " + i + " could not be deserialized"));
+      }
+    }
+
+    List<List<Integer>> laneIndexes = new ArrayList<>(lanes);
+    int laneCount = enabled ? lanes : 1;
+    for (int lane = 0; lane < laneCount; lane++) {
+      laneIndexes.add(new ArrayList<>());
+    }
+    for (int i = 0; i < messages.size(); i++) {
+      if (!isUndeserializable(messages.get(i)) && !deferredUntil.containsKey(i)) {
+        laneIndexes.get(laneCount == 1 ? 0 : laneOf(keys.get(i))).add(i);
+      }
+    }
+    List<List<Integer>> activeLanes = laneIndexes.stream()
+        .filter(indexes -> !indexes.isEmpty())
+        .toList();
+
+    if (activeLanes.size() == 1) {
+      try {
+        runLane(messages, activeLanes.get(0), laneHandler, completed);
+      } catch (LaneFailedException e) {
+        failures.put(e.index, (RuntimeException) e.getCause());
+      }
+    } else {
+      List<CompletableFuture<Void>> laneResults = activeLanes.stream()
+          .map(indexes -> laneExecutor.submitCompletable(() -> runLane(messages, indexes, laneHandler, completed)))
+          .toList();
+      for (CompletableFuture<Void> laneResult : laneResults) {
+        try {
+          laneResult.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new BatchListenerFailedException("Interrupted while processing key ordered lanes", e, 0);
+        } catch (ExecutionException e) {
+          if (!(e.getCause() instanceof LaneFailedException laneFailure)) {
+            throw new BatchListenerFailedException("Key ordered lane failed", e.getCause(), 0);
+          }
+          failures.put(laneFailure.index, (RuntimeException) laneFailure.getCause());
+        }
+      }
+    }
+
+    if (!failures.isEmpty() || !deferredUntil.isEmpty()) {
+      throw new KeyOrderedBatchFailedException(completed, failures, deferredUntil);
+    }
+    log.debug("Processed {} messages in {} key ordered lanes", messages.size(), activeLanes.size());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (laneExecutor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+      threadPoolTaskExecutor.shutdown();
+    }
+  }
+
+  private <T> void runLane(List<T> messages, List<Integer> indexes, Consumer<List<T>> laneHandler,
+                           boolean[] completed) {
+    try {
+      laneHandler.accept(indexes.stream()
+          .map(messages::get)
+          .toList());
+      indexes.forEach(index -> completed[index] = true);
+    } catch (RuntimeException e) {
+      if (indexes.size() == 1) {
+        throw new LaneFailedException(indexes.get(0), e);
+      }
+      log.warn("Lane with {} messages starting at batch index {} failed, retrying message by message: {}",
+          indexes.size(), indexes.get(0), e.getMessage());
+      for (int index : indexes) {
+        try {
+          laneHandler.accept(List.of(messages.get(index)));
+          completed[index] = true;
+        } catch (RuntimeException messageFailure) {
+          throw new LaneFailedException(index, messageFailure);
+        }
+      }
+    }
+  }
+
+  private static boolean isUndeserializable(Object message) {
+    return message == null || message instanceof KafkaNull;
+  }
+
+  private int laneOf(String key) {
+    return key == null ? 0 : Math.floorMod(key.hashCode(), lanes);
+  }
+
+  private static AsyncTaskExecutor laneExecutor(int lanes, boolean virtualThreads) {
+    if (virtualThreads) {
+      SimpleAsyncTaskExecutor laneExecutor = new SimpleAsyncTaskExecutor("kafka-lane-");
+      laneExecutor.setVirtualThreads(true);
+      return laneExecutor;
+    }
+    ThreadPoolTaskExecutor laneExecutor = new ThreadPoolTaskExecutor();
+    laneExecutor.setThreadNamePrefix("kafka-lane-");
+    laneExecutor.setCorePoolSize(lanes);
+    laneExecutor.setMaxPoolSize(lanes);
+    laneExecutor.setDaemon(true);
+    laneExecutor.initialize();
+    return laneExecutor;
+  }
+
+  private static class LaneFailedException extends RuntimeException {
+    private final int index;
+
+    LaneFailedException(int index, RuntimeException cause) {
+      super(cause);
+      this.index = index;
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "deadletters")
+public class DeadLetterReplayEndpoint {
+  private static final int DEFAULT_MAX_RECORDS = 1_000;
+  private static final int DEFAULT_RECORDS_PER_SECOND = 50;
+
+  private final DeadLetterReplayer deadLetterReplayer;
+
+  public DeadLetterReplayEndpoint(DeadLetterReplayer deadLetterReplayer) {
+    this.deadLetterReplayer = deadLetterReplayer;
+  }
+
+  @WriteOperation
+  public Map<String, Object> replay(@Selector String topic,
+                                    @Nullable Integer maxRecords,
+                                    @Nullable Integer recordsPerSecond) {
+    try {
+      int replayed = deadLetterReplayer.replay(topic,
+          maxRecords == null ? DEFAULT_MAX_RECORDS : maxRecords,
+          recordsPerSecond == null ? DEFAULT_RECORDS_PER_SECOND : recordsPerSecond);
+      return Map.of("topic", topic, "replayed", replayed);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,210 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Re-injects records from a dead letter topic into the topic they came from at a fixed rate, byte for byte and
+ * without the exception headers added on the way to the dead letter topic. The replay position is committed under
+ * {@code dead-letter-replay-group-id}, so each record is replayed once.
+ * <p>
+ * The partitions are assigned directly rather than subscribed, so a replay does not wait for a group rebalance, and
+ * it stops at the end offsets captured when it started, so records dead-lettered meanwhile wait for the next replay.
+ */
+@Slf4j
+@Component
+public class DeadLetterReplayer {
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+  private static final Duration STALL_TIMEOUT = Duration.ofSeconds(30);
+
+  private final KafkaConsumerConfigData kafkaConsumerConfigData;
+  private final KafkaRetryTopics kafkaRetryTopics;
+  private final MeterRegistry meterRegistry;
+  private final Function<Map<String, Object>, Consumer<byte[], byte[]>> consumers;
+  private final Supplier<Producer<byte[], byte[]>> producers;
+
+  public DeadLetterReplayer(ConsumerFactory<?, ?> consumerFactory,
+                            ProducerFactory<?, ?> producerFactory,
+                            KafkaConsumerConfigData kafkaConsumerConfigData,
+                            KafkaRetryTopics kafkaRetryTopics,
+                            MeterRegistry meterRegistry) {
+    this(kafkaConsumerConfigData, kafkaRetryTopics, meterRegistry,
+        config -> new KafkaConsumer<>(consumerConfig(consumerFactory, config)),
+        () -> new KafkaProducer<>(producerConfig(producerFactory)));
+  }
+
+  DeadLetterReplayer(KafkaConsumerConfigData kafkaConsumerConfigData,
+                     KafkaRetryTopics kafkaRetryTopics,
+                     MeterRegistry meterRegistry,
+                     Function<Map<String, Object>, Consumer<byte[], byte[]>> consumers,
+                     Supplier<Producer<byte[], byte[]>> producers) {
+    this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+    this.kafkaRetryTopics = kafkaRetryTopics;
+    this.meterRegistry = meterRegistry;
+    this.consumers = consumers;
+    this.producers = producers;
+  }
+
+  public synchronized int replay(String deadLetterTopic, int maxRecords, int recordsPerSecond) {
+    if (!kafkaRetryTopics.isDeadLetterTopic(deadLetterTopic)) {
+      throw new IllegalArgumentException(deadLetterTopic + " is not a dead letter topic");
+    }
+    if (maxRecords <= 0 || recordsPerSecond <= 0) {
+      throw new IllegalArgumentException("maxRecords and recordsPerSecond must be positive, got " + maxRecords +
+          " and " + recordsPerSecond);
+    }
+    String targetTopic = kafkaRetryTopics.baseTopic(deadLetterTopic);
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / recordsPerSecond;
+    int replayed = 0;
+    log.info("Replaying up to {} records from {} to {} at {} records/s", maxRecords, deadLetterTopic, targetTopic,
+        recordsPerSecond);
+
+    try (Consumer<byte[], byte[]> consumer = consumers.apply(Map.of(
+        ConsumerConfig.GROUP_ID_CONFIG, kafkaConsumerConfigData.getDeadLetterReplayGroupId(),
+        ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.min(maxRecords, 500)));
+         Producer<byte[], byte[]> producer = producers.get()) {
+      Map<TopicPartition, Long> endOffsets = seekToReplayPosition(consumer, deadLetterTopic);
+      Set<TopicPartition> remaining = remainingPartitions(consumer, endOffsets);
+      long nextSendNanos = System.nanoTime();
+      long lastProgressNanos = System.nanoTime();
+      while (replayed < maxRecords && !remaining.isEmpty()) {
+        ConsumerRecords<byte[], byte[]> records = consumer.poll(POLL_TIMEOUT);
+
+        Map<TopicPartition, OffsetAndMetadata> replayedOffsets = new HashMap<>();
+        List<Future<RecordMetadata>> sendResults = new ArrayList<>(records.count());
+        for (ConsumerRecord<byte[], byte[]> record : records) {
+          if (replayed + sendResults.size() == maxRecords) {
+            break;
+          }
+          TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+          if (record.offset() >= endOffsets.get(partition)) {
+            continue;
+          }
+          long waitNanos = nextSendNanos - System.nanoTime();
+          if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+          }
+          nextSendNanos = Math.max(nextSendNanos, System.nanoTime()) + intervalNanos;
+
+          sendResults.add(producer.send(replayRecord(targetTopic, record)));
+          replayedOffsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+        }
+        for (Future<RecordMetadata> sendResult : sendResults) {
+          sendResult.get();
+        }
+        if (!replayedOffsets.isEmpty()) {
+          consumer.commitSync(replayedOffsets);
+          replayed += sendResults.size();
+        }
+
+        Set<TopicPartition> stillRemaining = remainingPartitions(consumer, endOffsets);
+        if (!records.isEmpty() || stillRemaining.size() < remaining.size()) {
+          lastProgressNanos = System.nanoTime();
+        } else if (System.nanoTime() - lastProgressNanos >= STALL_TIMEOUT.toNanos()) {
+          log.warn("Replay of {} stalled before reaching the end offsets of {}", deadLetterTopic, stillRemaining);
+          break;
+        }
+        consumer.pause(remaining.stream().filter(partition -> !stillRemaining.contains(partition)).toList());
+        remaining = stillRemaining;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Replay of {} interrupted after {} records", deadLetterTopic, replayed);
+    } catch (ExecutionException e) {
+      meterRegistry.counter("kafka.consumer.dlt.replayed", "topic", targetTopic).increment(replayed);
+      throw new IllegalStateException("Replay of " + deadLetterTopic + " failed after " + replayed + " records",
+          e.getCause());
+    }
+
+    meterRegistry.counter("kafka.consumer.dlt.replayed", "topic", targetTopic).increment(replayed);
+    log.info("Replayed {} records from {} to {}", replayed, deadLetterTopic, targetTopic);
+    return replayed;
+  }
+
+  private Map<TopicPartition, Long> seekToReplayPosition(Consumer<byte[], byte[]> consumer, String deadLetterTopic) {
+    List<TopicPartition> partitions = consumer.partitionsFor(deadLetterTopic).stream()
+        .map(partitionInfo -> new TopicPartition(partitionInfo.topic(), partitionInfo.partition()))
+        .toList();
+    consumer.assign(partitions);
+    Map<TopicPartition, OffsetAndMetadata> committedOffsets = consumer.committed(new HashSet<>(partitions));
+    Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+    for (TopicPartition partition : partitions) {
+      OffsetAndMetadata committed = committedOffsets.get(partition);
+      consumer.seek(partition, committed == null ? beginningOffsets.get(partition)
+          : Math.max(committed.offset(), beginningOffsets.get(partition)));
+    }
+    return consumer.endOffsets(partitions);
+  }
+
+  private Set<TopicPartition> remainingPartitions(Consumer<byte[], byte[]> consumer,
+                                                  Map<TopicPartition, Long> endOffsets) {
+    return endOffsets.entrySet().stream()
+        .filter(endOffset -> consumer.position(endOffset.getKey()) < endOffset.getValue())
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toSet());
+  }
+
+  private ProducerRecord<byte[], byte[]> replayRecord(String targetTopic, ConsumerRecord<byte[], byte[]> record) {
+    ProducerRecord<byte[], byte[]> replayRecord = new ProducerRecord<>(targetTopic, record.key(), record.value());
+    for (Header header : record.headers()) {
+      if (!header.key().startsWith(KafkaHeaders.PREFIX + "dlt-")
+          && !header.key().equals(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER)) {
+        replayRecord.headers().add(header);
+      }
+    }
+    return replayRecord;
+  }
+
+  private static Map<String, Object> consumerConfig(ConsumerFactory<?, ?> consumerFactory,
+                                                    Map<String, Object> overrides) {
+    Map<String, Object> config = new HashMap<>(consumerFactory.getConfigurationProperties());
+    config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+    config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+    config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    config.putAll(overrides);
+    return config;
+  }
+
+  private static Map<String, Object> producerConfig(ProducerFactory<?, ?> producerFactory) {
+    Map<String, Object> config = new HashMap<>(producerFactory.getConfigurationProperties());
+    config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+    config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+    return config;
+  }
+}
@@ -0,0 +1,51 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.consumer.parallel.KeyOrderedBatchErrorHandler;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+public class KafkaRetryConfig {
+  private final ProducerFactory<?, ?> producerFactory;
+  private final KafkaRetryTopics kafkaRetryTopics;
+
+  public KafkaRetryConfig(ProducerFactory<?, ?> producerFactory, KafkaRetryTopics kafkaRetryTopics) {
+    this.producerFactory = producerFactory;
+    this.kafkaRetryTopics = kafkaRetryTopics;
+  }
+
+  @Bean
+  public DefaultKafkaProducerFactory<Object, Object> retryRecordProducerFactory() {
+    return new DefaultKafkaProducerFactory<>(producerFactory.getConfigurationProperties());
+  }
+
+  @Bean
+  public DefaultKafkaProducerFactory<String, byte[]> retryBytesProducerFactory() {
+    return new DefaultKafkaProducerFactory<>(producerFactory.getConfigurationProperties(),
+        new StringSerializer(),
+        new ByteArraySerializer());
+  }
+
+  @Bean
+  public CommonErrorHandler kafkaRetryErrorHandler() {
+    Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+    templates.put(byte[].class, new KafkaTemplate<>(retryBytesProducerFactory()));
+    templates.put(Object.class, new KafkaTemplate<>(retryRecordProducerFactory()));
+    DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates,
+        kafkaRetryTopics::destination);
+    return new KeyOrderedBatchErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(0L, 0L)), recoverer);
+  }
+}
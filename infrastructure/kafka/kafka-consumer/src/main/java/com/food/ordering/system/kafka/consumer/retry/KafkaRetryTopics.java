@@ -0,0 +1,121 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Names and routes the retry tiers of a topic. A record that fails on {@code <topic>} is republished to
+ * {@code <topic>-retry-0}, then to the next tier each time it fails again, and finally to {@code <topic>-dlt}.
+ * Records that could not be deserialized go straight to the dead letter topic. Tier {@code n} is consumed no earlier
+ * than {@code retry-topic-delays-ms[n]} after the record was republished: records that are not due yet are deferred,
+ * and {@link com.food.ordering.system.kafka.consumer.parallel.KeyOrderedBatchErrorHandler} pauses their partition
+ * until they are, so the consumer thread never sleeps on them.
+ */
+@Slf4j
+@Component
+public class KafkaRetryTopics {
+  private final KafkaConsumerConfigData kafkaConsumerConfigData;
+  private final MeterRegistry meterRegistry;
+
+  public KafkaRetryTopics(KafkaConsumerConfigData kafkaConsumerConfigData, MeterRegistry meterRegistry) {
+    this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public String[] retryTopics(String topic) {
+    return IntStream.range(0, kafkaConsumerConfigData.getRetryTopicDelaysMs().size())
+        .mapToObj(tier -> retryTopic(topic, tier))
+        .toArray(String[]::new);
+  }
+
+  public String deadLetterTopic(String topic) {
+    return baseTopic(topic) + kafkaConsumerConfigData.getDeadLetterTopicSuffix();
+  }
+
+  public boolean isDeadLetterTopic(String topic) {
+    return topic.length() > kafkaConsumerConfigData.getDeadLetterTopicSuffix().length()
+        && topic.endsWith(kafkaConsumerConfigData.getDeadLetterTopicSuffix());
+  }
+
+  public String baseTopic(String topic) {
+    if (topic.endsWith(kafkaConsumerConfigData.getDeadLetterTopicSuffix())) {
+      return topic.substring(0, topic.length() - kafkaConsumerConfigData.getDeadLetterTopicSuffix().length());
+    }
+    int suffixStart = topic.lastIndexOf(kafkaConsumerConfigData.getRetryTopicSuffix());
+    return suffixStart < 0 ? topic : topic.substring(0, suffixStart);
+  }
+
+  public TopicPartition destination(ConsumerRecord<?, ?> record, Exception exception) {
+    String baseTopic = baseTopic(record.topic());
+    if (record.headers().lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER) != null) {
+      return deadLetter(record, baseTopic, "deserialization");
+    }
+
+    int nextTier = tierOf(record.topic()) + 1;
+    if (nextTier >= kafkaConsumerConfigData.getRetryTopicDelaysMs().size()) {
+      return deadLetter(record, baseTopic, "retries-exhausted");
+    }
+    meterRegistry.counter("kafka.consumer.retry.records", "topic", baseTopic, "tier", String.valueOf(nextTier))
+        .increment();
+    log.warn("Record from {}-{}@{} with key {} failed, sending it to retry tier {}: {}", record.topic(),
+        record.partition(), record.offset(), record.key(), nextTier, exception.getMessage());
+    return new TopicPartition(retryTopic(baseTopic, nextTier), -1);
+  }
+
+  /**
+   * Returns the batch indexes of retried records that are not due yet, with the time they become due. A partition is
+   * held back from its first record that is not due, so the records after it on that partition are included as well.
+   */
+  public Map<Integer, Long> deferredUntil(List<String> topics, List<Integer> partitions, List<Long> timestamps) {
+    long now = System.currentTimeMillis();
+    Map<TopicPartition, Long> deferredPartitions = new HashMap<>();
+    Map<Integer, Long> deferred = new HashMap<>();
+    for (int i = 0; i < topics.size(); i++) {
+      TopicPartition topicPartition = new TopicPartition(topics.get(i), partitions.get(i));
+      Long dueAt = deferredPartitions.get(topicPartition);
+      if (dueAt == null) {
+        int tier = tierOf(topics.get(i));
+        if (tier < 0 || timestamps.get(i) + kafkaConsumerConfigData.getRetryTopicDelaysMs().get(tier) <= now) {
+          continue;
+        }
+        dueAt = timestamps.get(i) + kafkaConsumerConfigData.getRetryTopicDelaysMs().get(tier);
+        deferredPartitions.put(topicPartition, dueAt);
+      }
+      deferred.put(i, dueAt);
+    }
+    if (!deferred.isEmpty()) {
+      log.debug("Deferring {} retried records on partitions {} until they are due", deferred.size(),
+          deferredPartitions.keySet());
+    }
+    return deferred;
+  }
+
+  private TopicPartition deadLetter(ConsumerRecord<?, ?> record, String baseTopic, String reason) {
+    meterRegistry.counter("kafka.consumer.dlt.records", "topic", baseTopic, "reason", reason).increment();
+    log.error("Record from {}-{}@{} with key {} sent to dead letter topic: {}", record.topic(), record.partition(),
+        record.offset(), record.key(), reason);
+    return new TopicPartition(deadLetterTopic(baseTopic), -1);
+  }
+
+  private String retryTopic(String topic, int tier) {
+    return topic + kafkaConsumerConfigData.getRetryTopicSuffix() + tier;
+  }
+
+  private int tierOf(String topic) {
+    int suffixStart = topic.lastIndexOf(kafkaConsumerConfigData.getRetryTopicSuffix());
+    if (suffixStart < 0) {
+      return -1;
+    }
+    return Integer.parseInt(topic.substring(suffixStart + kafkaConsumerConfigData.getRetryTopicSuffix().length()));
+  }
+}
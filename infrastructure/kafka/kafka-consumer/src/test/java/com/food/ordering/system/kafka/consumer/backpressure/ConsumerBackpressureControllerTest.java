@@ -0,0 +1,183 @@
+package com.food.ordering.system.kafka.consumer.backpressure;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.food.ordering.system.kafka.consumer.backpressure.ConsumerBackpressureController.PauseReason.BATCH_LATENCY;
+import static com.food.ordering.system.kafka.consumer.backpressure.ConsumerBackpressureController.PauseReason.DB_POOL_SATURATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsumerBackpressureControllerTest {
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger pendingConnections = new AtomicInteger();
+  private final AtomicLong probeLatencyMs = new AtomicLong(5);
+  private final TestListenerContainer listenerContainer = new TestListenerContainer();
+  private final KafkaConsumerConfigData configData = configData();
+  private final ConsumerBackpressureController consumerBackpressureController = new ConsumerBackpressureController(
+      configData, meterRegistry, () -> List.of(listenerContainer), probeLatencyMs::get);
+
+  ConsumerBackpressureControllerTest() {
+    Gauge.builder("hikaricp.connections.pending", pendingConnections::get).register(meterRegistry);
+  }
+
+  @AfterEach
+  public void stop() {
+    consumerBackpressureController.stop();
+  }
+
+  @Test
+  public void testPausesOnDbPoolSaturationAndResumesWhenPoolRecovers() {
+    pendingConnections.set(7);
+    consumerBackpressureController.evaluate();
+
+    assertEquals(DB_POOL_SATURATION, consumerBackpressureController.getPauseReason());
+    assertTrue(listenerContainer.isPauseRequested());
+    assertEquals(1.0, pausedGauge("db_pool_saturation"));
+    assertEquals(1.0, meterRegistry.get("kafka.consumer.backpressure.pauses")
+        .tag("reason", "db_pool_saturation").counter().count());
+
+    pendingConnections.set(1);
+    consumerBackpressureController.evaluate();
+    assertTrue(listenerContainer.isPauseRequested());
+
+    pendingConnections.set(0);
+    probeLatencyMs.set(500);
+    consumerBackpressureController.evaluate();
+    assertTrue(listenerContainer.isPauseRequested());
+
+    probeLatencyMs.set(5);
+    consumerBackpressureController.evaluate();
+    assertNull(consumerBackpressureController.getPauseReason());
+    assertFalse(listenerContainer.isPauseRequested());
+    assertEquals(0.0, pausedGauge("db_pool_saturation"));
+  }
+
+  @Test
+  public void testPausesOnSlowBatches() {
+    consumerBackpressureController.batchCompleted(TimeUnit.MILLISECONDS.toNanos(100));
+    consumerBackpressureController.evaluate();
+    assertNull(consumerBackpressureController.getPauseReason());
+
+    consumerBackpressureController.batchCompleted(TimeUnit.SECONDS.toNanos(5));
+    consumerBackpressureController.batchCompleted(TimeUnit.SECONDS.toNanos(5));
+    consumerBackpressureController.evaluate();
+
+    assertEquals(BATCH_LATENCY, consumerBackpressureController.getPauseReason());
+    assertTrue(listenerContainer.isPauseRequested());
+    assertEquals(1.0, pausedGauge("batch_latency"));
+    assertEquals(3, meterRegistry.get("kafka.consumer.batch.processing").timer().count());
+
+    consumerBackpressureController.evaluate();
+    assertNull(consumerBackpressureController.getPauseReason());
+    assertFalse(listenerContainer.isPauseRequested());
+    double latencyBeforeResume = meterRegistry.get("kafka.consumer.batch.latency.smoothed").gauge().value();
+    assertTrue(latencyBeforeResume >= 2_000);
+
+    consumerBackpressureController.evaluate();
+    assertNull(consumerBackpressureController.getPauseReason());
+
+    consumerBackpressureController.batchCompleted(TimeUnit.SECONDS.toNanos(5));
+    consumerBackpressureController.evaluate();
+    assertEquals(BATCH_LATENCY, consumerBackpressureController.getPauseReason());
+  }
+
+  @Test
+  public void testBacksOffPauseDurationOnRepeatedPauses() {
+    configData.setBackpressureMinPauseMs(1_000L);
+    configData.setBackpressureMaxPauseMs(60_000L);
+
+    assertEquals(1_000, pauseAndResume());
+    assertEquals(2_000, pauseAndResume());
+    assertEquals(4_000, pauseAndResume());
+    for (int i = 0; i < 10; i++) {
+      pauseAndResume();
+    }
+    assertEquals(60_000, pauseAndResume());
+  }
+
+  private long pauseAndResume() {
+    pendingConnections.set(7);
+    consumerBackpressureController.evaluate();
+    assertEquals(DB_POOL_SATURATION, consumerBackpressureController.getPauseReason());
+    long pauseDurationMs = consumerBackpressureController.pauseDurationMs();
+    configData.setBackpressureMinPauseMs(0L);
+    pendingConnections.set(0);
+    consumerBackpressureController.evaluate();
+    configData.setBackpressureMinPauseMs(1_000L);
+    assertNull(consumerBackpressureController.getPauseReason());
+    return pauseDurationMs;
+  }
+
+  private double pausedGauge(String reason) {
+    return meterRegistry.get("kafka.consumer.backpressure.paused").tag("reason", reason).gauge().value();
+  }
+
+  private static KafkaConsumerConfigData configData() {
+    KafkaConsumerConfigData configData = new KafkaConsumerConfigData();
+    configData.setBackpressureEnabled(false);
+    configData.setBackpressureMinPauseMs(0L);
+    configData.setBackpressureMaxPauseMs(60_000L);
+    configData.setBackpressurePauseBatchLatencyMs(2_000L);
+    configData.setBackpressurePausePendingConnections(5);
+    configData.setBackpressureResumePendingConnections(0);
+    configData.setBackpressureResumeProbeLatencyMs(50L);
+    return configData;
+  }
+
+  private static class TestListenerContainer implements MessageListenerContainer {
+    private boolean pauseRequested;
+
+    @Override
+    public void pause() {
+      pauseRequested = true;
+    }
+
+    @Override
+    public void resume() {
+      pauseRequested = false;
+    }
+
+    @Override
+    public boolean isPauseRequested() {
+      return pauseRequested;
+    }
+
+    @Override
+    public boolean isRunning() {
+      return true;
+    }
+
+    @Override
+    public void setupMessageListener(Object messageListener) {
+    }
+
+    @Override
+    public Map<String, Map<MetricName, ? extends Metric>> metrics() {
+      return Map.of();
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void stop() {
+    }
+  }
+}
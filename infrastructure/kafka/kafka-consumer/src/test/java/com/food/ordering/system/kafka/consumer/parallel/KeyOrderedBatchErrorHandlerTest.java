@@ -0,0 +1,207 @@
+package com.food.ordering.system.kafka.consumer.parallel;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ConsumerAwareRecordRecoverer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class KeyOrderedBatchErrorHandlerTest {
+  private static final TopicPartition PARTITION_0 = new TopicPartition("payment-response", 0);
+  private static final TopicPartition PARTITION_1 = new TopicPartition("payment-response", 1);
+
+  private final ThreadPoolTaskExecutor laneExecutor = laneExecutor();
+  private final KeyOrderedBatchProcessor keyOrderedBatchProcessor = new KeyOrderedBatchProcessor(4, laneExecutor);
+  private final MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+  private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+  private final CommonErrorHandler delegate = mock(CommonErrorHandler.class);
+  private final List<ConsumerRecord<?, ?>> recovered = new CopyOnWriteArrayList<>();
+  private final ConsumerAwareRecordRecoverer recoverer = (record, recordConsumer, exception) -> recovered.add(record);
+
+  @BeforeEach
+  public void setUp() {
+    when(container.getContainerProperties()).thenReturn(new ContainerProperties("payment-response"));
+    consumer.assign(List.of(PARTITION_0, PARTITION_1));
+    consumer.updateBeginningOffsets(Map.of(PARTITION_0, 0L, PARTITION_1, 0L));
+  }
+
+  @AfterEach
+  public void shutdown() {
+    laneExecutor.shutdown();
+  }
+
+  @Test
+  public void testOnlyTheFailingPartitionIsRedelivered() {
+    ConsumerRecords<String, String> records = records(
+        record(PARTITION_0, 0, "a"),
+        record(PARTITION_0, 1, "b"),
+        record(PARTITION_0, 2, "b"),
+        record(PARTITION_0, 3, "c"),
+        record(PARTITION_1, 0, "d"),
+        record(PARTITION_1, 1, "e"));
+    ConsumerAwareRecordRecoverer failingRecoverer = mock(ConsumerAwareRecordRecoverer.class);
+    doThrow(new IllegalStateException("retry topic unavailable")).when(failingRecoverer).accept(any(), any(), any());
+
+    assertThrows(KafkaException.class, () -> new KeyOrderedBatchErrorHandler(delegate, failingRecoverer)
+        .handleBatch(process(records, "b"), records, consumer, container, () -> {
+        }));
+
+    Map<TopicPartition, Long> committed = committedOffsets();
+    assertEquals(1L, committed.get(PARTITION_0));
+    assertEquals(2L, committed.get(PARTITION_1));
+    assertEquals(1L, consumer.position(PARTITION_0));
+    verifyNoInteractions(delegate);
+  }
+
+  @Test
+  public void testRecoveredFailureIsCommittedAndUnattemptedMessagesAreRedelivered() {
+    ConsumerRecords<String, String> records = records(
+        record(PARTITION_0, 0, "a"),
+        record(PARTITION_0, 1, "b"),
+        record(PARTITION_0, 2, "b"),
+        record(PARTITION_0, 3, "c"),
+        record(PARTITION_1, 0, "d"));
+
+    assertThrows(KafkaException.class, () -> new KeyOrderedBatchErrorHandler(delegate, recoverer)
+        .handleBatch(process(records, "b"), records, consumer, container, () -> {
+        }));
+
+    assertEquals(List.of(1L), recovered.stream().map(ConsumerRecord::offset).toList());
+    Map<TopicPartition, Long> committed = committedOffsets();
+    assertEquals(2L, committed.get(PARTITION_0));
+    assertEquals(1L, committed.get(PARTITION_1));
+    assertEquals(2L, consumer.position(PARTITION_0));
+  }
+
+  @Test
+  public void testRecoveredFailuresNeedNoRedelivery() {
+    ConsumerRecords<String, String> records = records(
+        record(PARTITION_0, 0, "a"),
+        record(PARTITION_0, 1, "b"),
+        record(PARTITION_0, 2, "c"),
+        record(PARTITION_1, 0, "d"));
+
+    new KeyOrderedBatchErrorHandler(delegate, recoverer)
+        .handleBatch(process(records, "b"), records, consumer, container, () -> {
+        });
+
+    assertEquals(List.of(1L), recovered.stream().map(ConsumerRecord::offset).toList());
+    assertEquals(Map.of(PARTITION_0, 3L, PARTITION_1, 1L), committedOffsets());
+  }
+
+  @Test
+  public void testDeferredPartitionIsPausedUntilDue() {
+    ConsumerRecords<String, String> records = records(
+        record(PARTITION_0, 0, "a"),
+        record(PARTITION_0, 1, "b"),
+        record(PARTITION_0, 2, "c"),
+        record(PARTITION_1, 0, "d"));
+    long dueAt = System.currentTimeMillis() + 200;
+    List<String> messages = List.of("a", "b", "c", "d");
+    KeyOrderedBatchFailedException failure = assertThrows(KeyOrderedBatchFailedException.class, () ->
+        keyOrderedBatchProcessor.process(messages, messages, Map.of(1, dueAt, 2, dueAt), laneMessages -> {
+        }));
+    KeyOrderedBatchErrorHandler keyOrderedBatchErrorHandler = new KeyOrderedBatchErrorHandler(delegate, recoverer);
+
+    assertThrows(KafkaException.class, () -> keyOrderedBatchErrorHandler.handleBatch(
+        new ListenerExecutionFailedException("Listener failed", failure), records, consumer, container, () -> {
+        }));
+
+    assertTrue(recovered.isEmpty());
+    assertEquals(Map.of(PARTITION_0, 1L, PARTITION_1, 1L), committedOffsets());
+    assertEquals(1L, consumer.position(PARTITION_0));
+    verify(container).pausePartition(PARTITION_0);
+    verify(container, never()).pausePartition(PARTITION_1);
+    verify(container, timeout(5_000)).resumePartition(PARTITION_0);
+    keyOrderedBatchErrorHandler.shutdown();
+  }
+
+  @Test
+  public void testOtherFailuresGoToTheDelegate() {
+    ConsumerRecords<String, String> records = records(record(PARTITION_0, 0, "a"));
+    IllegalStateException failure = new IllegalStateException("listener failed");
+    Runnable invokeListener = () -> {
+    };
+
+    new KeyOrderedBatchErrorHandler(delegate, recoverer).handleBatch(failure, records, consumer, container,
+        invokeListener);
+
+    verify(delegate).handleBatch(failure, records, consumer, container, invokeListener);
+  }
+
+  private ListenerExecutionFailedException process(ConsumerRecords<String, String> records, String failingKey) {
+    List<String> messages = new ArrayList<>();
+    records.forEach(record -> messages.add(record.value()));
+    try {
+      keyOrderedBatchProcessor.process(messages, messages, laneMessages -> {
+        if (laneMessages.contains(failingKey)) {
+          throw new IllegalStateException("database unavailable");
+        }
+      });
+    } catch (KeyOrderedBatchFailedException e) {
+      return new ListenerExecutionFailedException("Listener failed", e);
+    }
+    throw new AssertionError("Expected the batch to fail");
+  }
+
+  private Map<TopicPartition, Long> committedOffsets() {
+    Map<TopicPartition, Long> committed = new LinkedHashMap<>();
+    consumer.committed(Set.of(PARTITION_0, PARTITION_1)).forEach((partition, offset) -> {
+      if (offset != null) {
+        committed.put(partition, offset.offset());
+      }
+    });
+    return committed;
+  }
+
+  @SafeVarargs
+  private static ConsumerRecords<String, String> records(ConsumerRecord<String, String>... records) {
+    Map<TopicPartition, List<ConsumerRecord<String, String>>> byPartition = new LinkedHashMap<>();
+    for (ConsumerRecord<String, String> record : records) {
+      byPartition.computeIfAbsent(new TopicPartition(record.topic(), record.partition()), partition -> new ArrayList<>())
+          .add(record);
+    }
+    return new ConsumerRecords<>(byPartition);
+  }
+
+  private static ConsumerRecord<String, String> record(TopicPartition partition, long offset, String key) {
+    return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, key, key);
+  }
+
+  private static ThreadPoolTaskExecutor laneExecutor() {
+    ThreadPoolTaskExecutor laneExecutor = new ThreadPoolTaskExecutor();
+    laneExecutor.setCorePoolSize(4);
+    laneExecutor.setMaxPoolSize(4);
+    laneExecutor.initialize();
+    return laneExecutor;
+  }
+}
@@ -0,0 +1,120 @@
+package com.food.ordering.system.kafka.consumer.parallel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.KafkaNull;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyOrderedBatchProcessorTest {
+  private static final int LANES = 4;
+
+  private final ThreadPoolTaskExecutor laneExecutor = laneExecutor();
+  private final KeyOrderedBatchProcessor keyOrderedBatchProcessor = new KeyOrderedBatchProcessor(LANES, laneExecutor);
+
+  @AfterEach
+  public void shutdown() {
+    laneExecutor.shutdown();
+  }
+
+  @Test
+  public void testMessagesWithTheSameKeyStayInBatchOrder() {
+    List<String> keys = new ArrayList<>();
+    List<Integer> messages = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      keys.add("order-" + i % 37);
+      messages.add(i);
+    }
+    Map<String, List<Integer>> processedByKey = new ConcurrentHashMap<>();
+
+    keyOrderedBatchProcessor.process(messages, keys, laneMessages -> laneMessages.forEach(message ->
+        processedByKey.computeIfAbsent(keys.get(message), key -> Collections.synchronizedList(new ArrayList<>()))
+            .add(message)));
+
+    assertEquals(37, processedByKey.size());
+    processedByKey.forEach((key, processed) -> {
+      assertTrue(processed.stream().allMatch(message -> keys.get(message).equals(key)));
+      assertEquals(processed.stream().sorted().toList(), processed, "Messages of " + key + " out of order");
+    });
+    assertEquals(1_000, processedByKey.values().stream().mapToInt(List::size).sum());
+  }
+
+  @Test
+  public void testLanesRunConcurrently() {
+    List<String> keys = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+    CountDownLatch allLanesStarted = new CountDownLatch(2);
+
+    keyOrderedBatchProcessor.process(keys, keys, laneMessages -> {
+      allLanesStarted.countDown();
+      try {
+        assertTrue(allLanesStarted.await(10, TimeUnit.SECONDS), "Lanes did not run concurrently");
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+  }
+
+  @Test
+  public void testFailureReportsEarliestFailingMessage() {
+    List<String> keys = new ArrayList<>();
+    List<Integer> messages = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      keys.add("order-" + i);
+      messages.add(i);
+    }
+    IllegalStateException failure = new IllegalStateException("database unavailable");
+    Set<Integer> processed = ConcurrentHashMap.newKeySet();
+
+    KeyOrderedBatchFailedException exception = assertThrows(KeyOrderedBatchFailedException.class, () ->
+        keyOrderedBatchProcessor.process(messages, keys, laneMessages -> {
+          if (laneMessages.contains(42) || laneMessages.contains(77)) {
+            throw failure;
+          }
+          processed.addAll(laneMessages);
+        }));
+
+    assertEquals(42, exception.getIndex());
+    assertSame(failure, exception.getCause());
+    assertSame(failure, exception.getFailure(77));
+    assertTrue(IntStream.range(0, 42).allMatch(processed::contains), "Messages before the failure must complete");
+    assertTrue(IntStream.range(0, 100).allMatch(index -> exception.isCompleted(index) == processed.contains(index)),
+        "Completion must be reported for every message");
+  }
+
+  @Test
+  public void testUndeserializableMessageFailsOnItsOwn() {
+    List<String> keys = List.of("a", "b", "c", "d");
+    List<Object> messages = Arrays.asList("a", "b", KafkaNull.INSTANCE, "d");
+    List<Object> processed = Collections.synchronizedList(new ArrayList<>());
+
+    BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () ->
+        keyOrderedBatchProcessor.process(messages, keys, processed::addAll));
+
+    assertEquals(2, exception.getIndex());
+    assertEquals(Set.of("a", "b", "d"), Set.copyOf(processed));
+  }
+
+  private static ThreadPoolTaskExecutor laneExecutor() {
+    ThreadPoolTaskExecutor laneExecutor = new ThreadPoolTaskExecutor();
+    laneExecutor.setCorePoolSize(LANES);
+    laneExecutor.setMaxPoolSize(LANES);
+    laneExecutor.initialize();
+    return laneExecutor;
+  }
+}
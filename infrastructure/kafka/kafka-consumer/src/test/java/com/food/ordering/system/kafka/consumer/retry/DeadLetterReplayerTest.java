@@ -0,0 +1,94 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadLetterReplayerTest {
+  private static final String DEAD_LETTER_TOPIC = "payment-response-dlt";
+  private static final TopicPartition PARTITION_0 = new TopicPartition(DEAD_LETTER_TOPIC, 0);
+  private static final TopicPartition PARTITION_1 = new TopicPartition(DEAD_LETTER_TOPIC, 1);
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final KafkaConsumerConfigData configData = configData();
+  private final MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+    @Override
+    public synchronized void close() {
+    }
+  };
+  private final MockProducer<byte[], byte[]> producer =
+      new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+  private final DeadLetterReplayer deadLetterReplayer = new DeadLetterReplayer(configData,
+      new KafkaRetryTopics(configData, meterRegistry), meterRegistry, config -> consumer, () -> producer);
+
+  @Test
+  public void testReplaysFromCommittedOffsetsUpToEndOffsetsCapturedAtStart() {
+    consumer.updatePartitions(DEAD_LETTER_TOPIC, List.of(
+        new PartitionInfo(DEAD_LETTER_TOPIC, 0, null, null, null),
+        new PartitionInfo(DEAD_LETTER_TOPIC, 1, null, null, null)));
+    consumer.updateBeginningOffsets(Map.of(PARTITION_0, 0L, PARTITION_1, 0L));
+    consumer.updateEndOffsets(Map.of(PARTITION_0, 5L, PARTITION_1, 3L));
+    consumer.commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(2)));
+    consumer.schedulePollTask(() -> {
+    });
+    consumer.schedulePollTask(() -> {
+      for (long offset = 2; offset < 6; offset++) {
+        consumer.addRecord(record(PARTITION_0, offset));
+      }
+    });
+    consumer.schedulePollTask(() -> {
+      for (long offset = 0; offset < 3; offset++) {
+        consumer.addRecord(record(PARTITION_1, offset));
+      }
+    });
+
+    assertEquals(6, deadLetterReplayer.replay(DEAD_LETTER_TOPIC, 100, 1_000));
+
+    assertEquals(6, producer.history().size());
+    assertTrue(producer.history().stream().map(ProducerRecord::topic).allMatch("payment-response"::equals));
+    Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.of(PARTITION_0, PARTITION_1));
+    assertEquals(5, committed.get(PARTITION_0).offset());
+    assertEquals(3, committed.get(PARTITION_1).offset());
+    assertEquals(6.0, meterRegistry.get("kafka.consumer.dlt.replayed").tag("topic", "payment-response")
+        .counter().count());
+  }
+
+  @Test
+  public void testRejectsInvalidReplayRequests() {
+    assertThrows(IllegalArgumentException.class, () -> deadLetterReplayer.replay("payment-response", 10, 10));
+    assertThrows(IllegalArgumentException.class, () -> deadLetterReplayer.replay("payment-response-retry-1", 10, 10));
+    assertThrows(IllegalArgumentException.class, () -> deadLetterReplayer.replay(DEAD_LETTER_TOPIC, 0, 10));
+    assertThrows(IllegalArgumentException.class, () -> deadLetterReplayer.replay(DEAD_LETTER_TOPIC, 10, 0));
+    assertTrue(producer.history().isEmpty());
+  }
+
+  private static ConsumerRecord<byte[], byte[]> record(TopicPartition partition, long offset) {
+    return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, new byte[]{1}, new byte[]{2});
+  }
+
+  private static KafkaConsumerConfigData configData() {
+    KafkaConsumerConfigData configData = new KafkaConsumerConfigData();
+    configData.setRetryTopicSuffix("-retry-");
+    configData.setDeadLetterTopicSuffix("-dlt");
+    configData.setDeadLetterReplayGroupId("order-service-dlt-replay");
+    return configData;
+  }
+}
@@ -0,0 +1,89 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KafkaRetryTopicsTest {
+  private static final String TOPIC = "payment-response";
+  private static final RuntimeException FAILURE = new IllegalStateException("database unavailable");
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final KafkaRetryTopics kafkaRetryTopics = new KafkaRetryTopics(configData(), meterRegistry);
+
+  @Test
+  public void testFailedRecordsMoveThroughRetryTiersToDeadLetterTopic() {
+    assertArrayEquals(new String[]{"payment-response-retry-0", "payment-response-retry-1", "payment-response-retry-2"},
+        kafkaRetryTopics.retryTopics(TOPIC));
+
+    assertEquals(new TopicPartition("payment-response-retry-0", -1),
+        kafkaRetryTopics.destination(record(TOPIC), FAILURE));
+    assertEquals(new TopicPartition("payment-response-retry-2", -1),
+        kafkaRetryTopics.destination(record("payment-response-retry-1"), FAILURE));
+    assertEquals(new TopicPartition("payment-response-dlt", -1),
+        kafkaRetryTopics.destination(record("payment-response-retry-2"), FAILURE));
+
+    assertEquals(1.0, meterRegistry.get("kafka.consumer.retry.records").tags("topic", TOPIC, "tier", "0")
+        .counter().count());
+    assertEquals(1.0, meterRegistry.get("kafka.consumer.dlt.records").tags("topic", TOPIC, "reason",
+        "retries-exhausted").counter().count());
+  }
+
+  @Test
+  public void testUndeserializableRecordsGoStraightToDeadLetterTopic() {
+    ConsumerRecord<String, Object> record = record(TOPIC);
+    record.headers().add(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, new byte[0]);
+
+    assertEquals(new TopicPartition("payment-response-dlt", -1), kafkaRetryTopics.destination(record, FAILURE));
+    assertEquals(1.0, meterRegistry.get("kafka.consumer.dlt.records").tags("topic", TOPIC, "reason",
+        "deserialization").counter().count());
+  }
+
+  @Test
+  public void testDeadLetterTopicReplaysToBaseTopic() {
+    assertEquals(TOPIC, kafkaRetryTopics.baseTopic("payment-response-dlt"));
+    assertEquals(TOPIC, kafkaRetryTopics.baseTopic("payment-response-retry-1"));
+    assertEquals(TOPIC, kafkaRetryTopics.baseTopic(TOPIC));
+    assertTrue(kafkaRetryTopics.isDeadLetterTopic("payment-response-dlt"));
+    assertFalse(kafkaRetryTopics.isDeadLetterTopic("payment-response-retry-1"));
+    assertFalse(kafkaRetryTopics.isDeadLetterTopic(TOPIC));
+    assertFalse(kafkaRetryTopics.isDeadLetterTopic("-dlt"));
+  }
+
+  @Test
+  public void testRetriedRecordsAreDeferredPerPartitionUntilTheirTierDelayPassed() {
+    long now = System.currentTimeMillis();
+
+    Map<Integer, Long> deferredUntil = kafkaRetryTopics.deferredUntil(
+        List.of("payment-response-retry-0", "payment-response-retry-2", "payment-response-retry-2",
+            "payment-response-retry-0", TOPIC),
+        List.of(0, 0, 0, 1, 0),
+        List.of(now - 10_000, now, now - 60_000, now, now));
+
+    assertEquals(Map.of(1, now + 25_000, 2, now + 25_000, 3, now + 1_000), deferredUntil);
+  }
+
+  private static ConsumerRecord<String, Object> record(String topic) {
+    return new ConsumerRecord<>(topic, 0, 0L, "order-id", new Object());
+  }
+
+  private static KafkaConsumerConfigData configData() {
+    KafkaConsumerConfigData configData = new KafkaConsumerConfigData();
+    configData.setRetryTopicSuffix("-retry-");
+    configData.setRetryTopicDelaysMs(List.of(1_000L, 5_000L, 25_000L));
+    configData.setDeadLetterTopicSuffix("-dlt");
+    return configData;
+  }
+}
@@ -0,0 +1,740 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package com.food.ordering.system.kafka.order.avro.model.v2;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+@org.apache.avro.specific.AvroGenerated
+public class PaymentRequestAvroModelV2 extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = -535551061432550785L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentRequestAvroModelV2\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model.v2\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"fixed\",\"name\":\"Uuid\",\"size\":16}},{\"name\":\"sagaId\",\"type\":\"Uuid\"},{\"name\":\"customerId\",\"type\":\"Uuid\"},{\"name\":\"orderId\",\"type\":\"Uuid\"},{\"name\":\"priceCents\",\"type\":\"long\"},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"paymentOrderStatus\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentOrderStatus\",\"symbols\":[\"PENDING\",\"CANCELLED\"]}}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+  static {
+    MODEL$.addLogicalTypeConversion(new org.apache.avro.data.TimeConversions.TimestampMillisConversion());
+  }
+
+  private static final BinaryMessageEncoder<PaymentRequestAvroModelV2> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<PaymentRequestAvroModelV2> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<PaymentRequestAvroModelV2> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<PaymentRequestAvroModelV2> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<PaymentRequestAvroModelV2> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this PaymentRequestAvroModelV2 to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a PaymentRequestAvroModelV2 from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a PaymentRequestAvroModelV2 instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static PaymentRequestAvroModelV2 fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  private com.food.ordering.system.kafka.order.avro.model.v2.Uuid id;
+  private com.food.ordering.system.kafka.order.avro.model.v2.Uuid sagaId;
+  private com.food.ordering.system.kafka.order.avro.model.v2.Uuid customerId;
+  private com.food.ordering.system.kafka.order.avro.model.v2.Uuid orderId;
+  private long priceCents;
+  private java.time.Instant createdAt;
+  private com.food.ordering.system.kafka.order.avro.model.v2.PaymentOrderStatus paymentOrderStatus;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public PaymentRequestAvroModelV2() {}
+
+  /**
+   * All-args constructor.
+   * @param id The new value for id
+   * @param sagaId The new value for sagaId
+   * @param customerId The new value for customerId
+   * @param orderId The new value for orderId
+   * @param priceCents The new value for priceCents
+   * @param createdAt The new value for createdAt
+   * @param paymentOrderStatus The new value for paymentOrderStatus
+   */
+  public PaymentRequestAvroModelV2(com.food.ordering.system.kafka.order.avro.model.v2.Uuid id, com.food.ordering.system.kafka.order.avro.model.v2.Uuid sagaId, com.food.ordering.system.kafka.order.avro.model.v2.Uuid customerId, com.food.ordering.system.kafka.order.avro.model.v2.Uuid orderId, java.lang.Long priceCents, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.v2.PaymentOrderStatus paymentOrderStatus) {
+    this.id = id;
+    this.sagaId = sagaId;
+    this.customerId = customerId;
+    this.orderId = orderId;
+    this.priceCents = priceCents;
+    this.createdAt = createdAt.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+    this.paymentOrderStatus = paymentOrderStatus;
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return id;
+    case 1: return sagaId;
+    case 2: return customerId;
+    case 3: return orderId;
+    case 4: return priceCents;
+    case 5: return createdAt;
+    case 6: return paymentOrderStatus;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  private static final org.apache.avro.Conversion<?>[] conversions =
+      new org.apache.avro.Conversion<?>[] {
+      null,
+      null,
+      null,
+      null,
+      null,
+      new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
+      null,
+      null
+  };
+
+  @Override
+  public org.apache.avro.Conversion<?> getConversion(int field) {
+    return conversions[field];
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: id = (com.food.ordering.system.kafka.order.avro.model.v2.Uuid)value$; break;
+    case 1: sagaId = (com.food.ordering.system.kafka.order.avro.model.v2.Uuid)value$; break;
+    case 2: customerId = (com.food.ordering.system.kafka.order.avro.model.v2.Uuid)value$; break;
+    case 3: orderId = (com.food.ordering.system.kafka.order.avro.model.v2.Uuid)value$; break;
+    case 4: priceCents = (java.lang.Long)value$; break;
+    case 5: createdAt = (java.time.Instant)value$; break;
+    case 6: paymentOrderStatus = (com.food.ordering.system.kafka.order.avro.model.v2.PaymentOrderStatus)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'id' field.
+   * @return The value of the 'id' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.v2.Uuid getId() {
+    return id;
+  }
+
+
+  /**
+   * Sets the value of the 'id' field.
+   * @param value the value to set.
+   */
+  public void setId(com.food.ordering.system.kafka.order.avro.model.v2.Uuid value) {
+    this.id = value;
+  }
+
+  /**
+   * Gets the value of the 'sagaId' field.
+   * @return The value of the 'sagaId' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.v2.Uuid getSagaId() {
+    return sagaId;
+  }
+
+
+  /**
+   * Sets the value of the 'sagaId' field.
+   * @param value the value to set.
+   */
+  public void setSagaId(com.food.ordering.system.kafka.order.avro.model.v2.Uuid value) {
+    this.sagaId = value;
+  }
+
+  /**
+   * Gets the value of the 'customerId' field.
+   * @return The value of the 'customerId' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.v2.Uuid getCustomerId() {
+    return customerId;
+  }
+
+
+  /**
+   * Sets the value of the 'customerId' field.
+   * @param value the value to set.
+   */
+  public void setCustomerId(com.food.ordering.system.kafka.order.avro.model.v2.Uuid value) {
+    this.customerId = value;
+  }
+
+  /**
+   * Gets the value of the 'orderId' field.
+   * @return The value of the 'orderId' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.v2.Uuid getOrderId() {
+    return orderId;
+  }
+
+
+  /**
+   * Sets the value of the 'orderId' field.
+   * @param value the value to set.
+   */
+  public void setOrderId(com.food.ordering.system.kafka.order.avro.model.v2.Uuid value) {
+    this.orderId = value;
+  }
+
+  /**
+   * Gets the value of the 'priceCents' field.
+   * @return The value of the 'priceCents' field.
+   */
+  public long getPriceCents() {
+    return priceCents;
+  }
+
+
+  /**
+   * Sets the value of the 'priceCents' field.
+   * @param value the value to set.
+   */
+  public void setPriceCents(long value) {
+    this.priceCents = value;
+  }
+
+  /**
+   * Gets the value of the 'createdAt' field.
+   * @return The value of the 'createdAt' field.
+   */
+  public java.time.Instant getCreatedAt() {
+    return createdAt;
+  }
+
+
+  /**
+   * Sets the value of the 'createdAt' field.
+   * @param value the value to set.
+   */
+  public void setCreatedAt(java.time.Instant value) {
+    this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  /**
+   * Gets the value of the 'paymentOrderStatus' field.
+   * @return The value of the 'paymentOrderStatus' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.v2.PaymentOrderStatus getPaymentOrderStatus() {
+    return paymentOrderStatus;
+  }
+
+
+  /**
+   * Sets the value of the 'paymentOrderStatus' field.
+   * @param value the value to set.
+   */
+  public void setPaymentOrderStatus(com.food.ordering.system.kafka.order.avro.model.v2.PaymentOrderStatus value) {
+    this.paymentOrderStatus = value;
+  }
+
+  /**
+   * Creates a new PaymentRequestAvroModelV2 RecordBuilder.
+   * @return A new PaymentRequestAvroModelV2 RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder newBuilder() {
+    return new com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder();
+  }
+
+  /**
+   * Creates a new PaymentRequestAvroModelV2 RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new PaymentRequestAvroModelV2 RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder other) {
+    if (other == null) {
+      return new com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder();
+    } else {
+      return new com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new PaymentRequestAvroModelV2 RecordBuilder by copying an existing PaymentRequestAvroModelV2 instance.
+   * @param other The existing instance to copy.
+   * @return A new PaymentRequestAvroModelV2 RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2 other) {
+    if (other == null) {
+      return new com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder();
+    } else {
+      return new com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for PaymentRequestAvroModelV2 instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<PaymentRequestAvroModelV2>
+    implements org.apache.avro.data.RecordBuilder<PaymentRequestAvroModelV2> {
+
+    private com.food.ordering.system.kafka.order.avro.model.v2.Uuid id;
+    private com.food.ordering.system.kafka.order.avro.model.v2.Uuid sagaId;
+    private com.food.ordering.system.kafka.order.avro.model.v2.Uuid customerId;
+    private com.food.ordering.system.kafka.order.avro.model.v2.Uuid orderId;
+    private long priceCents;
+    private java.time.Instant createdAt;
+    private com.food.ordering.system.kafka.order.avro.model.v2.PaymentOrderStatus paymentOrderStatus;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.id)) {
+        this.id = data().deepCopy(fields()[0].schema(), other.id);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.sagaId)) {
+        this.sagaId = data().deepCopy(fields()[1].schema(), other.sagaId);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.customerId)) {
+        this.customerId = data().deepCopy(fields()[2].schema(), other.customerId);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[3].schema(), other.orderId);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+      if (isValidValue(fields()[4], other.priceCents)) {
+        this.priceCents = data().deepCopy(fields()[4].schema(), other.priceCents);
+        fieldSetFlags()[4] = other.fieldSetFlags()[4];
+      }
+      if (isValidValue(fields()[5], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[5].schema(), other.createdAt);
+        fieldSetFlags()[5] = other.fieldSetFlags()[5];
+      }
+      if (isValidValue(fields()[6], other.paymentOrderStatus)) {
+        this.paymentOrderStatus = data().deepCopy(fields()[6].schema(), other.paymentOrderStatus);
+        fieldSetFlags()[6] = other.fieldSetFlags()[6];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing PaymentRequestAvroModelV2 instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2 other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.id)) {
+        this.id = data().deepCopy(fields()[0].schema(), other.id);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.sagaId)) {
+        this.sagaId = data().deepCopy(fields()[1].schema(), other.sagaId);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.customerId)) {
+        this.customerId = data().deepCopy(fields()[2].schema(), other.customerId);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[3].schema(), other.orderId);
+        fieldSetFlags()[3] = true;
+      }
+      if (isValidValue(fields()[4], other.priceCents)) {
+        this.priceCents = data().deepCopy(fields()[4].schema(), other.priceCents);
+        fieldSetFlags()[4] = true;
+      }
+      if (isValidValue(fields()[5], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[5].schema(), other.createdAt);
+        fieldSetFlags()[5] = true;
+      }
+      if (isValidValue(fields()[6], other.paymentOrderStatus)) {
+        this.paymentOrderStatus = data().deepCopy(fields()[6].schema(), other.paymentOrderStatus);
+        fieldSetFlags()[6] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'id' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.Uuid getId() {
+      return id;
+    }
+
+
+    /**
+      * Sets the value of the 'id' field.
+      * @param value The value of 'id'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder setId(com.food.ordering.system.kafka.order.avro.model.v2.Uuid value) {
+      validate(fields()[0], value);
+      this.id = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'id' field has been set.
+      * @return True if the 'id' field has been set, false otherwise.
+      */
+    public boolean hasId() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'id' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder clearId() {
+      id = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'sagaId' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.Uuid getSagaId() {
+      return sagaId;
+    }
+
+
+    /**
+      * Sets the value of the 'sagaId' field.
+      * @param value The value of 'sagaId'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder setSagaId(com.food.ordering.system.kafka.order.avro.model.v2.Uuid value) {
+      validate(fields()[1], value);
+      this.sagaId = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'sagaId' field has been set.
+      * @return True if the 'sagaId' field has been set, false otherwise.
+      */
+    public boolean hasSagaId() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'sagaId' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder clearSagaId() {
+      sagaId = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'customerId' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.Uuid getCustomerId() {
+      return customerId;
+    }
+
+
+    /**
+      * Sets the value of the 'customerId' field.
+      * @param value The value of 'customerId'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder setCustomerId(com.food.ordering.system.kafka.order.avro.model.v2.Uuid value) {
+      validate(fields()[2], value);
+      this.customerId = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'customerId' field has been set.
+      * @return True if the 'customerId' field has been set, false otherwise.
+      */
+    public boolean hasCustomerId() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'customerId' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder clearCustomerId() {
+      customerId = null;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'orderId' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.Uuid getOrderId() {
+      return orderId;
+    }
+
+
+    /**
+      * Sets the value of the 'orderId' field.
+      * @param value The value of 'orderId'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder setOrderId(com.food.ordering.system.kafka.order.avro.model.v2.Uuid value) {
+      validate(fields()[3], value);
+      this.orderId = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'orderId' field has been set.
+      * @return True if the 'orderId' field has been set, false otherwise.
+      */
+    public boolean hasOrderId() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'orderId' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder clearOrderId() {
+      orderId = null;
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'priceCents' field.
+      * @return The value.
+      */
+    public long getPriceCents() {
+      return priceCents;
+    }
+
+
+    /**
+      * Sets the value of the 'priceCents' field.
+      * @param value The value of 'priceCents'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder setPriceCents(long value) {
+      validate(fields()[4], value);
+      this.priceCents = value;
+      fieldSetFlags()[4] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'priceCents' field has been set.
+      * @return True if the 'priceCents' field has been set, false otherwise.
+      */
+    public boolean hasPriceCents() {
+      return fieldSetFlags()[4];
+    }
+
+
+    /**
+      * Clears the value of the 'priceCents' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder clearPriceCents() {
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'createdAt' field.
+      * @return The value.
+      */
+    public java.time.Instant getCreatedAt() {
+      return createdAt;
+    }
+
+
+    /**
+      * Sets the value of the 'createdAt' field.
+      * @param value The value of 'createdAt'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder setCreatedAt(java.time.Instant value) {
+      validate(fields()[5], value);
+      this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'createdAt' field has been set.
+      * @return True if the 'createdAt' field has been set, false otherwise.
+      */
+    public boolean hasCreatedAt() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'createdAt' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder clearCreatedAt() {
+      fieldSetFlags()[5] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'paymentOrderStatus' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentOrderStatus getPaymentOrderStatus() {
+      return paymentOrderStatus;
+    }
+
+
+    /**
+      * Sets the value of the 'paymentOrderStatus' field.
+      * @param value The value of 'paymentOrderStatus'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder setPaymentOrderStatus(com.food.ordering.system.kafka.order.avro.model.v2.PaymentOrderStatus value) {
+      validate(fields()[6], value);
+      this.paymentOrderStatus = value;
+      fieldSetFlags()[6] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'paymentOrderStatus' field has been set.
+      * @return True if the 'paymentOrderStatus' field has been set, false otherwise.
+      */
+    public boolean hasPaymentOrderStatus() {
+      return fieldSetFlags()[6];
+    }
+
+
+    /**
+      * Clears the value of the 'paymentOrderStatus' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2.Builder clearPaymentOrderStatus() {
+      paymentOrderStatus = null;
+      fieldSetFlags()[6] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PaymentRequestAvroModelV2 build() {
+      try {
+        PaymentRequestAvroModelV2 record = new PaymentRequestAvroModelV2();
+        record.id = fieldSetFlags()[0] ? this.id : (com.food.ordering.system.kafka.order.avro.model.v2.Uuid) defaultValue(fields()[0]);
+        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (com.food.ordering.system.kafka.order.avro.model.v2.Uuid) defaultValue(fields()[1]);
+        record.customerId = fieldSetFlags()[2] ? this.customerId : (com.food.ordering.system.kafka.order.avro.model.v2.Uuid) defaultValue(fields()[2]);
+        record.orderId = fieldSetFlags()[3] ? this.orderId : (com.food.ordering.system.kafka.order.avro.model.v2.Uuid) defaultValue(fields()[3]);
+        record.priceCents = fieldSetFlags()[4] ? this.priceCents : (java.lang.Long) defaultValue(fields()[4]);
+        record.createdAt = fieldSetFlags()[5] ? this.createdAt : (java.time.Instant) defaultValue(fields()[5]);
+        record.paymentOrderStatus = fieldSetFlags()[6] ? this.paymentOrderStatus : (com.food.ordering.system.kafka.order.avro.model.v2.PaymentOrderStatus) defaultValue(fields()[6]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<PaymentRequestAvroModelV2>
+    WRITER$ = (org.apache.avro.io.DatumWriter<PaymentRequestAvroModelV2>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<PaymentRequestAvroModelV2>
+    READER$ = (org.apache.avro.io.DatumReader<PaymentRequestAvroModelV2>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+}
+
+
+
+
+
+
+
+
+
+
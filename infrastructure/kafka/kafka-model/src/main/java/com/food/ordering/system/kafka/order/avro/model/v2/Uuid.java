@@ -0,0 +1,44 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package com.food.ordering.system.kafka.order.avro.model.v2;
+@org.apache.avro.specific.FixedSize(16)
+@org.apache.avro.specific.AvroGenerated
+public class Uuid extends org.apache.avro.specific.SpecificFixed {
+  private static final long serialVersionUID = 4144712640654349192L;
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"fixed\",\"name\":\"Uuid\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model.v2\",\"size\":16}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  /** Creates a new Uuid */
+  public Uuid() {
+    super();
+  }
+
+  /**
+   * Creates a new Uuid with the given bytes.
+   * @param bytes The bytes to create the new Uuid.
+   */
+  public Uuid(byte[] bytes) {
+    super(bytes);
+  }
+
+  private static final org.apache.avro.io.DatumWriter<Uuid>
+    WRITER$ = new org.apache.avro.specific.SpecificDatumWriter<Uuid>(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, org.apache.avro.specific.SpecificData.getEncoder(out));
+  }
+
+  private static final org.apache.avro.io.DatumReader<Uuid>
+    READER$ = new org.apache.avro.specific.SpecificDatumReader<Uuid>(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, org.apache.avro.specific.SpecificData.getDecoder(in));
+  }
+
+}
@@ -2,12 +2,15 @@ package com.food.ordering.system.kafka.producer;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.config.data.ProducerDeliveryMode;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 
 import java.io.Serializable;
@@ -18,11 +21,14 @@ import java.util.Map;
 public class KafkaProducerConfiguration<K extends Serializable, V extends SpecificRecordBase> {
   private final KafkaConfigData kafkaConfigData;
   private final KafkaProducerConfigData kafkaProducerConfigData;
+  private final MeterRegistry meterRegistry;
 
   public KafkaProducerConfiguration(KafkaConfigData kafkaConfigData,
-                                    KafkaProducerConfigData kafkaProducerConfigData) {
+                                    KafkaProducerConfigData kafkaProducerConfigData,
+                                    MeterRegistry meterRegistry) {
     this.kafkaConfigData = kafkaConfigData;
     this.kafkaProducerConfigData = kafkaProducerConfigData;
+    this.meterRegistry = meterRegistry;
   }
 
   @Bean
@@ -30,6 +36,7 @@ public class KafkaProducerConfiguration<K extends Serializable, V extends Specif
     Map<String, Object> config = new HashMap<>();
     config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
     config.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
+    config.put(kafkaConfigData.getValueSubjectNameStrategyKey(), kafkaConfigData.getValueSubjectNameStrategy());
     config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getKeySerializerClass());
     config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getValueSerializerClass());
     config.put(ProducerConfig.BATCH_SIZE_CONFIG, kafkaProducerConfigData.getBatchSize() * kafkaProducerConfigData.getBatchSizeBoostFactor());
@@ -38,16 +45,25 @@ public class KafkaProducerConfiguration<K extends Serializable, V extends Specif
     config.put(ProducerConfig.ACKS_CONFIG, kafkaProducerConfigData.getAcks());
     config.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, kafkaProducerConfigData.getRequestTimeoutMs());
     config.put(ProducerConfig.RETRIES_CONFIG, kafkaProducerConfigData.getRetryCount());
+    config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG,
+        kafkaProducerConfigData.getDeliveryMode() != ProducerDeliveryMode.AT_LEAST_ONCE);
     return config;
   }
 
   @Bean
   public ProducerFactory<K, V> producerFactory() {
-    return new DefaultKafkaProducerFactory<>(producerConfig());
+    DefaultKafkaProducerFactory<K, V> producerFactory = new DefaultKafkaProducerFactory<>(producerConfig());
+    producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+    if (kafkaProducerConfigData.getDeliveryMode() == ProducerDeliveryMode.TRANSACTIONAL) {
+      producerFactory.setTransactionIdPrefix(kafkaProducerConfigData.getTransactionalIdPrefix());
+    }
+    return producerFactory;
   }
 
   @Bean
   public KafkaTemplate<K, V> kafkaTemplate() {
-    return new KafkaTemplate<>(producerFactory());
+    KafkaTemplate<K, V> kafkaTemplate = new KafkaTemplate<>(producerFactory());
+    kafkaTemplate.setAllowNonTransactional(true);
+    return kafkaTemplate;
   }
 }
@@ -4,4 +4,8 @@ public class KafkaProducerException extends RuntimeException {
   public KafkaProducerException(String message) {
     super(message);
   }
+
+  public KafkaProducerException(String message, Throwable cause) {
+    super(message, cause);
+  }
 }
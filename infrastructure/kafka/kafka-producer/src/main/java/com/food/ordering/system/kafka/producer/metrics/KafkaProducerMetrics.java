@@ -0,0 +1,129 @@
+package com.food.ordering.system.kafka.producer.metrics;
+
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Records send-to-ack latency, in-flight sends, record sizes and errors per topic for sends made through
+ * KafkaTemplate, and logs one sampled line per send-log-sample-interval acknowledged records instead of one per
+ * record.
+ */
+@Slf4j
+@Component
+public class KafkaProducerMetrics {
+  private final MeterRegistry meterRegistry;
+  private final long sendLogSampleInterval;
+  private final Map<String, TopicMeters> topicMeters = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Counter>> errorCounters = new ConcurrentHashMap<>();
+  private final AtomicLong acknowledged = new AtomicLong();
+
+  public KafkaProducerMetrics(MeterRegistry meterRegistry, KafkaProducerConfigData kafkaProducerConfigData) {
+    this.meterRegistry = meterRegistry;
+    this.sendLogSampleInterval = Math.max(1, kafkaProducerConfigData.getSendLogSampleInterval());
+  }
+
+  public <K, V> CompletableFuture<SendResult<K, V>> send(String topicName,
+                                                         Supplier<CompletableFuture<SendResult<K, V>>> send) {
+    TopicMeters meters = topicMeters.computeIfAbsent(topicName, this::createTopicMeters);
+    meters.inFlight.incrementAndGet();
+    long start = System.nanoTime();
+
+    CompletableFuture<SendResult<K, V>> sendResult;
+    try {
+      sendResult = send.get();
+    } catch (RuntimeException e) {
+      meters.inFlight.decrementAndGet();
+      recordError(topicName, e);
+      throw e;
+    }
+
+    return sendResult.whenComplete((result, ex) -> {
+      meters.inFlight.decrementAndGet();
+      if (ex != null) {
+        recordError(topicName, ex);
+        return;
+      }
+
+      meters.sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      RecordMetadata metadata = result.getRecordMetadata();
+      meters.recordSize.record(Math.max(0, metadata.serializedKeySize()) + Math.max(0, metadata.serializedValueSize()));
+      logSampled(metadata);
+    });
+  }
+
+  private void recordError(String topicName, Throwable ex) {
+    String exceptionName = unwrap(ex).getClass().getSimpleName();
+    errorCounters.computeIfAbsent(topicName, topic -> new ConcurrentHashMap<>())
+        .computeIfAbsent(exceptionName, exception -> Counter.builder("kafka.producer.send.errors")
+            .tag("topic", topicName)
+            .tag("exception", exception)
+            .register(meterRegistry))
+        .increment();
+  }
+
+  private void logSampled(RecordMetadata metadata) {
+    long count = acknowledged.incrementAndGet();
+    if (count % sendLogSampleInterval == 0) {
+      log.info("{} records acknowledged by Kafka, latest to topic: {}, partition: {}, offset: {}",
+          count, metadata.topic(), metadata.partition(), metadata.offset());
+    }
+  }
+
+  private TopicMeters createTopicMeters(String topicName) {
+    AtomicInteger inFlight = new AtomicInteger();
+    Gauge.builder("kafka.producer.in.flight", inFlight, AtomicInteger::get)
+        .tag("topic", topicName)
+        .register(meterRegistry);
+    Timer sendLatency = Timer.builder("kafka.producer.send")
+        .description("Time from handing a record to the producer until the broker acknowledged it")
+        .tag("topic", topicName)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    DistributionSummary recordSize = DistributionSummary.builder("kafka.producer.record.size")
+        .baseUnit("bytes")
+        .tag("topic", topicName)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    return new TopicMeters(inFlight, sendLatency, recordSize);
+  }
+
+  private static Throwable unwrap(Throwable ex) {
+    Throwable cause = ex;
+    while ((cause instanceof CompletionException
+        || cause instanceof ExecutionException
+        || cause instanceof org.springframework.kafka.core.KafkaProducerException) && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  private static final class TopicMeters {
+    private final AtomicInteger inFlight;
+    private final Timer sendLatency;
+    private final DistributionSummary recordSize;
+
+    private TopicMeters(AtomicInteger inFlight, Timer sendLatency, DistributionSummary recordSize) {
+      this.inFlight = inFlight;
+      this.sendLatency = sendLatency;
+      this.recordSize = recordSize;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.food.ordering.system.kafka.producer.serializer;
+
+import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import jakarta.annotation.PreDestroy;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class KafkaMessageSerializer<V extends SpecificRecordBase> {
+  private final Serializer<V> valueSerializer;
+
+  public KafkaMessageSerializer(ProducerFactory<?, V> producerFactory) {
+    Map<String, Object> producerConfig = producerFactory.getConfigurationProperties();
+    this.valueSerializer = createValueSerializer(producerConfig.get(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG));
+    this.valueSerializer.configure(producerConfig, false);
+  }
+
+  public byte[] serialize(String topicName, V message) {
+    return valueSerializer.serialize(topicName, message);
+  }
+
+  @PreDestroy
+  public void close() {
+    valueSerializer.close();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Serializer<V> createValueSerializer(Object serializerClass) {
+    try {
+      Class<?> valueSerializerClass = serializerClass instanceof Class<?> clazz
+          ? clazz
+          : Class.forName(String.valueOf(serializerClass));
+      return (Serializer<V>) valueSerializerClass.getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new KafkaProducerException("Could not create value serializer " + serializerClass, e);
+    }
+  }
+}
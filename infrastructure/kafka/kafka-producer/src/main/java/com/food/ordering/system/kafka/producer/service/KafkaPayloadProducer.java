@@ -0,0 +1,13 @@
+package com.food.ordering.system.kafka.producer.service;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface KafkaPayloadProducer {
+  CompletableFuture<SendResult<String, byte[]>> send(String topicName, String key, byte[] payload);
+
+  List<CompletableFuture<SendResult<String, byte[]>>> sendAll(List<ProducerRecord<String, byte[]>> producerRecords);
+}
@@ -0,0 +1,83 @@
+package com.food.ordering.system.kafka.producer.service.impl;
+
+import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.kafka.producer.metrics.KafkaProducerMetrics;
+import com.food.ordering.system.kafka.producer.service.KafkaPayloadProducer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Component
+public class KafkaPayloadProducerImpl implements KafkaPayloadProducer {
+  private final DefaultKafkaProducerFactory<String, byte[]> payloadProducerFactory;
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final KafkaProducerMetrics kafkaProducerMetrics;
+
+  public KafkaPayloadProducerImpl(ProducerFactory<?, ?> producerFactory,
+                                  KafkaProducerMetrics kafkaProducerMetrics,
+                                  MeterRegistry meterRegistry) {
+    this.payloadProducerFactory = new DefaultKafkaProducerFactory<>(producerFactory.getConfigurationProperties(),
+        new StringSerializer(),
+        new ByteArraySerializer());
+    this.payloadProducerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+    if (producerFactory.getTransactionIdPrefix() != null) {
+      this.payloadProducerFactory.setTransactionIdPrefix(producerFactory.getTransactionIdPrefix() + "payload-");
+    }
+    this.kafkaTemplate = new KafkaTemplate<>(payloadProducerFactory);
+    this.kafkaTemplate.setAllowNonTransactional(true);
+    this.kafkaProducerMetrics = kafkaProducerMetrics;
+  }
+
+  @Override
+  public CompletableFuture<SendResult<String, byte[]>> send(String topicName, String key, byte[] payload) {
+    log.debug("Sending serialized message with key {} to topic: {}", key, topicName);
+    try {
+      return kafkaProducerMetrics.send(topicName, () -> kafkaTemplate.send(topicName, key, payload));
+    } catch (KafkaException e) {
+      log.error("Error on kafka producer sending message with key {} to topic: {}. Exception: {}", key, topicName, e.getMessage());
+      throw new KafkaProducerException("Error on kafka producer sending message with key " + key + " to topic: " + topicName, e);
+    }
+  }
+
+  @Override
+  public List<CompletableFuture<SendResult<String, byte[]>>> sendAll(List<ProducerRecord<String, byte[]>> producerRecords) {
+    if (!kafkaTemplate.isTransactional()) {
+      return producerRecords.stream()
+          .map(producerRecord -> send(producerRecord.topic(), producerRecord.key(), producerRecord.value()))
+          .toList();
+    }
+
+    log.debug("Sending {} serialized messages in one transaction", producerRecords.size());
+    try {
+      return kafkaTemplate.executeInTransaction(operations -> producerRecords.stream()
+          .map(producerRecord -> kafkaProducerMetrics.send(producerRecord.topic(), () -> operations.send(producerRecord)))
+          .toList());
+    } catch (KafkaException e) {
+      log.error("Error on kafka producer sending {} messages in one transaction. Exception: {}",
+          producerRecords.size(), e.getMessage());
+      throw new KafkaProducerException("Error on kafka producer sending " + producerRecords.size() +
+          " messages in one transaction", e);
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    log.info("Closing kafka payload producer");
+    kafkaTemplate.destroy();
+    payloadProducerFactory.destroy();
+  }
+}
@@ -1,6 +1,7 @@
 package com.food.ordering.system.kafka.producer.service.impl;
 
 import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.kafka.producer.metrics.KafkaProducerMetrics;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
@@ -18,16 +19,19 @@ import java.util.function.BiConsumer;
 @Component
 public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordBase> implements KafkaProducer<K, V> {
   private final KafkaTemplate<K, V> kafkaTemplate;
+  private final KafkaProducerMetrics kafkaProducerMetrics;
 
-  public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate) {
+  public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate, KafkaProducerMetrics kafkaProducerMetrics) {
     this.kafkaTemplate = kafkaTemplate;
+    this.kafkaProducerMetrics = kafkaProducerMetrics;
   }
 
   @Override
   public void send(String topicName, K key, V message, BiConsumer<SendResult<K, V>, Throwable> callback) {
-    log.info("Sending message {} to topic: {}", message, topicName);
+    log.debug("Sending message with key {} to topic: {}", key, topicName);
     try {
-      CompletableFuture<SendResult<K, V>> kafkaResultFuture = kafkaTemplate.send(topicName, key, message);
+      CompletableFuture<SendResult<K, V>> kafkaResultFuture =
+          kafkaProducerMetrics.send(topicName, () -> kafkaTemplate.send(topicName, key, message));
       kafkaResultFuture.whenComplete(callback);
     } catch (KafkaException e) {
       log.error("Error on kafka producer sending message {} to topic: {}. Exception: {}", message, topicName, e.getMessage());
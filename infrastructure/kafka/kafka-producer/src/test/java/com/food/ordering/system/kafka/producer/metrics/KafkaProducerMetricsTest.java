@@ -0,0 +1,64 @@
+package com.food.ordering.system.kafka.producer.metrics;
+
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KafkaProducerMetricsTest {
+  private static final String TOPIC = "payment-request";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final KafkaProducerMetrics kafkaProducerMetrics = new KafkaProducerMetrics(meterRegistry, configData());
+
+  @Test
+  public void testAcknowledgedSendRecordsLatencyAndSize() {
+    CompletableFuture<SendResult<String, byte[]>> sendResult = new CompletableFuture<>();
+    kafkaProducerMetrics.send(TOPIC, () -> sendResult);
+
+    assertEquals(1.0, inFlight());
+
+    ProducerRecord<String, byte[]> producerRecord = new ProducerRecord<>(TOPIC, "key", new byte[74]);
+    sendResult.complete(new SendResult<>(producerRecord,
+        new RecordMetadata(new TopicPartition(TOPIC, 0), 10, 0, 0L, 36, 74)));
+
+    assertEquals(0.0, inFlight());
+    assertEquals(1, meterRegistry.get("kafka.producer.send").tag("topic", TOPIC).timer().count());
+    assertEquals(110.0, meterRegistry.get("kafka.producer.record.size").tag("topic", TOPIC).summary().totalAmount());
+  }
+
+  @Test
+  public void testFailedSendIsCountedByRootExceptionType() {
+    CompletableFuture<SendResult<String, byte[]>> sendResult = new CompletableFuture<>();
+    kafkaProducerMetrics.send(TOPIC, () -> sendResult);
+
+    sendResult.completeExceptionally(new KafkaProducerException(new ProducerRecord<>(TOPIC, "key", new byte[0]),
+        "Send failed", new TimeoutException("Expiring 1 record")));
+
+    assertEquals(0.0, inFlight());
+    assertEquals(1.0, meterRegistry.get("kafka.producer.send.errors")
+        .tag("topic", TOPIC)
+        .tag("exception", "TimeoutException")
+        .counter().count());
+    assertEquals(0, meterRegistry.get("kafka.producer.send").tag("topic", TOPIC).timer().count());
+  }
+
+  private double inFlight() {
+    return meterRegistry.get("kafka.producer.in.flight").tag("topic", TOPIC).gauge().value();
+  }
+
+  private static KafkaProducerConfigData configData() {
+    KafkaProducerConfigData kafkaProducerConfigData = new KafkaProducerConfigData();
+    kafkaProducerConfigData.setSendLogSampleInterval(1000L);
+    return kafkaProducerConfigData;
+  }
+}
@@ -1,29 +1,45 @@
 package com.food.ordering.system.order.service.application.rest;
 
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderStatusStreamConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import com.food.ordering.system.order.service.domain.stream.OrderStatusSubscription;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
 @RequestMapping(value = "/orders", produces = "application/vnd.api.v1+json")
 public class OrderController {
   private final OrderApplicationService orderApplicationService;
+  private final OrderStatusStreamConfigData orderStatusStreamConfigData;
 
-  public OrderController(OrderApplicationService orderApplicationService) {
+  public OrderController(OrderApplicationService orderApplicationService,
+                         OrderStatusStreamConfigData orderStatusStreamConfigData) {
     this.orderApplicationService = orderApplicationService;
+    this.orderStatusStreamConfigData = orderStatusStreamConfigData;
   }
 
   @PostMapping
@@ -34,10 +50,60 @@ public class OrderController {
     return ResponseEntity.ok(createOrderResponse);
   }
 
+  @PostMapping(value = "/batch")
+  public ResponseEntity<CreateOrderBatchResponse> createOrders(@RequestBody List<CreateOrderCommand> createOrderCommands) {
+    log.info("Creating batch of {} orders", createOrderCommands.size());
+    CreateOrderBatchResponse createOrderBatchResponse = orderApplicationService.createOrders(
+        CreateOrderBatchCommand.builder().orders(createOrderCommands).build());
+    log.info("Order batch created {} orders, rejected {}", createOrderBatchResponse.getCreatedCount(),
+        createOrderBatchResponse.getFailedCount());
+    return ResponseEntity.ok(createOrderBatchResponse);
+  }
+
   @GetMapping(value = "/{orderTrackingId}")
   public ResponseEntity<TrackOrderResponse> getOrderByTrackingId(@PathVariable UUID orderTrackingId) {
     TrackOrderResponse trackOrderResponse = orderApplicationService.trackOrder(TrackOrderQuery.builder().orderTrackingId(orderTrackingId).build());
     log.info("Order tracked with orderTrackingId: {}", trackOrderResponse.getOrderTrackingId());
     return ResponseEntity.ok(trackOrderResponse);
   }
+
+  @GetMapping(value = "/{orderTrackingId}", params = "waitForChange")
+  public DeferredResult<ResponseEntity<TrackOrderResponse>> waitForOrderStatusChange(
+      @PathVariable UUID orderTrackingId,
+      @RequestParam OrderStatus waitForChange) {
+    DeferredResult<ResponseEntity<TrackOrderResponse>> deferredResult = new DeferredResult<>();
+    CompletableFuture<TrackOrderResponse> statusChange = orderApplicationService.awaitOrderStatusChange(
+        TrackOrderQuery.builder().orderTrackingId(orderTrackingId).build(), waitForChange);
+    statusChange.thenAccept(trackOrderResponse -> deferredResult.setResult(ResponseEntity.ok(trackOrderResponse)));
+    deferredResult.onCompletion(() -> statusChange.cancel(false));
+    return deferredResult;
+  }
+
+  @GetMapping(value = "/{orderTrackingId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamOrderStatus(@PathVariable UUID orderTrackingId) {
+    SseEmitter emitter = new SseEmitter(orderStatusStreamConfigData.getEventStreamTimeoutMs());
+    OrderStatusSubscription subscription = orderApplicationService.subscribeToOrderStatus(
+        TrackOrderQuery.builder().orderTrackingId(orderTrackingId).build(),
+        trackOrderResponse -> sendOrderStatus(emitter, trackOrderResponse));
+    emitter.onCompletion(subscription::cancel);
+    emitter.onTimeout(subscription::cancel);
+    emitter.onError(e -> subscription.cancel());
+    return emitter;
+  }
+
+  private void sendOrderStatus(SseEmitter emitter, TrackOrderResponse trackOrderResponse) {
+    try {
+      emitter.send(SseEmitter.event()
+          .id(trackOrderResponse.getOrderStatus().name())
+          .name("order-status")
+          .data(trackOrderResponse, MediaType.APPLICATION_JSON));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    OrderStatus orderStatus = trackOrderResponse.getOrderStatus();
+    if (orderStatus == OrderStatus.APPROVED || orderStatus == OrderStatus.CANCELED) {
+      emitter.complete();
+    }
+  }
 }
@@ -1,14 +1,21 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7Generator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class BeanConfiguration {
 
+  @Bean
+  public IdGenerator idGenerator() {
+    return new UuidV7Generator();
+  }
+
   // TODO: rewrite this with @DomainService approach
   @Bean
-  public OrderDomainService orderDomainService() {
-    return new OrderDomainServiceImpl();
+  public OrderDomainService orderDomainService(IdGenerator idGenerator) {
+    return new OrderDomainServiceImpl(idGenerator);
   }
 }
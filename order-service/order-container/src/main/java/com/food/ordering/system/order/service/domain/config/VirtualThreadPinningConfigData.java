@@ -0,0 +1,14 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.virtual-thread-pinning")
+public class VirtualThreadPinningConfigData {
+  private Boolean enabled;
+  private Long thresholdMs;
+  private Integer stackDepth;
+}
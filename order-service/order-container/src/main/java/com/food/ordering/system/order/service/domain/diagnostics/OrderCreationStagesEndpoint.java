@@ -0,0 +1,47 @@
+package com.food.ordering.system.order.service.domain.diagnostics;
+
+import com.food.ordering.system.order.service.domain.instrumentation.OrderCreationStage;
+import com.food.ordering.system.order.service.domain.instrumentation.OrderCreationStageTimer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency breakdown of order creation per stage. {@code persist} covers the transactional part including the commit,
+ * so what it has beyond the stages inside it is mostly commit time. {@code shareOfTotal} compares mean latencies.
+ */
+@Component
+@Endpoint(id = "ordercreationstages")
+public class OrderCreationStagesEndpoint {
+  private final OrderCreationStageTimer orderCreationStageTimer;
+
+  public OrderCreationStagesEndpoint(OrderCreationStageTimer orderCreationStageTimer) {
+    this.orderCreationStageTimer = orderCreationStageTimer;
+  }
+
+  @ReadOperation
+  public Map<String, Map<String, Object>> stages() {
+    Map<OrderCreationStage, HistogramSnapshot> snapshots = orderCreationStageTimer.snapshots();
+    double totalMean = snapshots.get(OrderCreationStage.TOTAL).mean(TimeUnit.MILLISECONDS);
+
+    Map<String, Map<String, Object>> stages = new LinkedHashMap<>();
+    snapshots.forEach((stage, snapshot) -> {
+      Map<String, Object> breakdown = new LinkedHashMap<>();
+      breakdown.put("count", snapshot.count());
+      breakdown.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+      breakdown.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+      for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+        breakdown.put("p" + Math.round(percentile.percentile() * 100) + "Ms", percentile.value(TimeUnit.MILLISECONDS));
+      }
+      breakdown.put("shareOfTotal", totalMean > 0 ? snapshot.mean(TimeUnit.MILLISECONDS) / totalMean : 0.0);
+      stages.put(stage.getTagValue(), breakdown);
+    });
+    return stages;
+  }
+}
@@ -0,0 +1,99 @@
+package com.food.ordering.system.order.service.domain.diagnostics;
+
+import com.food.ordering.system.order.service.domain.config.VirtualThreadPinningConfigData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event while the service runs on virtual threads and reports
+ * which code path (JDBC, Kafka, application) held the carrier thread, e.g. a blocking call inside a
+ * {@code synchronized} block.
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+  private static final String VIRTUAL_THREAD_PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  private final Environment environment;
+  private final VirtualThreadPinningConfigData virtualThreadPinningConfigData;
+  private final MeterRegistry meterRegistry;
+
+  private RecordingStream recordingStream;
+
+  public VirtualThreadPinningMonitor(Environment environment,
+                                     VirtualThreadPinningConfigData virtualThreadPinningConfigData,
+                                     MeterRegistry meterRegistry) {
+    this.environment = environment;
+    this.virtualThreadPinningConfigData = virtualThreadPinningConfigData;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!Boolean.TRUE.equals(virtualThreadPinningConfigData.getEnabled()) || !Threading.VIRTUAL.isActive(environment)) {
+      return;
+    }
+
+    recordingStream = new RecordingStream();
+    recordingStream.enable(VIRTUAL_THREAD_PINNED_EVENT)
+        .withThreshold(Duration.ofMillis(virtualThreadPinningConfigData.getThresholdMs()))
+        .withStackTrace();
+    recordingStream.onEvent(VIRTUAL_THREAD_PINNED_EVENT, this::pinned);
+    recordingStream.startAsync();
+    log.info("Monitoring virtual thread pinning longer than {} ms", virtualThreadPinningConfigData.getThresholdMs());
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (recordingStream != null) {
+      recordingStream.close();
+    }
+  }
+
+  private void pinned(RecordedEvent event) {
+    List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+    String source = source(frames);
+
+    Counter.builder("jvm.threads.virtual.pinned")
+        .tag("source", source)
+        .register(meterRegistry)
+        .increment();
+
+    log.warn("Virtual thread pinned for {} ms in {} code:\n{}", event.getDuration().toMillis(), source,
+        frames.stream()
+            .limit(virtualThreadPinningConfigData.getStackDepth())
+            .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")")
+            .collect(Collectors.joining("\n")));
+  }
+
+  private String source(List<RecordedFrame> frames) {
+    for (RecordedFrame frame : frames) {
+      String className = frame.getMethod().getType().getName();
+      if (className.startsWith("org.postgresql.") || className.startsWith("com.zaxxer.hikari.")
+          || className.startsWith("org.hibernate.")) {
+        return "jdbc";
+      }
+      if (className.startsWith("org.apache.kafka.") || className.startsWith("org.springframework.kafka.")) {
+        return "kafka";
+      }
+      if (className.startsWith("com.food.ordering.system.")) {
+        return "application";
+      }
+    }
+    return "other";
+  }
+}
@@ -1,13 +1,6 @@
-DROP SCHEMA IF EXISTS "order" CASCADE;
-
-CREATE SCHEMA "order";
-
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
-DROP TYPE IF EXISTS order_status;
-CREATE TYPE order_status AS ENUM ('PENDING', 'PAID', 'APPROVED', 'CANCELING', 'CANCELED');
-
-DROP TABLE IF EXISTS "order".orders;
+CREATE TYPE "order".order_status AS ENUM ('PENDING', 'PAID', 'APPROVED', 'CANCELING', 'CANCELED');
 
 CREATE TABLE "order".orders
 (
@@ -16,13 +9,11 @@ CREATE TABLE "order".orders
     restaurant_id UUID NOT NULL,
     tracking_id UUID NOT NULL,
     price NUMERIC(10,2) NOT NULL,
-    order_status order_status NOT NULL,
+    order_status "order".order_status NOT NULL,
     failure_messages CHARACTER VARYING COLLATE pg_catalog."default",
     CONSTRAINT orders_pkey PRIMARY KEY (id)
 );
 
-DROP TABLE IF EXISTS "order".order_items CASCADE;
-
 CREATE TABLE "order".order_items
 (
     id BIGINT NOT NULL,
@@ -41,8 +32,6 @@ ALTER TABLE "order".order_items
     ON DELETE CASCADE
     NOT VALID;
 
-DROP TABLE IF EXISTS "order".order_address CASCADE;
-
 CREATE TABLE "order".order_address
 (
     id UUID NOT NULL,
@@ -58,4 +47,34 @@ ALTER TABLE "order".order_address
     REFERENCES "order".orders (id) MATCH SIMPLE
     ON UPDATE NO ACTION
     ON DELETE CASCADE
-    NOT VALID;
\ No newline at end of file
+    NOT VALID;
+
+CREATE TABLE "order".outbox
+(
+    id UUID NOT NULL,
+    aggregate_id UUID NOT NULL,
+    topic CHARACTER VARYING COLLATE pg_catalog."default" NOT NULL,
+    message_key CHARACTER VARYING COLLATE pg_catalog."default" NOT NULL,
+    payload_type CHARACTER VARYING COLLATE pg_catalog."default" NOT NULL,
+    payload BYTEA NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX outbox_created_at_idx
+    ON "order".outbox (created_at);
+
+CREATE OR REPLACE FUNCTION "order".notify_order_tracking_changed()
+RETURNS TRIGGER
+AS '
+    BEGIN
+        PERFORM pg_notify(''order_tracking_changed'', NEW.tracking_id::text);
+        RETURN NULL;
+    END;
+' LANGUAGE plpgsql;
+
+CREATE TRIGGER notify_order_tracking_changed
+    AFTER UPDATE OF order_status, failure_messages
+                    ON "order".orders
+                        FOR EACH ROW
+                        EXECUTE FUNCTION "order".notify_order_tracking_changed();
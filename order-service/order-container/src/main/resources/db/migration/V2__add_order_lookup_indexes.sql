@@ -0,0 +1,17 @@
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS orders_tracking_id_idx
+    ON "order".orders (tracking_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS orders_customer_id_idx
+    ON "order".orders (customer_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS orders_restaurant_id_idx
+    ON "order".orders (restaurant_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS orders_order_status_idx
+    ON "order".orders (order_status);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS order_items_order_id_idx
+    ON "order".order_items (order_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS order_address_order_id_idx
+    ON "order".order_address (order_id);
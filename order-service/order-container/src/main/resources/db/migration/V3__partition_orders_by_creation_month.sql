@@ -0,0 +1,166 @@
+-- Order ids are UUIDv7, so their leading 48 bits are the creation time in unix milliseconds and a range of ids
+-- is a range of creation times. orders, order_items and order_address are partitioned by month on the order id,
+-- which keeps the existing primary keys and foreign keys valid without adding a timestamp column.
+
+CREATE FUNCTION "order".uuid_v7_lower_bound(ts TIMESTAMP WITH TIME ZONE)
+RETURNS UUID
+AS $$
+    SELECT (lpad(to_hex((extract(EPOCH FROM ts) * 1000)::BIGINT), 12, '0') || repeat('0', 20))::UUID;
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE FUNCTION "order".uuid_v7_timestamp(id UUID)
+RETURNS TIMESTAMP WITH TIME ZONE
+AS $$
+    SELECT to_timestamp(('x' || substr(replace(id::TEXT, '-', ''), 1, 12))::BIT(48)::BIGINT / 1000.0);
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE FUNCTION "order".create_order_partitions(from_month DATE, to_month DATE)
+RETURNS INT
+AS $$
+DECLARE
+    partition_month DATE := date_trunc('month', from_month);
+    partition_suffix TEXT;
+    lower_bound UUID;
+    upper_bound UUID;
+    partitioned_table TEXT;
+    created INT := 0;
+BEGIN
+    WHILE partition_month <= to_month LOOP
+        partition_suffix := to_char(partition_month, '"p"YYYY_MM');
+        lower_bound := "order".uuid_v7_lower_bound(partition_month::TIMESTAMP AT TIME ZONE 'UTC');
+        upper_bound := "order".uuid_v7_lower_bound((partition_month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC');
+
+        FOREACH partitioned_table IN ARRAY ARRAY['orders', 'order_items', 'order_address'] LOOP
+            IF to_regclass(format('"order".%I', partitioned_table || '_' || partition_suffix)) IS NULL THEN
+                EXECUTE format('CREATE TABLE "order".%I PARTITION OF "order".%I FOR VALUES FROM (%L) TO (%L)',
+                    partitioned_table || '_' || partition_suffix, partitioned_table, lower_bound, upper_bound);
+                created := created + 1;
+            END IF;
+        END LOOP;
+
+        partition_month := partition_month + INTERVAL '1 month';
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION "order".expired_order_partitions(before_month DATE)
+RETURNS SETOF TEXT
+AS $$
+    SELECT substr(c.relname, length('orders_') + 1)
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = '"order".orders'::REGCLASS
+      AND c.relname ~ '^orders_p[0-9]{4}_[0-9]{2}$'
+      AND to_date(substr(c.relname, length('orders_p') + 1), 'YYYY_MM') + INTERVAL '1 month' <= before_month
+    ORDER BY c.relname;
+$$ LANGUAGE sql STABLE;
+
+-- Only UUIDv7 ids map to a month. Older random (v4) ids would decode to arbitrary timestamps, matching no partition
+-- or creating partitions for arbitrary years, so the migration refuses to run until they are rewritten or removed.
+DO $$
+DECLARE
+    invalid_count BIGINT;
+    invalid_ids TEXT;
+BEGIN
+    SELECT count(*), string_agg(id::TEXT, ', ') FILTER (WHERE rn <= 20)
+    INTO invalid_count, invalid_ids
+    FROM (SELECT id, row_number() OVER (ORDER BY id) AS rn
+          FROM "order".orders
+          WHERE substr(id::TEXT, 15, 1) <> '7'
+             OR "order".uuid_v7_timestamp(id) > now() + INTERVAL '3 months') invalid;
+
+    IF invalid_count > 0 THEN
+        RAISE EXCEPTION 'Cannot partition orders: % order ids are not UUIDv7 or lie in the future, e.g. %',
+            invalid_count, invalid_ids
+            USING HINT = 'Rewrite or remove these orders before running this migration.';
+    END IF;
+END;
+$$;
+
+CREATE TEMPORARY TABLE orders_copy AS SELECT * FROM "order".orders;
+CREATE TEMPORARY TABLE order_items_copy AS SELECT * FROM "order".order_items;
+CREATE TEMPORARY TABLE order_address_copy AS SELECT * FROM "order".order_address;
+
+DROP TABLE "order".order_items, "order".order_address, "order".orders;
+
+CREATE TABLE "order".orders
+(
+    id UUID NOT NULL,
+    customer_id UUID NOT NULL,
+    restaurant_id UUID NOT NULL,
+    tracking_id UUID NOT NULL,
+    price NUMERIC(10,2) NOT NULL,
+    order_status "order".order_status NOT NULL,
+    failure_messages CHARACTER VARYING COLLATE pg_catalog."default",
+    CONSTRAINT orders_pkey PRIMARY KEY (id)
+) PARTITION BY RANGE (id);
+
+CREATE TABLE "order".order_items
+(
+    id BIGINT NOT NULL,
+    order_id UUID NOT NULL,
+    product_id UUID NOT NULL,
+    price NUMERIC(10,2) NOT NULL,
+    quantity INT NOT NULL,
+    sub_total NUMERIC(10,2) NOT NULL,
+    CONSTRAINT order_items_pkey PRIMARY KEY (id, order_id)
+) PARTITION BY RANGE (order_id);
+
+ALTER TABLE "order".order_items
+    ADD CONSTRAINT "FK_ORDER_ID" FOREIGN KEY (order_id)
+    REFERENCES "order".orders (id) MATCH SIMPLE
+    ON UPDATE NO ACTION
+    ON DELETE CASCADE;
+
+CREATE TABLE "order".order_address
+(
+    id UUID NOT NULL,
+    order_id UUID NOT NULL,
+    street CHARACTER VARYING COLLATE pg_catalog."default" NOT NULL,
+    postal_code CHARACTER VARYING COLLATE pg_catalog."default" NOT NULL,
+    city CHARACTER VARYING COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT order_address_pkey PRIMARY KEY (id, order_id)
+) PARTITION BY RANGE (order_id);
+
+ALTER TABLE "order".order_address
+    ADD CONSTRAINT "FK_ORDER_ID" FOREIGN KEY (order_id)
+    REFERENCES "order".orders (id) MATCH SIMPLE
+    ON UPDATE NO ACTION
+    ON DELETE CASCADE;
+
+-- A unique index on a partitioned table has to contain the partition key, so tracking_id is no longer enforced
+-- unique by the database; tracking ids come from the same UUIDv7 generator as order ids.
+CREATE INDEX orders_tracking_id_idx
+    ON "order".orders (tracking_id);
+
+CREATE INDEX orders_customer_id_idx
+    ON "order".orders (customer_id);
+
+CREATE INDEX orders_restaurant_id_idx
+    ON "order".orders (restaurant_id);
+
+CREATE INDEX orders_order_status_idx
+    ON "order".orders (order_status);
+
+CREATE INDEX order_items_order_id_idx
+    ON "order".order_items (order_id);
+
+CREATE INDEX order_address_order_id_idx
+    ON "order".order_address (order_id);
+
+CREATE TRIGGER notify_order_tracking_changed
+    AFTER UPDATE OF order_status, failure_messages
+                    ON "order".orders
+                        FOR EACH ROW
+                        EXECUTE FUNCTION "order".notify_order_tracking_changed();
+
+SELECT "order".create_order_partitions(
+    LEAST((SELECT min("order".uuid_v7_timestamp(id)) FROM orders_copy), now())::DATE,
+    (now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO "order".orders SELECT * FROM orders_copy;
+INSERT INTO "order".order_address SELECT * FROM order_address_copy;
+INSERT INTO "order".order_items SELECT * FROM order_items_copy;
+
+DROP TABLE orders_copy, order_items_copy, order_address_copy;
@@ -0,0 +1,16 @@
+-- The trigger lists failure_messages as an UPDATE OF column, which blocks changing the column type.
+DROP TRIGGER notify_order_tracking_changed ON "order".orders;
+
+ALTER TABLE "order".orders
+    ALTER COLUMN failure_messages TYPE TEXT[]
+        USING CASE
+            WHEN failure_messages IS NULL OR failure_messages = '' THEN '{}'::TEXT[]
+            ELSE string_to_array(failure_messages, ',')
+        END,
+    ALTER COLUMN failure_messages SET DEFAULT '{}';
+
+CREATE TRIGGER notify_order_tracking_changed
+    AFTER UPDATE OF order_status, failure_messages
+                    ON "order".orders
+                        FOR EACH ROW
+                        EXECUTE FUNCTION "order".notify_order_tracking_changed();
@@ -0,0 +1,8 @@
+-- Ids of saga response messages already applied to orders, written in the same transaction as the order status
+-- change so a redelivered message can be discarded before its order is loaded.
+CREATE TABLE "order".processed_messages
+(
+    message_id UUID NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT processed_messages_pkey PRIMARY KEY (message_id)
+);
@@ -0,0 +1,49 @@
+-- One row per order saga, keyed by the order id. Saga response handlers move a saga between order statuses with a
+-- compare-and-set on version instead of locking the order rows. Partitioned like orders so the rows of a month are
+-- dropped together with its order partitions.
+CREATE TABLE "order".order_saga
+(
+    saga_id UUID NOT NULL,
+    order_id UUID NOT NULL,
+    status "order".order_status NOT NULL,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT order_saga_pkey PRIMARY KEY (saga_id)
+) PARTITION BY RANGE (saga_id);
+
+CREATE OR REPLACE FUNCTION "order".create_order_partitions(from_month DATE, to_month DATE)
+RETURNS INT
+AS $$
+DECLARE
+    partition_month DATE := date_trunc('month', from_month);
+    partition_suffix TEXT;
+    lower_bound UUID;
+    upper_bound UUID;
+    partitioned_table TEXT;
+    created INT := 0;
+BEGIN
+    WHILE partition_month <= to_month LOOP
+        partition_suffix := to_char(partition_month, '"p"YYYY_MM');
+        lower_bound := "order".uuid_v7_lower_bound(partition_month::TIMESTAMP AT TIME ZONE 'UTC');
+        upper_bound := "order".uuid_v7_lower_bound((partition_month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC');
+
+        FOREACH partitioned_table IN ARRAY ARRAY['orders', 'order_items', 'order_address', 'order_saga'] LOOP
+            IF to_regclass(format('"order".%I', partitioned_table || '_' || partition_suffix)) IS NULL THEN
+                EXECUTE format('CREATE TABLE "order".%I PARTITION OF "order".%I FOR VALUES FROM (%L) TO (%L)',
+                    partitioned_table || '_' || partition_suffix, partitioned_table, lower_bound, upper_bound);
+                created := created + 1;
+            END IF;
+        END LOOP;
+
+        partition_month := partition_month + INTERVAL '1 month';
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT "order".create_order_partitions(
+    LEAST((SELECT min("order".uuid_v7_timestamp(id)) FROM "order".orders), now())::DATE,
+    (now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO "order".order_saga (saga_id, order_id, status, version)
+SELECT id, id, order_status, 0 FROM "order".orders;
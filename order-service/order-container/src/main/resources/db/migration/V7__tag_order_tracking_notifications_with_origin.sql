@@ -0,0 +1,13 @@
+-- Writers name themselves with set_config('order.notification_origin', ..., true) before updating order statuses,
+-- and the notification carries that name after the tracking id, so the writing instance can skip its own changes
+-- instead of evicting the tracking response it has just cached. Changes made without an origin, e.g. by hand, keep
+-- the plain tracking id payload and are applied by every instance.
+CREATE OR REPLACE FUNCTION "order".notify_order_tracking_changed()
+RETURNS TRIGGER
+AS $$
+BEGIN
+    PERFORM pg_notify('order_tracking_changed',
+        NEW.tracking_id::TEXT || coalesce(':' || nullif(current_setting('order.notification_origin', true), ''), ''));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
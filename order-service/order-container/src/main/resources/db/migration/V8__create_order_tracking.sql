@@ -0,0 +1,34 @@
+-- Since orders is partitioned by id, tracking_id could no longer be unique and a lookup by tracking id probed the
+-- tracking_id index of every monthly partition. order_tracking maps each tracking id to its order id outside the
+-- partitions: its primary key keeps tracking ids unique, and the order is then read by id from one partition.
+CREATE TABLE "order".order_tracking
+(
+    tracking_id UUID NOT NULL,
+    order_id UUID NOT NULL,
+    CONSTRAINT order_tracking_pkey PRIMARY KEY (tracking_id)
+);
+
+-- Order ids are UUIDv7, so retention deletes the rows of an expired month as one range of this index.
+CREATE INDEX order_tracking_order_id_idx
+    ON "order".order_tracking (order_id);
+
+INSERT INTO "order".order_tracking (tracking_id, order_id)
+SELECT tracking_id, id FROM "order".orders;
+
+DROP INDEX "order".orders_tracking_id_idx;
+
+-- Deletes the order_tracking rows of the orders in the monthly partition with the given suffix, e.g. p2024_01.
+CREATE FUNCTION "order".delete_order_tracking(partition_suffix TEXT)
+RETURNS BIGINT
+AS $$
+DECLARE
+    partition_month DATE := to_date(substr(partition_suffix, 2), 'YYYY_MM');
+    deleted BIGINT;
+BEGIN
+    DELETE FROM "order".order_tracking
+    WHERE order_id >= "order".uuid_v7_lower_bound(partition_month::TIMESTAMP AT TIME ZONE 'UTC')
+      AND order_id < "order".uuid_v7_lower_bound((partition_month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC');
+    GET DIAGNOSTICS deleted = ROW_COUNT;
+    RETURN deleted;
+END;
+$$ LANGUAGE plpgsql;
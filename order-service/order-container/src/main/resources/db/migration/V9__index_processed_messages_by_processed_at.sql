@@ -0,0 +1,3 @@
+-- Retention deletes processed message ids older than processed-messages-retention-days in batches of this index.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS processed_messages_processed_at_idx
+    ON "order".processed_messages (processed_at);
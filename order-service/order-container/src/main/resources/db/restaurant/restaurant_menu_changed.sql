@@ -0,0 +1,36 @@
+-- Installs the NOTIFY that RestaurantMenuInvalidationListener depends on. The restaurant schema and its
+-- order_restaurant_m_view belong to the restaurant service, so this script is not a Flyway migration of the order
+-- service: run it against the restaurant schema as part of the restaurant service's migrations.
+--
+-- An empty payload evicts every cached menu; a restaurant id evicts that menu only. NOTIFY is delivered at commit,
+-- after the materialized view refresh done in the same transaction, so a reload never sees the previous menu.
+
+CREATE OR REPLACE FUNCTION restaurant.notify_restaurant_menu_changed()
+RETURNS TRIGGER
+AS $$
+BEGIN
+    PERFORM pg_notify('restaurant_menu_changed', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS notify_restaurant_menu_changed ON restaurant.restaurants;
+CREATE TRIGGER notify_restaurant_menu_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON restaurant.restaurants
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION restaurant.notify_restaurant_menu_changed();
+
+DROP TRIGGER IF EXISTS notify_restaurant_menu_changed ON restaurant.products;
+CREATE TRIGGER notify_restaurant_menu_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON restaurant.products
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION restaurant.notify_restaurant_menu_changed();
+
+DROP TRIGGER IF EXISTS notify_restaurant_menu_changed ON restaurant.restaurant_products;
+CREATE TRIGGER notify_restaurant_menu_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON restaurant.restaurant_products
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION restaurant.notify_restaurant_menu_changed();
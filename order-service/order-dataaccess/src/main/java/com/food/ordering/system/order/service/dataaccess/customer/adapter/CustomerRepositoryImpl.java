@@ -7,6 +7,8 @@ import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,4 +26,11 @@ public class CustomerRepositoryImpl implements CustomerRepository {
   public Optional<Customer> findCustomer(UUID customerId) {
     return customerJpaRepository.findById(customerId).map(customerDataAccessMapper::CustomerEntityToCustomer);
   }
+
+  @Override
+  public List<Customer> findCustomers(Collection<UUID> customerIds) {
+    return customerJpaRepository.findAllById(customerIds).stream()
+        .map(customerDataAccessMapper::CustomerEntityToCustomer)
+        .toList();
+  }
 }
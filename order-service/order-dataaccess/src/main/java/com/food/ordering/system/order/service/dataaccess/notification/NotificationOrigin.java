@@ -0,0 +1,22 @@
+package com.food.ordering.system.order.service.dataaccess.notification;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Names this instance in the notifications raised by its own writes, so a listener can skip the changes it has
+ * already applied locally.
+ */
+@Component
+public class NotificationOrigin {
+  private final String id = UUID.randomUUID().toString();
+
+  public String getId() {
+    return id;
+  }
+
+  public boolean isSelf(String origin) {
+    return id.equals(origin);
+  }
+}
@@ -0,0 +1,111 @@
+package com.food.ordering.system.order.service.dataaccess.notification;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.postgresql.PGProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Holds LISTEN on a connection opened through the driver rather than borrowed from the pool, so it neither takes a
+ * pool slot for the lifetime of the application nor blocks the pool from retiring connections at their max lifetime.
+ */
+@Slf4j
+public abstract class PostgresNotificationListener {
+  private final DataSourceProperties dataSourceProperties;
+  private final String channel;
+  private final int pollTimeoutMs;
+  private final long reconnectDelayMs;
+  private final Thread listenerThread;
+  private volatile boolean running;
+
+  protected PostgresNotificationListener(DataSourceProperties dataSourceProperties,
+                                         String channel,
+                                         int pollTimeoutMs,
+                                         long reconnectDelayMs) {
+    this.dataSourceProperties = dataSourceProperties;
+    this.channel = channel;
+    this.pollTimeoutMs = pollTimeoutMs;
+    this.reconnectDelayMs = reconnectDelayMs;
+    this.listenerThread = new Thread(this::listen, channel + "-listener");
+    this.listenerThread.setDaemon(true);
+  }
+
+  /**
+   * Called whenever LISTEN is (re)established. Notifications sent while nothing was listening are lost.
+   */
+  protected abstract void onListening();
+
+  protected abstract void onNotification(String payload);
+
+  protected abstract void onConnectionLost();
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    listenerThread.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    listenerThread.interrupt();
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection = openListenerConnection()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN \"" + channel + "\"");
+        }
+        log.info("Listening for notifications on channel: {}", channel);
+        onListening();
+        receiveNotifications(connection.unwrap(PGConnection.class));
+      } catch (SQLException e) {
+        if (running) {
+          log.error("Listener on channel {} failed, reconnecting in {} ms", channel, reconnectDelayMs, e);
+          onConnectionLost();
+          sleepBeforeReconnect();
+        }
+      }
+    }
+  }
+
+  private void receiveNotifications(PGConnection connection) throws SQLException {
+    while (running) {
+      PGNotification[] notifications = connection.getNotifications(pollTimeoutMs);
+
+      if (notifications == null) {
+        continue;
+      }
+
+      for (PGNotification notification : notifications) {
+        onNotification(notification.getParameter());
+      }
+    }
+  }
+
+  private Connection openListenerConnection() throws SQLException {
+    Properties properties = new Properties();
+    PGProperty.USER.set(properties, dataSourceProperties.getUsername());
+    PGProperty.PASSWORD.set(properties, dataSourceProperties.getPassword());
+    PGProperty.APPLICATION_NAME.set(properties, channel + "-listener");
+    return DriverManager.getConnection(dataSourceProperties.getUrl(), properties);
+  }
+
+  private void sleepBeforeReconnect() {
+    try {
+      Thread.sleep(reconnectDelayMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -1,34 +1,79 @@
 package com.food.ordering.system.order.service.dataaccess.order.adapter;
 
+import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJdbcRepository;
 import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 @Component
 public class OrderRepositoryImpl implements OrderRepository {
   private final OrderJpaRepository orderJpaRepository;
+  private final OrderJdbcRepository orderJdbcRepository;
   private final OrderDataAccessMapper orderDataAccessMapper;
 
-  public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository, OrderDataAccessMapper orderDataAccessMapper) {
+  public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository,
+                             OrderJdbcRepository orderJdbcRepository,
+                             OrderDataAccessMapper orderDataAccessMapper) {
     this.orderJpaRepository = orderJpaRepository;
+    this.orderJdbcRepository = orderJdbcRepository;
     this.orderDataAccessMapper = orderDataAccessMapper;
   }
 
   @Override
   public Order save(Order order) {
-    OrderEntity savedOrderEntity = orderJpaRepository.save(orderDataAccessMapper.orderToOrderEntity(order));
+    OrderEntity orderEntity = orderDataAccessMapper.orderToOrderEntity(order);
+    orderJdbcRepository.insertTracking(List.of(orderEntity));
+    OrderEntity savedOrderEntity = orderJpaRepository.save(orderEntity);
     return orderDataAccessMapper.orderEntityToOrder(savedOrderEntity);
   }
 
+  @Override
+  public void saveAll(List<Order> orders) {
+    orderJdbcRepository.insertAll(orders.stream()
+        .map(orderDataAccessMapper::orderToOrderEntity)
+        .toList());
+  }
+
   @Override
   public Optional<Order> findOrderByTrackingId(TrackingId trackingId) {
     return orderJpaRepository.findByTrackingId(trackingId.getValue())
         .map(orderDataAccessMapper::orderEntityToOrder);
   }
+
+  @Override
+  public Optional<TrackOrderResponse> findTrackOrderResponseByTrackingId(TrackingId trackingId) {
+    return orderJpaRepository.findTrackingByTrackingId(trackingId.getValue())
+        .map(orderDataAccessMapper::orderTrackingProjectionToTrackOrderResponse);
+  }
+
+  @Override
+  public List<TrackOrderResponse> findTrackOrderResponsesByTrackingIds(List<TrackingId> trackingIds) {
+    return orderJdbcRepository.findTrackingByTrackingIds(trackingIds.stream().map(TrackingId::getValue).toList())
+        .stream()
+        .map(orderDataAccessMapper::orderTrackingProjectionToTrackOrderResponse)
+        .toList();
+  }
+
+  @Override
+  public List<Order> findOrdersByIds(List<OrderId> orderIds) {
+    return orderJdbcRepository.findByIds(orderIds.stream().map(OrderId::getValue).toList()).stream()
+        .map(orderDataAccessMapper::orderEntityToOrder)
+        .toList();
+  }
+
+  @Override
+  public void updateOrderStatuses(List<Order> orders) {
+    orderJdbcRepository.updateOrderStatuses(orders.stream()
+        .map(orderDataAccessMapper::orderToOrderEntity)
+        .toList());
+  }
 }
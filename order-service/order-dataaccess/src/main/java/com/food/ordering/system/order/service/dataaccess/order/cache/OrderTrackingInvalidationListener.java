@@ -0,0 +1,68 @@
+package com.food.ordering.system.order.service.dataaccess.order.cache;
+
+import com.food.ordering.system.order.service.dataaccess.notification.NotificationOrigin;
+import com.food.ordering.system.order.service.dataaccess.notification.PostgresNotificationListener;
+import com.food.ordering.system.order.service.domain.config.OrderTrackingCacheConfigData;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking.OrderTrackingChangeListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class OrderTrackingInvalidationListener extends PostgresNotificationListener {
+  private final List<OrderTrackingChangeListener> orderTrackingChangeListeners;
+  private final NotificationOrigin notificationOrigin;
+
+  public OrderTrackingInvalidationListener(DataSourceProperties dataSourceProperties,
+                                           List<OrderTrackingChangeListener> orderTrackingChangeListeners,
+                                           NotificationOrigin notificationOrigin,
+                                           OrderTrackingCacheConfigData orderTrackingCacheConfigData) {
+    super(dataSourceProperties,
+        orderTrackingCacheConfigData.getInvalidationChannel(),
+        orderTrackingCacheConfigData.getInvalidationPollTimeoutMs(),
+        orderTrackingCacheConfigData.getReconnectDelayMs());
+    this.orderTrackingChangeListeners = orderTrackingChangeListeners;
+    this.notificationOrigin = notificationOrigin;
+  }
+
+  @Override
+  protected void onListening() {
+    orderTrackingChangeListeners.forEach(OrderTrackingChangeListener::allOrderTrackingChanged);
+  }
+
+  @Override
+  protected void onConnectionLost() {
+    orderTrackingChangeListeners.forEach(OrderTrackingChangeListener::allOrderTrackingChanged);
+  }
+
+  /**
+   * The payload is the tracking id, followed by {@code :origin} when the writer named itself. Changes written by this
+   * instance were already applied to its cache and subscribers after commit, so they are skipped here.
+   */
+  @Override
+  protected void onNotification(String payload) {
+    if (payload == null || payload.isBlank()) {
+      orderTrackingChangeListeners.forEach(OrderTrackingChangeListener::allOrderTrackingChanged);
+      return;
+    }
+
+    String[] parts = payload.trim().split(":", 2);
+    if (parts.length == 2 && notificationOrigin.isSelf(parts[1])) {
+      return;
+    }
+
+    UUID trackingId;
+    try {
+      trackingId = UUID.fromString(parts[0]);
+    } catch (IllegalArgumentException e) {
+      log.warn("Unexpected order tracking notification payload: {}, invalidating all tracked orders", payload);
+      orderTrackingChangeListeners.forEach(OrderTrackingChangeListener::allOrderTrackingChanged);
+      return;
+    }
+    orderTrackingChangeListeners.forEach(listener -> listener.orderTrackingChanged(trackingId));
+  }
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.dataaccess.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.partitioning")
+public class OrderPartitionConfigData {
+  private Boolean maintenanceEnabled;
+  private Long maintenanceIntervalMs;
+  private Integer premakeMonths;
+  private Integer retentionMonths;
+  private Integer maxDroppedPartitionsPerRun;
+  private Integer processedMessagesRetentionDays;
+  private Integer processedMessagesDeleteBatchSize;
+}
@@ -8,11 +8,17 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -25,7 +31,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Table(name = "orders")
 @Entity
-public class OrderEntity {
+public class OrderEntity implements Persistable<UUID> {
   @Id
   private UUID id;
   private UUID customerId;
@@ -34,7 +40,8 @@ public class OrderEntity {
   private BigDecimal price;
   @Enumerated(EnumType.STRING)
   private OrderStatus orderStatus;
-  private String failureMessages;
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  private String[] failureMessages;
 
   @OneToOne(mappedBy = "order", cascade = CascadeType.ALL)
   private OrderAddressEntity address;
@@ -42,6 +49,20 @@ public class OrderEntity {
   @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
   private List<OrderItemEntity> items;
 
+  @Transient
+  private boolean persisted;
+
+  @Override
+  public boolean isNew() {
+    return !persisted;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markPersisted() {
+    persisted = true;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (o == null || getClass() != o.getClass()) return false;
@@ -0,0 +1,41 @@
+package com.food.ordering.system.order.service.dataaccess.order.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Maps a tracking id to its order. Kept out of the monthly partitions of orders so that tracking ids stay unique and
+ * a lookup by tracking id probes one index instead of one per partition. Rows are written with plain inserts by
+ * {@link com.food.ordering.system.order.service.dataaccess.order.repository.OrderJdbcRepository}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "order_tracking")
+@Entity
+public class OrderTrackingEntity {
+  @Id
+  private UUID trackingId;
+  private UUID orderId;
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == null || getClass() != o.getClass()) return false;
+    OrderTrackingEntity that = (OrderTrackingEntity) o;
+    return Objects.equals(trackingId, that.trackingId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(trackingId);
+  }
+}
@@ -8,6 +8,8 @@ import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderTrackingProjection;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
@@ -16,14 +18,13 @@ import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
-
 @Component
 public class OrderDataAccessMapper {
+  private static final String[] NO_FAILURE_MESSAGES = new String[0];
+
   public OrderEntity orderToOrderEntity(Order order) {
     OrderEntity orderEntity = OrderEntity.builder()
         .id(order.getId().getValue())
@@ -34,7 +35,7 @@ public class OrderDataAccessMapper {
         .price(order.getPrice().getAmount())
         .items(orderItemsToOrderItemEntities(order.getItems()))
         .orderStatus(order.getOrderStatus())
-        .failureMessages(order.getFailureMessages() != null ? String.join(FAILURE_MESSAGE_DELIMITER, order.getFailureMessages()) : "")
+        .failureMessages(order.getFailureMessages() != null ? order.getFailureMessages().toArray(String[]::new) : NO_FAILURE_MESSAGES)
         .build();
 
     orderEntity.getAddress().setOrder(orderEntity);
@@ -53,7 +54,17 @@ public class OrderDataAccessMapper {
         .price(new Money(orderEntity.getPrice()))
         .items(orderItemEntitiesToOrderItems(orderEntity.getItems()))
         .orderStatus(orderEntity.getOrderStatus())
-        .failureMessages(orderEntity.getFailureMessages() != null ? new ArrayList<>(Arrays.asList(orderEntity.getFailureMessages().split(FAILURE_MESSAGE_DELIMITER))) : new ArrayList<>())
+        .failureMessages(orderEntity.getFailureMessages() != null ? Arrays.asList(orderEntity.getFailureMessages()) : List.of())
+        .build();
+  }
+
+  public TrackOrderResponse orderTrackingProjectionToTrackOrderResponse(OrderTrackingProjection orderTrackingProjection) {
+    return TrackOrderResponse.builder()
+        .orderTrackingId(orderTrackingProjection.getTrackingId())
+        .orderStatus(orderTrackingProjection.getOrderStatus())
+        .failureMessage(orderTrackingProjection.getFailureMessages() != null
+            ? Arrays.asList(orderTrackingProjection.getFailureMessages())
+            : List.of())
         .build();
   }
 
@@ -0,0 +1,205 @@
+package com.food.ordering.system.order.service.dataaccess.order.partition;
+
+import com.food.ordering.system.order.service.dataaccess.order.config.OrderPartitionConfigData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps monthly partitions of orders, order_items and order_address created ahead of time and detaches and drops
+ * the ones past retention. Partitions are detached CONCURRENTLY, child tables first, so readers and writers of the
+ * current partitions are never blocked. The unpartitioned order_tracking rows of an expired month are deleted before
+ * its partitions are dropped. Processed saga message ids older than processed-messages-retention-days are deleted in
+ * batches, each in its own transaction. Only one node runs maintenance at a time.
+ */
+@Slf4j
+@Component
+public class OrderPartitionMaintenance {
+  private static final List<String> CHILD_TABLES_FIRST = List.of("order_saga", "order_items", "order_address", "orders");
+
+  private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(hashtext('order.partitions'))";
+  private static final String UNLOCK = "SELECT pg_advisory_unlock(hashtext('order.partitions'))";
+  private static final String CREATE_PARTITIONS = "SELECT \"order\".create_order_partitions(" +
+      "current_date, (current_date + make_interval(months => ?))::date)";
+  private static final String EXPIRED_PARTITIONS = "SELECT \"order\".expired_order_partitions(" +
+      "(date_trunc('month', current_date) - make_interval(months => ?))::date) LIMIT ?";
+  private static final String DELETE_TRACKING = "SELECT \"order\".delete_order_tracking(?)";
+  private static final String DELETE_PROCESSED_MESSAGES = "DELETE FROM \"order\".processed_messages " +
+      "WHERE message_id IN (SELECT message_id FROM \"order\".processed_messages " +
+      "WHERE processed_at < now() - make_interval(days => ?) LIMIT ?)";
+  private static final String DETACH_PENDING = "SELECT i.inhdetachpending FROM pg_inherits i " +
+      "WHERE i.inhrelid = to_regclass(?)";
+
+  private final DataSource dataSource;
+  private final OrderPartitionConfigData orderPartitionConfigData;
+  private final Counter createdPartitions;
+  private final Counter droppedPartitions;
+  private final Counter deletedProcessedMessages;
+  private final ScheduledExecutorService executor;
+
+  public OrderPartitionMaintenance(DataSource dataSource,
+                                   OrderPartitionConfigData orderPartitionConfigData,
+                                   MeterRegistry meterRegistry) {
+    this.dataSource = dataSource;
+    this.orderPartitionConfigData = orderPartitionConfigData;
+    this.createdPartitions = Counter.builder("order.partitions.created").register(meterRegistry);
+    this.droppedPartitions = Counter.builder("order.partitions.dropped").register(meterRegistry);
+    this.deletedProcessedMessages = Counter.builder("order.processed.messages.deleted").register(meterRegistry);
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "order-partition-maintenance");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!Boolean.TRUE.equals(orderPartitionConfigData.getMaintenanceEnabled())) {
+      log.info("Order partition maintenance is disabled");
+      return;
+    }
+    executor.scheduleWithFixedDelay(this::maintainPartitions, 0,
+        orderPartitionConfigData.getMaintenanceIntervalMs(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  public void maintainPartitions() {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(true);
+      if (!tryLock(connection)) {
+        log.debug("Order partition maintenance is running on another node");
+        return;
+      }
+
+      try {
+        createPartitions(connection);
+        for (String partitionSuffix : findExpiredPartitions(connection)) {
+          dropPartition(connection, partitionSuffix);
+        }
+        deleteExpiredProcessedMessages(connection);
+      } finally {
+        unlock(connection);
+      }
+    } catch (SQLException e) {
+      log.error("Order partition maintenance failed", e);
+    }
+  }
+
+  private void createPartitions(Connection connection) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(CREATE_PARTITIONS)) {
+      statement.setInt(1, orderPartitionConfigData.getPremakeMonths());
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        int created = resultSet.getInt(1);
+        if (created > 0) {
+          log.info("Created {} order partitions", created);
+          createdPartitions.increment(created);
+        }
+      }
+    }
+  }
+
+  private List<String> findExpiredPartitions(Connection connection) throws SQLException {
+    List<String> partitionSuffixes = new ArrayList<>();
+    try (PreparedStatement statement = connection.prepareStatement(EXPIRED_PARTITIONS)) {
+      statement.setInt(1, orderPartitionConfigData.getRetentionMonths());
+      statement.setInt(2, orderPartitionConfigData.getMaxDroppedPartitionsPerRun());
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          partitionSuffixes.add(resultSet.getString(1));
+        }
+      }
+    }
+    return partitionSuffixes;
+  }
+
+  private void dropPartition(Connection connection, String partitionSuffix) throws SQLException {
+    deleteTracking(connection, partitionSuffix);
+    for (String table : CHILD_TABLES_FIRST) {
+      String partition = "\"order\"." + table + "_" + partitionSuffix;
+      Boolean detachPending = detachPending(connection, partition);
+
+      try (Statement statement = connection.createStatement()) {
+        if (detachPending == null) {
+          log.debug("Partition {} is already detached", partition);
+        } else if (detachPending) {
+          statement.execute("ALTER TABLE \"order\"." + table + " DETACH PARTITION " + partition + " FINALIZE");
+        } else {
+          statement.execute("ALTER TABLE \"order\"." + table + " DETACH PARTITION " + partition + " CONCURRENTLY");
+        }
+        statement.execute("DROP TABLE IF EXISTS " + partition);
+      }
+      log.info("Dropped expired order partition: {}", partition);
+      droppedPartitions.increment();
+    }
+  }
+
+  private void deleteTracking(Connection connection, String partitionSuffix) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(DELETE_TRACKING)) {
+      statement.setString(1, partitionSuffix);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        log.info("Deleted {} order tracking rows of expired partition: {}", resultSet.getLong(1), partitionSuffix);
+      }
+    }
+  }
+
+  private void deleteExpiredProcessedMessages(Connection connection) throws SQLException {
+    int batchSize = orderPartitionConfigData.getProcessedMessagesDeleteBatchSize();
+    long deleted = 0;
+    try (PreparedStatement statement = connection.prepareStatement(DELETE_PROCESSED_MESSAGES)) {
+      statement.setInt(1, orderPartitionConfigData.getProcessedMessagesRetentionDays());
+      statement.setInt(2, batchSize);
+      int batchDeleted;
+      do {
+        batchDeleted = statement.executeUpdate();
+        deleted += batchDeleted;
+      } while (batchDeleted == batchSize);
+    }
+    if (deleted > 0) {
+      log.info("Deleted {} processed message ids past retention", deleted);
+      deletedProcessedMessages.increment(deleted);
+    }
+  }
+
+  private Boolean detachPending(Connection connection, String partition) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(DETACH_PENDING)) {
+      statement.setString(1, partition);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() ? resultSet.getBoolean(1) : null;
+      }
+    }
+  }
+
+  private boolean tryLock(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery(TRY_LOCK)) {
+      return resultSet.next() && resultSet.getBoolean(1);
+    }
+  }
+
+  private void unlock(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(UNLOCK);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.dataaccess.order.projection;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class OrderTrackingProjection {
+  private final UUID trackingId;
+  private final OrderStatus orderStatus;
+  private final String[] failureMessages;
+}
@@ -0,0 +1,220 @@
+package com.food.ordering.system.order.service.dataaccess.order.repository;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.notification.NotificationOrigin;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderTrackingProjection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+public class OrderJdbcRepository {
+  private static final String FIND_ORDERS_BY_IDS = """
+      SELECT o.id, o.customer_id, o.restaurant_id, o.tracking_id, o.price, o.order_status, o.failure_messages,
+             a.id AS address_id, a.street, a.postal_code, a.city,
+             i.id AS item_id, i.product_id, i.price AS item_price, i.quantity, i.sub_total
+      FROM orders o
+      JOIN order_address a ON a.order_id = o.id
+      LEFT JOIN order_items i ON i.order_id = o.id
+      WHERE o.id = ANY(?)
+      ORDER BY o.id, i.id
+      """;
+
+  private static final String FIND_TRACKING_BY_TRACKING_IDS = """
+      SELECT o.tracking_id, o.order_status, o.failure_messages
+      FROM order_tracking t
+      JOIN orders o ON o.id = t.order_id
+      WHERE t.tracking_id = ANY(?)
+      """;
+
+  private static final String INSERT_ORDER = "INSERT INTO orders " +
+      "(id, customer_id, restaurant_id, tracking_id, price, order_status, failure_messages) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INSERT_ORDER_TRACKING =
+      "INSERT INTO order_tracking (tracking_id, order_id) VALUES (?, ?)";
+
+  private static final String INSERT_ORDER_ADDRESS =
+      "INSERT INTO order_address (id, order_id, street, postal_code, city) VALUES (?, ?, ?, ?, ?)";
+
+  private static final String INSERT_ORDER_ITEM =
+      "INSERT INTO order_items (id, order_id, product_id, price, quantity, sub_total) VALUES (?, ?, ?, ?, ?, ?)";
+
+  private static final String UPDATE_ORDER_STATUS =
+      "UPDATE orders SET order_status = ?, failure_messages = ? WHERE id = ?";
+
+  private static final String SET_NOTIFICATION_ORIGIN =
+      "SELECT set_config('order.notification_origin', ?, true)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NotificationOrigin notificationOrigin;
+  private volatile Boolean postgres;
+
+  public OrderJdbcRepository(JdbcTemplate jdbcTemplate, NotificationOrigin notificationOrigin) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.notificationOrigin = notificationOrigin;
+  }
+
+  public List<OrderEntity> findByIds(List<UUID> orderIds) {
+    if (orderIds.isEmpty()) {
+      return List.of();
+    }
+
+    return jdbcTemplate.query(FIND_ORDERS_BY_IDS,
+        ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", orderIds.toArray())),
+        this::extractOrders);
+  }
+
+  public List<OrderTrackingProjection> findTrackingByTrackingIds(List<UUID> trackingIds) {
+    if (trackingIds.isEmpty()) {
+      return List.of();
+    }
+
+    return jdbcTemplate.query(FIND_TRACKING_BY_TRACKING_IDS,
+        ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", trackingIds.toArray())),
+        (rs, rowNum) -> new OrderTrackingProjection(
+            rs.getObject("tracking_id", UUID.class),
+            OrderStatus.valueOf(rs.getString("order_status")),
+            getFailureMessages(rs)));
+  }
+
+  public void insertAll(List<OrderEntity> orderEntities) {
+    jdbcTemplate.batchUpdate(INSERT_ORDER, orderEntities, orderEntities.size(), (ps, orderEntity) -> {
+      ps.setObject(1, orderEntity.getId());
+      ps.setObject(2, orderEntity.getCustomerId());
+      ps.setObject(3, orderEntity.getRestaurantId());
+      ps.setObject(4, orderEntity.getTrackingId());
+      ps.setBigDecimal(5, orderEntity.getPrice());
+      ps.setString(6, orderEntity.getOrderStatus().name());
+      ps.setArray(7, ps.getConnection().createArrayOf("text", orderEntity.getFailureMessages()));
+    });
+
+    insertTracking(orderEntities);
+
+    jdbcTemplate.batchUpdate(INSERT_ORDER_ADDRESS, orderEntities, orderEntities.size(), (ps, orderEntity) -> {
+      ps.setObject(1, orderEntity.getAddress().getId());
+      ps.setObject(2, orderEntity.getId());
+      ps.setString(3, orderEntity.getAddress().getStreet());
+      ps.setString(4, orderEntity.getAddress().getPostalCode());
+      ps.setString(5, orderEntity.getAddress().getCity());
+    });
+
+    List<OrderItemEntity> orderItemEntities = orderEntities.stream()
+        .flatMap(orderEntity -> orderEntity.getItems().stream())
+        .toList();
+    jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM, orderItemEntities, orderItemEntities.size(), (ps, orderItemEntity) -> {
+      ps.setLong(1, orderItemEntity.getId());
+      ps.setObject(2, orderItemEntity.getOrder().getId());
+      ps.setObject(3, orderItemEntity.getProductId());
+      ps.setBigDecimal(4, orderItemEntity.getPrice());
+      ps.setInt(5, orderItemEntity.getQuantity());
+      ps.setBigDecimal(6, orderItemEntity.getSubTotal());
+    });
+  }
+
+  /**
+   * Fails the transaction with a duplicate key error when a tracking id is already taken.
+   */
+  public void insertTracking(List<OrderEntity> orderEntities) {
+    jdbcTemplate.batchUpdate(INSERT_ORDER_TRACKING, orderEntities, orderEntities.size(), (ps, orderEntity) -> {
+      ps.setObject(1, orderEntity.getTrackingId());
+      ps.setObject(2, orderEntity.getId());
+    });
+  }
+
+  public void updateOrderStatuses(List<OrderEntity> orderEntities) {
+    tagNotificationOrigin();
+    jdbcTemplate.batchUpdate(UPDATE_ORDER_STATUS, orderEntities, orderEntities.size(), (ps, orderEntity) -> {
+      ps.setString(1, orderEntity.getOrderStatus().name());
+      ps.setArray(2, ps.getConnection().createArrayOf("text", orderEntity.getFailureMessages()));
+      ps.setObject(3, orderEntity.getId());
+    });
+  }
+
+  /**
+   * Names this instance as the origin of the order_tracking_changed notifications raised by the rest of the
+   * transaction. Notifications only exist on PostgreSQL.
+   */
+  private void tagNotificationOrigin() {
+    if (isPostgres()) {
+      jdbcTemplate.queryForObject(SET_NOTIFICATION_ORIGIN, String.class, notificationOrigin.getId());
+    }
+  }
+
+  private boolean isPostgres() {
+    if (postgres == null) {
+      try {
+        postgres = "PostgreSQL".equals(JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+            DatabaseMetaData::getDatabaseProductName));
+      } catch (MetaDataAccessException e) {
+        throw new IllegalStateException("Could not read the database product name", e);
+      }
+    }
+    return postgres;
+  }
+
+  private List<OrderEntity> extractOrders(ResultSet rs) throws SQLException {
+    Map<UUID, OrderEntity> orderEntities = new LinkedHashMap<>();
+
+    while (rs.next()) {
+      UUID orderId = rs.getObject("id", UUID.class);
+      OrderEntity orderEntity = orderEntities.get(orderId);
+
+      if (orderEntity == null) {
+        orderEntity = OrderEntity.builder()
+            .id(orderId)
+            .customerId(rs.getObject("customer_id", UUID.class))
+            .restaurantId(rs.getObject("restaurant_id", UUID.class))
+            .trackingId(rs.getObject("tracking_id", UUID.class))
+            .price(rs.getBigDecimal("price"))
+            .orderStatus(OrderStatus.valueOf(rs.getString("order_status")))
+            .failureMessages(getFailureMessages(rs))
+            .address(OrderAddressEntity.builder()
+                .id(rs.getObject("address_id", UUID.class))
+                .street(rs.getString("street"))
+                .postalCode(rs.getString("postal_code"))
+                .city(rs.getString("city"))
+                .build())
+            .items(new ArrayList<>())
+            .build();
+        orderEntities.put(orderId, orderEntity);
+      }
+
+      long itemId = rs.getLong("item_id");
+      if (!rs.wasNull()) {
+        orderEntity.getItems().add(OrderItemEntity.builder()
+            .id(itemId)
+            .productId(rs.getObject("product_id", UUID.class))
+            .price(rs.getBigDecimal("item_price"))
+            .quantity(rs.getInt("quantity"))
+            .subTotal(rs.getBigDecimal("sub_total"))
+            .build());
+      }
+    }
+
+    return new ArrayList<>(orderEntities.values());
+  }
+
+  private String[] getFailureMessages(ResultSet rs) throws SQLException {
+    Array failureMessages = rs.getArray("failure_messages");
+    if (failureMessages == null) {
+      return null;
+    }
+    Object[] elements = (Object[]) failureMessages.getArray();
+    return Arrays.copyOf(elements, elements.length, String[].class);
+  }
+}
@@ -1,7 +1,10 @@
 package com.food.ordering.system.order.service.dataaccess.order.repository;
 
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderTrackingProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,5 +12,14 @@ import java.util.UUID;
 
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
-  Optional<OrderEntity> findByTrackingId(UUID trackingId);
+  /**
+   * Tracking ids are resolved through order_tracking, so the order is then read by its id from a single partition.
+   */
+  @Query("SELECT o FROM OrderTrackingEntity t JOIN OrderEntity o ON o.id = t.orderId WHERE t.trackingId = :trackingId")
+  Optional<OrderEntity> findByTrackingId(@Param("trackingId") UUID trackingId);
+
+  @Query("SELECT new com.food.ordering.system.order.service.dataaccess.order.projection.OrderTrackingProjection(" +
+      "o.trackingId, o.orderStatus, o.failureMessages) " +
+      "FROM OrderTrackingEntity t JOIN OrderEntity o ON o.id = t.orderId WHERE t.trackingId = :trackingId")
+  Optional<OrderTrackingProjection> findTrackingByTrackingId(@Param("trackingId") UUID trackingId);
 }
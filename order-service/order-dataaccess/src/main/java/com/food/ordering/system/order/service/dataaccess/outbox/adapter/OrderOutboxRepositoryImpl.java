@@ -0,0 +1,50 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.mapper.OrderOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.repository.OrderOutboxJdbcRepository;
+import com.food.ordering.system.order.service.dataaccess.outbox.repository.OrderOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
+  private final OrderOutboxJpaRepository orderOutboxJpaRepository;
+  private final OrderOutboxJdbcRepository orderOutboxJdbcRepository;
+  private final OrderOutboxDataAccessMapper orderOutboxDataAccessMapper;
+
+  public OrderOutboxRepositoryImpl(OrderOutboxJpaRepository orderOutboxJpaRepository,
+                                   OrderOutboxJdbcRepository orderOutboxJdbcRepository,
+                                   OrderOutboxDataAccessMapper orderOutboxDataAccessMapper) {
+    this.orderOutboxJpaRepository = orderOutboxJpaRepository;
+    this.orderOutboxJdbcRepository = orderOutboxJdbcRepository;
+    this.orderOutboxDataAccessMapper = orderOutboxDataAccessMapper;
+  }
+
+  @Override
+  public void saveAll(List<OrderOutboxMessage> outboxMessages) {
+    orderOutboxJdbcRepository.insertAll(outboxMessages.stream()
+        .map(orderOutboxDataAccessMapper::orderOutboxMessageToOrderOutboxEntity)
+        .toList());
+  }
+
+  @Override
+  public boolean tryLockStripe(int stripe) {
+    return orderOutboxJpaRepository.tryLockStripe(stripe);
+  }
+
+  @Override
+  public List<OrderOutboxMessage> findAndLockBatch(int stripe, int stripes, int batchSize) {
+    return orderOutboxJpaRepository.findAndLockBatch(stripe, stripes, batchSize).stream()
+        .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+        .toList();
+  }
+
+  @Override
+  public void deleteAll(List<UUID> outboxMessageIds) {
+    orderOutboxJpaRepository.deleteAllByIdInBatch(outboxMessageIds);
+  }
+}
@@ -0,0 +1,42 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox")
+@Entity
+public class OrderOutboxEntity {
+  @Id
+  private UUID id;
+  private UUID aggregateId;
+  private String topic;
+  private String messageKey;
+  private String payloadType;
+  private byte[] payload;
+  private ZonedDateTime createdAt;
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == null || getClass() != o.getClass()) return false;
+    OrderOutboxEntity that = (OrderOutboxEntity) o;
+    return Objects.equals(id, that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(id);
+  }
+}
@@ -0,0 +1,136 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.listener;
+
+import com.food.ordering.system.order.service.domain.config.OrderOutboxConfigData;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.outbox.OrderOutboxChangeListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.PGReplicationStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order-service.outbox", name = "relay-mode", havingValue = "logical-replication")
+public class OrderOutboxReplicationListener {
+  private static final String OUTBOX_INSERT = ".outbox: INSERT:";
+
+  private final DataSourceProperties dataSourceProperties;
+  private final OrderOutboxConfigData orderOutboxConfigData;
+  private final OrderOutboxChangeListener orderOutboxChangeListener;
+  private final Thread listenerThread;
+  private volatile boolean running;
+
+  public OrderOutboxReplicationListener(DataSourceProperties dataSourceProperties,
+                                        OrderOutboxConfigData orderOutboxConfigData,
+                                        OrderOutboxChangeListener orderOutboxChangeListener) {
+    this.dataSourceProperties = dataSourceProperties;
+    this.orderOutboxConfigData = orderOutboxConfigData;
+    this.orderOutboxChangeListener = orderOutboxChangeListener;
+    this.listenerThread = new Thread(this::listen, "order-outbox-replication");
+    this.listenerThread.setDaemon(true);
+  }
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    listenerThread.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    listenerThread.interrupt();
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection = openReplicationConnection()) {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        // A temporary slot is dropped with the connection, so a stopped relay never pins WAL on the server.
+        String slotName = orderOutboxConfigData.getReplicationSlotName() + "_" + UUID.randomUUID().toString().substring(0, 8);
+        pgConnection.getReplicationAPI()
+            .createReplicationSlot()
+            .logical()
+            .withSlotName(slotName)
+            .withOutputPlugin("test_decoding")
+            .withTemporaryOption()
+            .make();
+
+        try (PGReplicationStream stream = pgConnection.getReplicationAPI()
+            .replicationStream()
+            .logical()
+            .withSlotName(slotName)
+            .withSlotOption("include-xids", false)
+            .withSlotOption("skip-empty-xacts", true)
+            .withStatusInterval(10, TimeUnit.SECONDS)
+            .start()) {
+          log.info("Tailing outbox inserts through replication slot: {}", slotName);
+          // Inserts committed before the slot existed are only picked up by polling.
+          orderOutboxChangeListener.outboxChanged();
+          receiveChanges(stream);
+        }
+      } catch (SQLException e) {
+        if (running) {
+          log.error("Outbox replication listener failed, relay falls back to polling until reconnected", e);
+          sleepBeforeReconnect();
+        }
+      }
+    }
+  }
+
+  private void receiveChanges(PGReplicationStream stream) throws SQLException {
+    while (running) {
+      ByteBuffer change = stream.readPending();
+
+      if (change == null) {
+        sleep(orderOutboxConfigData.getReplicationPollIntervalMs());
+        continue;
+      }
+
+      String decodedChange = new String(change.array(), change.arrayOffset() + change.position(), change.remaining(),
+          StandardCharsets.UTF_8);
+      if (decodedChange.startsWith("table ") && decodedChange.contains(OUTBOX_INSERT)) {
+        orderOutboxChangeListener.outboxChanged();
+      }
+
+      stream.setAppliedLSN(stream.getLastReceiveLSN());
+      stream.setFlushedLSN(stream.getLastReceiveLSN());
+    }
+  }
+
+  private Connection openReplicationConnection() throws SQLException {
+    Properties properties = new Properties();
+    PGProperty.USER.set(properties, dataSourceProperties.getUsername());
+    PGProperty.PASSWORD.set(properties, dataSourceProperties.getPassword());
+    PGProperty.ASSUME_MIN_SERVER_VERSION.set(properties, "10");
+    PGProperty.REPLICATION.set(properties, "database");
+    PGProperty.PREFER_QUERY_MODE.set(properties, "simple");
+    return DriverManager.getConnection(dataSourceProperties.getUrl(), properties);
+  }
+
+  private void sleepBeforeReconnect() {
+    sleep(orderOutboxConfigData.getPollIntervalMs());
+  }
+
+  private void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
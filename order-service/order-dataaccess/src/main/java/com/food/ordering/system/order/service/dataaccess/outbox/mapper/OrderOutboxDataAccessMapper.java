@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.entity.OrderOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderOutboxDataAccessMapper {
+
+  public OrderOutboxEntity orderOutboxMessageToOrderOutboxEntity(OrderOutboxMessage outboxMessage) {
+    return OrderOutboxEntity.builder()
+        .id(outboxMessage.getId())
+        .aggregateId(outboxMessage.getAggregateId())
+        .topic(outboxMessage.getTopic())
+        .messageKey(outboxMessage.getMessageKey())
+        .payloadType(outboxMessage.getPayloadType())
+        .payload(outboxMessage.getPayload())
+        .createdAt(outboxMessage.getCreatedAt())
+        .build();
+  }
+
+  public OrderOutboxMessage orderOutboxEntityToOrderOutboxMessage(OrderOutboxEntity outboxEntity) {
+    return OrderOutboxMessage.builder()
+        .id(outboxEntity.getId())
+        .aggregateId(outboxEntity.getAggregateId())
+        .topic(outboxEntity.getTopic())
+        .messageKey(outboxEntity.getMessageKey())
+        .payloadType(outboxEntity.getPayloadType())
+        .payload(outboxEntity.getPayload())
+        .createdAt(outboxEntity.getCreatedAt())
+        .build();
+  }
+}
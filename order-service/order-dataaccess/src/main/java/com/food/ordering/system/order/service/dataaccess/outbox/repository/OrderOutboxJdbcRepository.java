@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.repository;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.entity.OrderOutboxEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class OrderOutboxJdbcRepository {
+  private static final String INSERT_OUTBOX_MESSAGE = "INSERT INTO outbox " +
+      "(id, aggregate_id, topic, message_key, payload_type, payload, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public OrderOutboxJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public void insertAll(List<OrderOutboxEntity> outboxEntities) {
+    jdbcTemplate.batchUpdate(INSERT_OUTBOX_MESSAGE, outboxEntities, outboxEntities.size(), (ps, outboxEntity) -> {
+      ps.setObject(1, outboxEntity.getId());
+      ps.setObject(2, outboxEntity.getAggregateId());
+      ps.setString(3, outboxEntity.getTopic());
+      ps.setString(4, outboxEntity.getMessageKey());
+      ps.setString(5, outboxEntity.getPayloadType());
+      ps.setBytes(6, outboxEntity.getPayload());
+      ps.setObject(7, outboxEntity.getCreatedAt().toOffsetDateTime());
+    });
+  }
+}
@@ -0,0 +1,25 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.repository;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.entity.OrderOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutboxEntity, UUID> {
+  @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('order.outbox'), :stripe)", nativeQuery = true)
+  boolean tryLockStripe(@Param("stripe") int stripe);
+
+  @Query(value = "SELECT * FROM outbox " +
+      "WHERE (hashtext(CAST(aggregate_id AS text)) & 2147483647) % :stripes = :stripe " +
+      "ORDER BY created_at " +
+      "LIMIT :batchSize " +
+      "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<OrderOutboxEntity> findAndLockBatch(@Param("stripe") int stripe,
+                                           @Param("stripes") int stripes,
+                                           @Param("batchSize") int batchSize);
+}
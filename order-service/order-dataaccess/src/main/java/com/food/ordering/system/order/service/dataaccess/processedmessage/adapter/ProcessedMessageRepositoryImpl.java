@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.dataaccess.processedmessage.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.processedmessage.repository.ProcessedMessageJdbcRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class ProcessedMessageRepositoryImpl implements ProcessedMessageRepository {
+  private final ProcessedMessageJdbcRepository processedMessageJdbcRepository;
+
+  public ProcessedMessageRepositoryImpl(ProcessedMessageJdbcRepository processedMessageJdbcRepository) {
+    this.processedMessageJdbcRepository = processedMessageJdbcRepository;
+  }
+
+  @Override
+  public Set<UUID> findProcessed(Collection<UUID> messageIds) {
+    return processedMessageJdbcRepository.findProcessed(messageIds);
+  }
+
+  @Override
+  public Set<UUID> saveUnprocessed(Collection<UUID> messageIds) {
+    return processedMessageJdbcRepository.insertUnprocessed(messageIds);
+  }
+
+  @Override
+  public void deleteAll(Collection<UUID> messageIds) {
+    processedMessageJdbcRepository.deleteAll(messageIds);
+  }
+}
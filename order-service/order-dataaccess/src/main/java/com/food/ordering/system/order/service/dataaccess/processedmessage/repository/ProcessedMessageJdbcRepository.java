@@ -0,0 +1,50 @@
+package com.food.ordering.system.order.service.dataaccess.processedmessage.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public class ProcessedMessageJdbcRepository {
+  private static final String FIND_PROCESSED = "SELECT message_id FROM processed_messages " +
+      "WHERE message_id = ANY(?)";
+  private static final String INSERT_UNPROCESSED = "INSERT INTO processed_messages (message_id) " +
+      "SELECT unnest(?) ON CONFLICT (message_id) DO NOTHING RETURNING message_id";
+  private static final String DELETE_PROCESSED = "DELETE FROM processed_messages WHERE message_id = ANY(?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ProcessedMessageJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public Set<UUID> findProcessed(Collection<UUID> messageIds) {
+    return queryMessageIds(FIND_PROCESSED, messageIds);
+  }
+
+  public Set<UUID> insertUnprocessed(Collection<UUID> messageIds) {
+    return queryMessageIds(INSERT_UNPROCESSED, messageIds);
+  }
+
+  public void deleteAll(Collection<UUID> messageIds) {
+    jdbcTemplate.update(DELETE_PROCESSED,
+        ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", messageIds.toArray())));
+  }
+
+  private Set<UUID> queryMessageIds(String sql, Collection<UUID> messageIds) {
+    Set<UUID> result = new HashSet<>();
+    jdbcTemplate.query(connection -> {
+      PreparedStatement preparedStatement = connection.prepareStatement(sql);
+      preparedStatement.setArray(1, connection.createArrayOf("uuid", messageIds.toArray()));
+      return preparedStatement;
+    }, rs -> {
+      result.add(rs.getObject(1, UUID.class));
+    });
+    return result;
+  }
+}
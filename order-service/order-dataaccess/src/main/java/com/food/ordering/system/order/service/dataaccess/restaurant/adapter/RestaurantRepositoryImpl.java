@@ -1,8 +1,7 @@
 package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
 
-import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantMenuCache;
 import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
-import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
 import org.springframework.stereotype.Component;
@@ -13,19 +12,23 @@ import java.util.UUID;
 
 @Component
 public class RestaurantRepositoryImpl implements RestaurantRepository {
-  private final RestaurantJpaRepository restaurantJpaRepository;
+  private final RestaurantMenuCache restaurantMenuCache;
   private final RestaurantDataAccessMapper restaurantDataAccessMapper;
 
-  public RestaurantRepositoryImpl(RestaurantJpaRepository restaurantJpaRepository, RestaurantDataAccessMapper restaurantDataAccessMapper) {
-    this.restaurantJpaRepository = restaurantJpaRepository;
+  public RestaurantRepositoryImpl(RestaurantMenuCache restaurantMenuCache, RestaurantDataAccessMapper restaurantDataAccessMapper) {
+    this.restaurantMenuCache = restaurantMenuCache;
     this.restaurantDataAccessMapper = restaurantDataAccessMapper;
   }
 
+  /**
+   * Same result as the former restaurant id and product id query: products that are not on the menu are left out,
+   * and a restaurant that is unknown or has none of the requested products is not found.
+   */
   @Override
   public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
     List<UUID> restaurantProducts = restaurantDataAccessMapper.restaurantToRestaurantProducts(restaurant);
-    Optional<List<RestaurantEntity>> optionalRestaurantEntities = restaurantJpaRepository
-        .findByRestaurantIdAndProductIdIn(restaurant.getId().getValue(), restaurantProducts);
-    return optionalRestaurantEntities.map(restaurantDataAccessMapper::restaurantEntityToRestaurant);
+    return restaurantMenuCache.getMenu(restaurant.getId().getValue())
+        .map(restaurantMenu -> restaurantDataAccessMapper.restaurantMenuToRestaurant(restaurantMenu, restaurantProducts))
+        .filter(restaurantInformation -> !restaurantInformation.getProducts().isEmpty());
   }
 }
@@ -0,0 +1,49 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.domain.valueobject.Money;
+
+import java.util.Map;
+import java.util.UUID;
+
+// Domain Product objects are mutable, so only this immutable snapshot is cached and products are built per lookup.
+public class RestaurantMenu {
+  private final UUID restaurantId;
+  private final boolean active;
+  private final Map<UUID, MenuItem> items;
+
+  public RestaurantMenu(UUID restaurantId, boolean active, Map<UUID, MenuItem> items) {
+    this.restaurantId = restaurantId;
+    this.active = active;
+    this.items = Map.copyOf(items);
+  }
+
+  public UUID getRestaurantId() {
+    return restaurantId;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public MenuItem getItem(UUID productId) {
+    return items.get(productId);
+  }
+
+  public static class MenuItem {
+    private final String name;
+    private final Money price;
+
+    public MenuItem(String name, Money price) {
+      this.name = name;
+      this.price = price;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Money getPrice() {
+      return price;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.order.service.dataaccess.restaurant.config.RestaurantCacheConfigData;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class RestaurantMenuCache {
+  private static final String CACHE_NAME = "restaurant-menu";
+
+  private final RestaurantJpaRepository restaurantJpaRepository;
+  private final RestaurantDataAccessMapper restaurantDataAccessMapper;
+  private final LoadingCache<UUID, RestaurantMenu> menus;
+  private final Counter invalidations;
+
+  public RestaurantMenuCache(RestaurantJpaRepository restaurantJpaRepository,
+                             RestaurantDataAccessMapper restaurantDataAccessMapper,
+                             RestaurantCacheConfigData restaurantCacheConfigData,
+                             MeterRegistry meterRegistry) {
+    this.restaurantJpaRepository = restaurantJpaRepository;
+    this.restaurantDataAccessMapper = restaurantDataAccessMapper;
+    this.menus = Caffeine.newBuilder()
+        .maximumSize(restaurantCacheConfigData.getMaximumSize())
+        .expireAfterWrite(Duration.ofMillis(restaurantCacheConfigData.getExpireAfterWriteMs()))
+        .recordStats()
+        .build(this::loadMenu);
+    this.invalidations = Counter.builder("cache.invalidations")
+        .tag("cache", CACHE_NAME)
+        .register(meterRegistry);
+    CaffeineCacheMetrics.monitor(meterRegistry, menus, CACHE_NAME);
+  }
+
+  public Optional<RestaurantMenu> getMenu(UUID restaurantId) {
+    return Optional.ofNullable(menus.get(restaurantId));
+  }
+
+  public void invalidate(UUID restaurantId) {
+    log.debug("Invalidating cached menu of restaurant: {}", restaurantId);
+    menus.invalidate(restaurantId);
+    invalidations.increment();
+  }
+
+  public void invalidateAll() {
+    log.debug("Invalidating all cached restaurant menus");
+    menus.invalidateAll();
+    invalidations.increment();
+  }
+
+  private RestaurantMenu loadMenu(UUID restaurantId) {
+    List<RestaurantEntity> restaurantEntities = restaurantJpaRepository.findByRestaurantId(restaurantId);
+
+    if (restaurantEntities.isEmpty()) {
+      return null;
+    }
+    return restaurantDataAccessMapper.restaurantEntitiesToRestaurantMenu(restaurantEntities);
+  }
+}
@@ -0,0 +1,55 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.order.service.dataaccess.notification.PostgresNotificationListener;
+import com.food.ordering.system.order.service.dataaccess.restaurant.config.RestaurantCacheConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Evicts cached restaurant menus on the notifications of the restaurant service. The restaurant schema is owned by
+ * that service, which has to install the trigger in db/restaurant/restaurant_menu_changed.sql of order-container;
+ * without it menus are only refreshed when they expire after expire-after-write-ms.
+ */
+@Slf4j
+@Component
+public class RestaurantMenuInvalidationListener extends PostgresNotificationListener {
+  private final RestaurantMenuCache restaurantMenuCache;
+
+  public RestaurantMenuInvalidationListener(DataSourceProperties dataSourceProperties,
+                                            RestaurantMenuCache restaurantMenuCache,
+                                            RestaurantCacheConfigData restaurantCacheConfigData) {
+    super(dataSourceProperties,
+        restaurantCacheConfigData.getInvalidationChannel(),
+        restaurantCacheConfigData.getInvalidationPollTimeoutMs(),
+        restaurantCacheConfigData.getReconnectDelayMs());
+    this.restaurantMenuCache = restaurantMenuCache;
+  }
+
+  @Override
+  protected void onListening() {
+    restaurantMenuCache.invalidateAll();
+  }
+
+  @Override
+  protected void onConnectionLost() {
+    restaurantMenuCache.invalidateAll();
+  }
+
+  @Override
+  protected void onNotification(String payload) {
+    if (payload == null || payload.isBlank()) {
+      restaurantMenuCache.invalidateAll();
+      return;
+    }
+
+    try {
+      restaurantMenuCache.invalidate(UUID.fromString(payload.trim()));
+    } catch (IllegalArgumentException e) {
+      log.warn("Unexpected restaurant menu notification payload: {}, invalidating all menus", payload);
+      restaurantMenuCache.invalidateAll();
+    }
+  }
+}
@@ -3,13 +3,17 @@ package com.food.ordering.system.order.service.dataaccess.restaurant.mapper;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantMenu;
 import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
 import com.food.ordering.system.order.service.dataaccess.restaurant.exception.RestaurantDataAccessException;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Component
@@ -21,18 +25,31 @@ public class RestaurantDataAccessMapper {
         .toList();
   }
 
-  public Restaurant restaurantEntityToRestaurant(List<RestaurantEntity> restaurantEntities) {
+  public RestaurantMenu restaurantEntitiesToRestaurantMenu(List<RestaurantEntity> restaurantEntities) {
     RestaurantEntity restaurantEntity = restaurantEntities.stream().findFirst().orElseThrow(
         () -> new RestaurantDataAccessException("Restaurant not found"));
 
-    List<Product> restaurantProducts = restaurantEntities.stream()
-        .map(entity -> new Product(new ProductId(entity.getProductId()), entity.getProductName(), new Money(entity.getProductPrice())))
+    Map<UUID, RestaurantMenu.MenuItem> menuItems = new HashMap<>();
+    restaurantEntities.forEach(entity -> menuItems.put(entity.getProductId(),
+        new RestaurantMenu.MenuItem(entity.getProductName(), new Money(entity.getProductPrice()))));
+
+    return new RestaurantMenu(restaurantEntity.getRestaurantId(), restaurantEntity.getRestaurantActive(), menuItems);
+  }
+
+  public Restaurant restaurantMenuToRestaurant(RestaurantMenu restaurantMenu, List<UUID> productIds) {
+    List<Product> restaurantProducts = productIds.stream()
+        .distinct()
+        .map(productId -> {
+          RestaurantMenu.MenuItem menuItem = restaurantMenu.getItem(productId);
+          return menuItem == null ? null : new Product(new ProductId(productId), menuItem.getName(), menuItem.getPrice());
+        })
+        .filter(Objects::nonNull)
         .toList();
 
     return Restaurant.builder()
-        .restaurantId(new RestaurantId(restaurantEntity.getRestaurantId()))
+        .restaurantId(new RestaurantId(restaurantMenu.getRestaurantId()))
         .products(restaurantProducts)
-        .isActive(restaurantEntity.getRestaurantActive())
+        .isActive(restaurantMenu.isActive())
         .build();
   }
 }
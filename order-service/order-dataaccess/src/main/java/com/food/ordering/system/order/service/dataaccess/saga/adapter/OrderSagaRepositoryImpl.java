@@ -0,0 +1,35 @@
+package com.food.ordering.system.order.service.dataaccess.saga.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.saga.repository.OrderSagaJdbcRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.saga.OrderSaga;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class OrderSagaRepositoryImpl implements OrderSagaRepository {
+  private final OrderSagaJdbcRepository orderSagaJdbcRepository;
+
+  public OrderSagaRepositoryImpl(OrderSagaJdbcRepository orderSagaJdbcRepository) {
+    this.orderSagaJdbcRepository = orderSagaJdbcRepository;
+  }
+
+  @Override
+  public List<OrderSaga> findSagas(Collection<UUID> sagaIds) {
+    return orderSagaJdbcRepository.findBySagaIds(sagaIds);
+  }
+
+  @Override
+  public void saveAll(List<OrderSaga> sagas) {
+    orderSagaJdbcRepository.insertAll(sagas);
+  }
+
+  @Override
+  public Set<UUID> compareAndSetStatuses(List<OrderSaga> sagas) {
+    return orderSagaJdbcRepository.compareAndSetStatuses(sagas);
+  }
+}
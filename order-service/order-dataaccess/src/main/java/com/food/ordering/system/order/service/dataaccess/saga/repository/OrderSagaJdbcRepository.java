@@ -0,0 +1,73 @@
+package com.food.ordering.system.order.service.dataaccess.saga.repository;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.saga.OrderSaga;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public class OrderSagaJdbcRepository {
+  private static final String FIND_SAGAS = "SELECT saga_id, order_id, status, version FROM order_saga " +
+      "WHERE saga_id = ANY(?)";
+
+  private static final String INSERT_SAGA = "INSERT INTO order_saga (saga_id, order_id, status, version) " +
+      "VALUES (?, ?, ?, ?) ON CONFLICT (saga_id) DO NOTHING";
+
+  // SKIP LOCKED turns a row that another transaction is updating into a version conflict instead of a lock wait.
+  private static final String COMPARE_AND_SET_STATUS = """
+      UPDATE order_saga SET status = ?, version = version + 1, updated_at = now()
+      WHERE saga_id = (SELECT saga_id FROM order_saga WHERE saga_id = ? AND version = ? FOR UPDATE SKIP LOCKED)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public OrderSagaJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public List<OrderSaga> findBySagaIds(Collection<UUID> sagaIds) {
+    if (sagaIds.isEmpty()) {
+      return List.of();
+    }
+
+    return jdbcTemplate.query(FIND_SAGAS,
+        ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", sagaIds.toArray())),
+        (rs, rowNum) -> OrderSaga.builder()
+            .sagaId(rs.getObject("saga_id", UUID.class))
+            .orderId(rs.getObject("order_id", UUID.class))
+            .status(OrderStatus.valueOf(rs.getString("status")))
+            .version(rs.getLong("version"))
+            .build());
+  }
+
+  public void insertAll(List<OrderSaga> sagas) {
+    jdbcTemplate.batchUpdate(INSERT_SAGA, sagas, sagas.size(), (ps, saga) -> {
+      ps.setObject(1, saga.getSagaId());
+      ps.setObject(2, saga.getOrderId());
+      ps.setString(3, saga.getStatus().name());
+      ps.setLong(4, saga.getVersion());
+    });
+  }
+
+  public Set<UUID> compareAndSetStatuses(List<OrderSaga> sagas) {
+    int[][] updateCounts = jdbcTemplate.batchUpdate(COMPARE_AND_SET_STATUS, sagas, sagas.size(), (ps, saga) -> {
+      ps.setString(1, saga.getStatus().name());
+      ps.setObject(2, saga.getSagaId());
+      ps.setLong(3, saga.getVersion());
+    });
+
+    Set<UUID> conflicts = new HashSet<>();
+    for (int i = 0; i < sagas.size(); i++) {
+      if (updateCounts[0][i] == 0) {
+        conflicts.add(sagas.get(i).getSagaId());
+      }
+    }
+    return conflicts;
+  }
+}
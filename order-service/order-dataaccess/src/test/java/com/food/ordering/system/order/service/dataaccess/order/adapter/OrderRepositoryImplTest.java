@@ -0,0 +1,142 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.notification.NotificationOrigin;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJdbcRepository;
+import com.food.ordering.system.order.service.domain.OrderTestFixtures;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({OrderRepositoryImpl.class, OrderJdbcRepository.class, OrderDataAccessMapper.class, NotificationOrigin.class})
+class OrderRepositoryImplTest {
+  private static final int ITEM_COUNT = 10;
+  private static final BigDecimal ITEM_PRICE = new BigDecimal("10.00");
+
+  @Autowired
+  private OrderRepository orderRepository;
+  @Autowired
+  private OrderJdbcRepository orderJdbcRepository;
+  @Autowired
+  private EntityManager entityManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  public void testSaveNewOrderIssuesOneBatchedInsertPerTable() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    Order order = order();
+    statistics.clear();
+
+    orderRepository.save(order);
+    entityManager.flush();
+
+    assertEquals(0, statistics.getEntityLoadCount());
+    assertEquals(ITEM_COUNT + 2, statistics.getEntityInsertCount());
+    assertEquals(3, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  public void testFailureMessagesContainingDelimitersRoundTrip() {
+    Order order = order();
+    orderRepository.save(order);
+    entityManager.flush();
+
+    order.cancel(List.of("Payment failed, card declined", "Retry later"));
+    orderRepository.updateOrderStatuses(List.of(order));
+    entityManager.clear();
+
+    Order savedOrder = orderRepository.findOrderByTrackingId(order.getTrackingId()).orElseThrow();
+    assertEquals(List.of("Payment failed, card declined", "Retry later"), savedOrder.getFailureMessages());
+  }
+
+  @Test
+  public void testTrackOrderResponseIsReadWithOneStatementWithoutLoadingTheOrder() {
+    Order order = order();
+    orderRepository.save(order);
+    entityManager.flush();
+    order.cancel(List.of("Restaurant is closed"));
+    orderRepository.updateOrderStatuses(List.of(order));
+    entityManager.clear();
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    TrackOrderResponse trackOrderResponse = orderRepository.findTrackOrderResponseByTrackingId(order.getTrackingId())
+        .orElseThrow();
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(0, statistics.getEntityLoadCount());
+    assertEquals(order.getTrackingId().getValue(), trackOrderResponse.getOrderTrackingId());
+    assertEquals(OrderStatus.CANCELED, trackOrderResponse.getOrderStatus());
+    assertEquals(List.of("Restaurant is closed"), trackOrderResponse.getFailureMessage());
+  }
+
+  @Test
+  public void testTrackOrderResponsesOfManyTrackingIdsAreReadWithOneStatement() {
+    Order first = order();
+    Order second = order();
+    orderRepository.save(first);
+    orderRepository.save(second);
+    entityManager.flush();
+    second.pay();
+    orderRepository.updateOrderStatuses(List.of(second));
+    entityManager.clear();
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    List<TrackOrderResponse> trackOrderResponses = orderRepository.findTrackOrderResponsesByTrackingIds(
+        List.of(first.getTrackingId(), second.getTrackingId(), new TrackingId(UUID.randomUUID())));
+
+    assertEquals(Map.of(first.getTrackingId().getValue(), OrderStatus.PENDING,
+            second.getTrackingId().getValue(), OrderStatus.PAID),
+        trackOrderResponses.stream().collect(Collectors.toMap(TrackOrderResponse::getOrderTrackingId,
+            TrackOrderResponse::getOrderStatus)));
+  }
+
+  @Test
+  public void testTrackingIdIsUniqueAcrossOrders() {
+    Order order = order();
+    orderRepository.save(order);
+    entityManager.flush();
+
+    OrderEntity otherOrder = OrderEntity.builder()
+        .id(UUID.randomUUID())
+        .trackingId(order.getTrackingId().getValue())
+        .build();
+
+    assertThrows(DuplicateKeyException.class, () -> orderJdbcRepository.insertTracking(List.of(otherOrder)));
+  }
+
+  private Order order() {
+    List<OrderItem> items = new ArrayList<>(ITEM_COUNT);
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      items.add(OrderTestFixtures.orderItem(new Money(ITEM_PRICE)));
+    }
+    return OrderTestFixtures.initializedOrder(items);
+  }
+}
@@ -0,0 +1,54 @@
+package com.food.ordering.system.order.service.dataaccess.order.cache;
+
+import com.food.ordering.system.order.service.dataaccess.notification.NotificationOrigin;
+import com.food.ordering.system.order.service.domain.config.OrderTrackingCacheConfigData;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking.OrderTrackingChangeListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class OrderTrackingInvalidationListenerTest {
+  private final OrderTrackingChangeListener orderTrackingChangeListener = mock(OrderTrackingChangeListener.class);
+  private final NotificationOrigin notificationOrigin = new NotificationOrigin();
+  private final OrderTrackingInvalidationListener listener = new OrderTrackingInvalidationListener(
+      new DataSourceProperties(), List.of(orderTrackingChangeListener), notificationOrigin, configData());
+
+  @Test
+  public void testOwnNotificationsAreSkipped() {
+    listener.onNotification(UUID.randomUUID() + ":" + notificationOrigin.getId());
+
+    verifyNoInteractions(orderTrackingChangeListener);
+  }
+
+  @Test
+  public void testNotificationsOfOtherInstancesAreApplied() {
+    UUID trackingId = UUID.randomUUID();
+
+    listener.onNotification(trackingId + ":" + UUID.randomUUID());
+
+    verify(orderTrackingChangeListener).orderTrackingChanged(trackingId);
+  }
+
+  @Test
+  public void testNotificationsWithoutOriginAreApplied() {
+    UUID trackingId = UUID.randomUUID();
+
+    listener.onNotification(trackingId.toString());
+
+    verify(orderTrackingChangeListener).orderTrackingChanged(trackingId);
+  }
+
+  private static OrderTrackingCacheConfigData configData() {
+    OrderTrackingCacheConfigData configData = new OrderTrackingCacheConfigData();
+    configData.setInvalidationChannel("order_tracking_changed");
+    configData.setInvalidationPollTimeoutMs(500);
+    configData.setReconnectDelayMs(5_000L);
+    return configData;
+  }
+}
@@ -0,0 +1,106 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantMenuCache;
+import com.food.ordering.system.order.service.dataaccess.restaurant.config.RestaurantCacheConfigData;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RestaurantRepositoryImplTest {
+  private static final UUID RESTAURANT_ID = UUID.randomUUID();
+  private static final UUID BURGER_ID = UUID.randomUUID();
+  private static final UUID PIZZA_ID = UUID.randomUUID();
+
+  private final RestaurantJpaRepository restaurantJpaRepository = mock(RestaurantJpaRepository.class);
+  private final RestaurantDataAccessMapper restaurantDataAccessMapper = new RestaurantDataAccessMapper();
+  private final RestaurantRepositoryImpl restaurantRepository = new RestaurantRepositoryImpl(
+      new RestaurantMenuCache(restaurantJpaRepository, restaurantDataAccessMapper, configData(),
+          new SimpleMeterRegistry()),
+      restaurantDataAccessMapper);
+
+  @Test
+  public void testRequestedProductsAreReadFromTheMenu() {
+    when(restaurantJpaRepository.findByRestaurantId(RESTAURANT_ID))
+        .thenReturn(List.of(entity(BURGER_ID, "Burger", "8.00"), entity(PIZZA_ID, "Pizza", "11.50")));
+
+    Restaurant restaurant = restaurantRepository.findRestaurantInformation(request(PIZZA_ID, PIZZA_ID))
+        .orElseThrow();
+
+    assertEquals(new RestaurantId(RESTAURANT_ID), restaurant.getId());
+    assertTrue(restaurant.isActive());
+    assertEquals(1, restaurant.getProducts().size());
+    Product pizza = restaurant.getProduct(new ProductId(PIZZA_ID));
+    assertEquals("Pizza", pizza.getName());
+    assertEquals(new Money(new BigDecimal("11.50")), pizza.getPrice());
+  }
+
+  @Test
+  public void testProductsMissingFromTheMenuAreLeftOut() {
+    when(restaurantJpaRepository.findByRestaurantId(RESTAURANT_ID))
+        .thenReturn(List.of(entity(BURGER_ID, "Burger", "8.00")));
+
+    Restaurant restaurant = restaurantRepository.findRestaurantInformation(request(BURGER_ID, PIZZA_ID))
+        .orElseThrow();
+
+    assertEquals(List.of(new ProductId(BURGER_ID)),
+        restaurant.getProducts().stream().map(Product::getId).toList());
+  }
+
+  @Test
+  public void testRestaurantWithNoneOfTheRequestedProductsIsNotFound() {
+    when(restaurantJpaRepository.findByRestaurantId(RESTAURANT_ID))
+        .thenReturn(List.of(entity(BURGER_ID, "Burger", "8.00")));
+
+    assertFalse(restaurantRepository.findRestaurantInformation(request(PIZZA_ID)).isPresent());
+  }
+
+  @Test
+  public void testUnknownRestaurantIsNotFound() {
+    when(restaurantJpaRepository.findByRestaurantId(RESTAURANT_ID)).thenReturn(List.of());
+
+    assertFalse(restaurantRepository.findRestaurantInformation(request(BURGER_ID)).isPresent());
+  }
+
+  private static Restaurant request(UUID... productIds) {
+    return Restaurant.builder()
+        .restaurantId(new RestaurantId(RESTAURANT_ID))
+        .products(Arrays.stream(productIds).map(productId -> new Product(new ProductId(productId))).toList())
+        .build();
+  }
+
+  private static RestaurantEntity entity(UUID productId, String productName, String price) {
+    return RestaurantEntity.builder()
+        .restaurantId(RESTAURANT_ID)
+        .productId(productId)
+        .restaurantName("Restaurant")
+        .restaurantActive(true)
+        .productName(productName)
+        .productPrice(new BigDecimal(price))
+        .build();
+  }
+
+  private static RestaurantCacheConfigData configData() {
+    RestaurantCacheConfigData configData = new RestaurantCacheConfigData();
+    configData.setMaximumSize(100L);
+    configData.setExpireAfterWriteMs(600_000L);
+    return configData;
+  }
+}
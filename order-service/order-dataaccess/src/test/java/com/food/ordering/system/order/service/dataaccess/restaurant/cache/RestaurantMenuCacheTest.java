@@ -0,0 +1,86 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.order.service.dataaccess.restaurant.config.RestaurantCacheConfigData;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RestaurantMenuCacheTest {
+  private static final UUID RESTAURANT_ID = UUID.randomUUID();
+  private static final UUID PRODUCT_ID = UUID.randomUUID();
+
+  private final RestaurantJpaRepository restaurantJpaRepository = mock(RestaurantJpaRepository.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RestaurantMenuCache restaurantMenuCache = new RestaurantMenuCache(restaurantJpaRepository,
+      new RestaurantDataAccessMapper(), configData(), meterRegistry);
+
+  @Test
+  public void testMenuIsLoadedOnceAndServedFromCache() {
+    when(restaurantJpaRepository.findByRestaurantId(RESTAURANT_ID)).thenReturn(List.of(entity("12.50")));
+
+    RestaurantMenu first = restaurantMenuCache.getMenu(RESTAURANT_ID).orElseThrow();
+    RestaurantMenu second = restaurantMenuCache.getMenu(RESTAURANT_ID).orElseThrow();
+
+    verify(restaurantJpaRepository, times(1)).findByRestaurantId(RESTAURANT_ID);
+    assertEquals(first, second);
+    assertTrue(first.isActive());
+    assertEquals(new Money(new BigDecimal("12.50")), first.getItem(PRODUCT_ID).getPrice());
+  }
+
+  @Test
+  public void testUnknownRestaurantIsNotCached() {
+    when(restaurantJpaRepository.findByRestaurantId(RESTAURANT_ID)).thenReturn(List.of());
+
+    assertTrue(restaurantMenuCache.getMenu(RESTAURANT_ID).isEmpty());
+    assertTrue(restaurantMenuCache.getMenu(RESTAURANT_ID).isEmpty());
+
+    verify(restaurantJpaRepository, times(2)).findByRestaurantId(RESTAURANT_ID);
+  }
+
+  @Test
+  public void testInvalidatedMenuIsReloaded() {
+    when(restaurantJpaRepository.findByRestaurantId(RESTAURANT_ID))
+        .thenReturn(List.of(entity("12.50")), List.of(entity("15.00")));
+    restaurantMenuCache.getMenu(RESTAURANT_ID);
+
+    restaurantMenuCache.invalidate(RESTAURANT_ID);
+
+    assertEquals(new Money(new BigDecimal("15.00")),
+        restaurantMenuCache.getMenu(RESTAURANT_ID).orElseThrow().getItem(PRODUCT_ID).getPrice());
+    verify(restaurantJpaRepository, times(2)).findByRestaurantId(RESTAURANT_ID);
+    assertEquals(1.0, meterRegistry.get("cache.invalidations").tag("cache", "restaurant-menu").counter().count());
+  }
+
+  private static RestaurantEntity entity(String price) {
+    return RestaurantEntity.builder()
+        .restaurantId(RESTAURANT_ID)
+        .productId(PRODUCT_ID)
+        .restaurantName("Restaurant")
+        .restaurantActive(true)
+        .productName("Product")
+        .productPrice(new BigDecimal(price))
+        .build();
+  }
+
+  private static RestaurantCacheConfigData configData() {
+    RestaurantCacheConfigData configData = new RestaurantCacheConfigData();
+    configData.setMaximumSize(100L);
+    configData.setExpireAfterWriteMs(600_000L);
+    return configData;
+  }
+}
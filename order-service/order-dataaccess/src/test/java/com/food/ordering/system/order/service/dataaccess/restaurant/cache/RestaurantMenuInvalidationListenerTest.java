@@ -0,0 +1,58 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.order.service.dataaccess.restaurant.config.RestaurantCacheConfigData;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class RestaurantMenuInvalidationListenerTest {
+  private final RestaurantMenuCache restaurantMenuCache = mock(RestaurantMenuCache.class);
+  private final RestaurantMenuInvalidationListener listener = new RestaurantMenuInvalidationListener(
+      new DataSourceProperties(), restaurantMenuCache, configData());
+
+  @Test
+  public void testRestaurantIdPayloadEvictsThatMenu() {
+    UUID restaurantId = UUID.randomUUID();
+
+    listener.onNotification(restaurantId.toString());
+
+    verify(restaurantMenuCache).invalidate(restaurantId);
+    verifyNoMoreInteractions(restaurantMenuCache);
+  }
+
+  @Test
+  public void testEmptyPayloadEvictsAllMenus() {
+    listener.onNotification("");
+
+    verify(restaurantMenuCache).invalidateAll();
+    verifyNoMoreInteractions(restaurantMenuCache);
+  }
+
+  @Test
+  public void testUnexpectedPayloadEvictsAllMenus() {
+    listener.onNotification("not-a-restaurant-id");
+
+    verify(restaurantMenuCache).invalidateAll();
+    verifyNoMoreInteractions(restaurantMenuCache);
+  }
+
+  @Test
+  public void testLostConnectionEvictsAllMenus() {
+    listener.onConnectionLost();
+
+    verify(restaurantMenuCache).invalidateAll();
+  }
+
+  private static RestaurantCacheConfigData configData() {
+    RestaurantCacheConfigData configData = new RestaurantCacheConfigData();
+    configData.setInvalidationChannel("restaurant_menu_changed");
+    configData.setInvalidationPollTimeoutMs(500);
+    configData.setReconnectDelayMs(5_000L);
+    return configData;
+  }
+}
@@ -1,24 +1,38 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import com.food.ordering.system.order.service.domain.stream.OrderStatusSubscription;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 @Slf4j
 @Validated
 @Service
 class OrderApplicationServiceImpl implements OrderApplicationService {
   private final OrderCreateCommandHandler orderCreateCommandHandler;
+  private final OrderBatchCreateCommandHandler orderBatchCreateCommandHandler;
   private final OrderTrackCommandHandler orderTrackCommandHandler;
+  private final OrderStatusStreamHandler orderStatusStreamHandler;
 
-  public OrderApplicationServiceImpl(OrderCreateCommandHandler orderCreateCommandHandler, OrderTrackCommandHandler orderTrackCommandHandler) {
+  public OrderApplicationServiceImpl(OrderCreateCommandHandler orderCreateCommandHandler,
+                                     OrderBatchCreateCommandHandler orderBatchCreateCommandHandler,
+                                     OrderTrackCommandHandler orderTrackCommandHandler,
+                                     OrderStatusStreamHandler orderStatusStreamHandler) {
     this.orderCreateCommandHandler = orderCreateCommandHandler;
+    this.orderBatchCreateCommandHandler = orderBatchCreateCommandHandler;
     this.orderTrackCommandHandler = orderTrackCommandHandler;
+    this.orderStatusStreamHandler = orderStatusStreamHandler;
   }
 
   @Override
@@ -26,8 +40,25 @@ class OrderApplicationServiceImpl implements OrderApplicationService {
     return orderCreateCommandHandler.createOrder(createOrderCommand);
   }
 
+  @Override
+  public CreateOrderBatchResponse createOrders(CreateOrderBatchCommand createOrderBatchCommand) {
+    return orderBatchCreateCommandHandler.createOrders(createOrderBatchCommand);
+  }
+
   @Override
   public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
     return orderTrackCommandHandler.trackOrder(trackOrderQuery);
   }
+
+  @Override
+  public OrderStatusSubscription subscribeToOrderStatus(TrackOrderQuery trackOrderQuery,
+                                                        Consumer<TrackOrderResponse> listener) {
+    return orderStatusStreamHandler.subscribe(trackOrderQuery, listener);
+  }
+
+  @Override
+  public CompletableFuture<TrackOrderResponse> awaitOrderStatusChange(TrackOrderQuery trackOrderQuery,
+                                                                      OrderStatus seenStatus) {
+    return orderStatusStreamHandler.awaitStatusChange(trackOrderQuery, seenStatus);
+  }
 }
@@ -0,0 +1,76 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.cache.OrderTrackingCache;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchItemResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class OrderBatchCreateCommandHandler {
+  private final OrderBatchCreateHelper orderBatchCreateHelper;
+  private final OrderDataMapper orderDataMapper;
+  private final OrderTrackingCache orderTrackingCache;
+  private final OrderServiceConfigData orderServiceConfigData;
+
+  public OrderBatchCreateCommandHandler(OrderBatchCreateHelper orderBatchCreateHelper,
+                                        OrderDataMapper orderDataMapper,
+                                        OrderTrackingCache orderTrackingCache,
+                                        OrderServiceConfigData orderServiceConfigData) {
+    this.orderBatchCreateHelper = orderBatchCreateHelper;
+    this.orderDataMapper = orderDataMapper;
+    this.orderTrackingCache = orderTrackingCache;
+    this.orderServiceConfigData = orderServiceConfigData;
+  }
+
+  public CreateOrderBatchResponse createOrders(CreateOrderBatchCommand createOrderBatchCommand) {
+    int batchSize = createOrderBatchCommand.getOrders().size();
+    if (batchSize > orderServiceConfigData.getCreateOrderBatchMaxSize()) {
+      log.warn("Rejecting order batch of {} orders", batchSize);
+      throw new OrderDomainException("Order batch of " + batchSize + " orders exceeds the maximum of "
+          + orderServiceConfigData.getCreateOrderBatchMaxSize());
+    }
+
+    List<OrderBatchCreateResult> results = orderBatchCreateHelper.persistOrders(createOrderBatchCommand.getOrders());
+    results.stream()
+        .filter(OrderBatchCreateResult::isCreated)
+        .forEach(result -> orderTrackingCache.put(
+            orderDataMapper.orderToTrackOrderResponse(result.getOrderCreatedEvent().getOrder())));
+
+    List<CreateOrderBatchItemResponse> orders = results.stream()
+        .map(this::resultToItemResponse)
+        .toList();
+    int createdCount = (int) results.stream().filter(OrderBatchCreateResult::isCreated).count();
+
+    return CreateOrderBatchResponse.builder()
+        .createdCount(createdCount)
+        .failedCount(results.size() - createdCount)
+        .orders(orders)
+        .build();
+  }
+
+  private CreateOrderBatchItemResponse resultToItemResponse(OrderBatchCreateResult result) {
+    if (!result.isCreated()) {
+      return CreateOrderBatchItemResponse.builder()
+          .index(result.getIndex())
+          .message(result.getFailureMessage())
+          .build();
+    }
+
+    Order order = result.getOrderCreatedEvent().getOrder();
+    return CreateOrderBatchItemResponse.builder()
+        .index(result.getIndex())
+        .orderTrackingId(order.getTrackingId().getValue())
+        .orderStatus(order.getOrderStatus())
+        .message("Order created successfully")
+        .build();
+  }
+}
@@ -0,0 +1,166 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.exception.DomainException;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItemDTO;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.saga.OrderSagaEngine;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OrderBatchCreateHelper {
+  private final OrderDomainService orderDomainService;
+  private final OrderRepository orderRepository;
+  private final CustomerRepository customerRepository;
+  private final RestaurantRepository restaurantRepository;
+  private final OrderDataMapper orderDataMapper;
+  private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+  private final OrderSagaEngine orderSagaEngine;
+  private final Validator validator;
+
+  public OrderBatchCreateHelper(OrderDomainService orderDomainService,
+                                OrderRepository orderRepository,
+                                CustomerRepository customerRepository,
+                                RestaurantRepository restaurantRepository,
+                                OrderDataMapper orderDataMapper,
+                                OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher,
+                                OrderSagaEngine orderSagaEngine,
+                                Validator validator) {
+    this.orderDomainService = orderDomainService;
+    this.orderRepository = orderRepository;
+    this.customerRepository = customerRepository;
+    this.restaurantRepository = restaurantRepository;
+    this.orderDataMapper = orderDataMapper;
+    this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+    this.orderSagaEngine = orderSagaEngine;
+    this.validator = validator;
+  }
+
+  @Transactional
+  public List<OrderBatchCreateResult> persistOrders(List<CreateOrderCommand> createOrderCommands) {
+    OrderBatchCreateResult[] results = new OrderBatchCreateResult[createOrderCommands.size()];
+    Map<Integer, CreateOrderCommand> validCommands = new LinkedHashMap<>();
+
+    for (int index = 0; index < createOrderCommands.size(); index++) {
+      String violations = validate(createOrderCommands.get(index));
+      if (violations == null) {
+        validCommands.put(index, createOrderCommands.get(index));
+      } else {
+        results[index] = OrderBatchCreateResult.failed(index, violations);
+      }
+    }
+
+    Set<UUID> customerIds = findCustomerIds(validCommands.values());
+    Map<UUID, Restaurant> restaurants = findRestaurants(validCommands.values());
+    List<Order> orders = new ArrayList<>(validCommands.size());
+    List<OrderCreatedEvent> orderCreatedEvents = new ArrayList<>(validCommands.size());
+
+    validCommands.forEach((index, createOrderCommand) -> {
+      try {
+        OrderCreatedEvent orderCreatedEvent = initiateOrder(createOrderCommand, customerIds, restaurants);
+        orders.add(orderCreatedEvent.getOrder());
+        orderCreatedEvents.add(orderCreatedEvent);
+        results[index] = OrderBatchCreateResult.created(index, orderCreatedEvent);
+      } catch (DomainException e) {
+        log.warn("Order at index {} of the batch is rejected: {}", index, e.getMessage());
+        results[index] = OrderBatchCreateResult.failed(index, e.getMessage());
+      }
+    });
+
+    if (!orders.isEmpty()) {
+      orderRepository.saveAll(orders);
+      orderSagaEngine.startSagas(orders);
+      orderCreatedPaymentRequestMessagePublisher.publishAll(orderCreatedEvents);
+    }
+    log.info("Created {} of {} orders in batch", orders.size(), createOrderCommands.size());
+    return Arrays.asList(results);
+  }
+
+  private OrderCreatedEvent initiateOrder(CreateOrderCommand createOrderCommand,
+                                          Set<UUID> customerIds,
+                                          Map<UUID, Restaurant> restaurants) {
+    if (!customerIds.contains(createOrderCommand.getCustomerId())) {
+      throw new OrderDomainException("Customer " + createOrderCommand.getCustomerId() + " not found");
+    }
+
+    Restaurant restaurant = restaurants.get(createOrderCommand.getRestaurantId());
+    if (restaurant == null) {
+      throw new OrderDomainException("Restaurant " + createOrderCommand.getRestaurantId() + " not found");
+    }
+
+    Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+    return orderDomainService.validateAndInitiateOrder(order, restaurant);
+  }
+
+  private String validate(CreateOrderCommand createOrderCommand) {
+    if (createOrderCommand == null) {
+      return "order must not be null";
+    }
+
+    Set<ConstraintViolation<CreateOrderCommand>> violations = validator.validate(createOrderCommand);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
+
+  private Set<UUID> findCustomerIds(Iterable<CreateOrderCommand> createOrderCommands) {
+    Set<UUID> customerIds = new LinkedHashSet<>();
+    createOrderCommands.forEach(createOrderCommand -> customerIds.add(createOrderCommand.getCustomerId()));
+
+    if (customerIds.isEmpty()) {
+      return customerIds;
+    }
+    return customerRepository.findCustomers(customerIds).stream()
+        .map(customer -> customer.getId().getValue())
+        .collect(Collectors.toSet());
+  }
+
+  private Map<UUID, Restaurant> findRestaurants(Iterable<CreateOrderCommand> createOrderCommands) {
+    Map<UUID, Set<UUID>> productIdsByRestaurant = new LinkedHashMap<>();
+    createOrderCommands.forEach(createOrderCommand -> createOrderCommand.getItems().stream()
+        .map(OrderItemDTO::getProductId)
+        .forEach(productIdsByRestaurant.computeIfAbsent(createOrderCommand.getRestaurantId(),
+            restaurantId -> new LinkedHashSet<>())::add));
+
+    Map<UUID, Restaurant> restaurants = new HashMap<>();
+    productIdsByRestaurant.forEach((restaurantId, productIds) -> restaurantRepository.findRestaurantInformation(
+            Restaurant.builder()
+                .restaurantId(new RestaurantId(restaurantId))
+                .products(productIds.stream().map(productId -> new Product(new ProductId(productId))).toList())
+                .build())
+        .ifPresent(restaurant -> restaurants.put(restaurantId, restaurant)));
+    log.debug("Loaded {} of {} restaurants referenced by the batch", restaurants.size(), productIdsByRestaurant.size());
+    return restaurants;
+  }
+}
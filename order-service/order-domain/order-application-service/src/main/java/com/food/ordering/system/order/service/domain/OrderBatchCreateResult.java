@@ -0,0 +1,25 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderBatchCreateResult {
+  private final int index;
+  private final OrderCreatedEvent orderCreatedEvent;
+  private final String failureMessage;
+
+  public static OrderBatchCreateResult created(int index, OrderCreatedEvent orderCreatedEvent) {
+    return new OrderBatchCreateResult(index, orderCreatedEvent, null);
+  }
+
+  public static OrderBatchCreateResult failed(int index, String failureMessage) {
+    return new OrderBatchCreateResult(index, null, failureMessage);
+  }
+
+  public boolean isCreated() {
+    return orderCreatedEvent != null;
+  }
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.cache.OrderTrackingCache;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Customer;
@@ -7,8 +8,9 @@ import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.instrumentation.OrderCreationStage;
+import com.food.ordering.system.order.service.domain.instrumentation.OrderCreationStageTimer;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
@@ -25,20 +27,28 @@ import java.util.UUID;
 public class OrderCreateCommandHandler {
   private final OrderCreateHelper orderCreateHelper;
   private final OrderDataMapper orderDataMapper;
-  private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+  private final OrderTrackingCache orderTrackingCache;
+  private final OrderCreationStageTimer orderCreationStageTimer;
 
   public OrderCreateCommandHandler(OrderCreateHelper orderCreateHelper,
                                    OrderDataMapper orderDataMapper,
-                                   OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher) {
+                                   OrderTrackingCache orderTrackingCache,
+                                   OrderCreationStageTimer orderCreationStageTimer) {
     this.orderCreateHelper = orderCreateHelper;
     this.orderDataMapper = orderDataMapper;
-    this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+    this.orderTrackingCache = orderTrackingCache;
+    this.orderCreationStageTimer = orderCreationStageTimer;
   }
 
   public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
-    OrderCreatedEvent orderCreatedEvent = orderCreateHelper.persistOrder(createOrderCommand);
-    log.info("Order is created: {}", orderCreatedEvent.getOrder());
-    orderCreatedPaymentRequestMessagePublisher.publish(orderCreatedEvent);
-    return orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(), "Order created successfully");
+    return orderCreationStageTimer.record(OrderCreationStage.TOTAL, () -> {
+      OrderCreatedEvent orderCreatedEvent = orderCreationStageTimer.record(OrderCreationStage.PERSIST,
+          () -> orderCreateHelper.persistOrder(createOrderCommand));
+      log.info("Order is created: {}", orderCreatedEvent.getOrder());
+      return orderCreationStageTimer.record(OrderCreationStage.RESPONSE_MAPPING, () -> {
+        orderTrackingCache.put(orderDataMapper.orderToTrackOrderResponse(orderCreatedEvent.getOrder()));
+        return orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(), "Order created successfully");
+      });
+    });
   }
 }
@@ -6,15 +6,20 @@ import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.instrumentation.OrderCreationStage;
+import com.food.ordering.system.order.service.domain.instrumentation.OrderCreationStageTimer;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.saga.OrderSagaEngine;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,26 +31,43 @@ public class OrderCreateHelper {
   private final CustomerRepository customerRepository;
   private final RestaurantRepository restaurantRepository;
   private final OrderDataMapper orderDataMapper;
+  private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+  private final OrderSagaEngine orderSagaEngine;
+  private final OrderCreationStageTimer orderCreationStageTimer;
 
   public OrderCreateHelper(OrderDomainService orderDomainService,
                            OrderRepository orderRepository,
                            CustomerRepository customerRepository,
                            RestaurantRepository restaurantRepository,
-                           OrderDataMapper orderDataMapper) {
+                           OrderDataMapper orderDataMapper,
+                           OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher,
+                           OrderSagaEngine orderSagaEngine,
+                           OrderCreationStageTimer orderCreationStageTimer) {
     this.orderDomainService = orderDomainService;
     this.orderRepository = orderRepository;
     this.customerRepository = customerRepository;
     this.restaurantRepository = restaurantRepository;
     this.orderDataMapper = orderDataMapper;
+    this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+    this.orderSagaEngine = orderSagaEngine;
+    this.orderCreationStageTimer = orderCreationStageTimer;
   }
 
   @Transactional
   public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand) {
-    checkCustomer(createOrderCommand.getCustomerId());
-    Restaurant restaurant = checkRestaurant(createOrderCommand);
+    orderCreationStageTimer.record(OrderCreationStage.CUSTOMER_CHECK,
+        () -> checkCustomer(createOrderCommand.getCustomerId()));
+    Restaurant restaurant = orderCreationStageTimer.record(OrderCreationStage.RESTAURANT_LOOKUP,
+        () -> checkRestaurant(createOrderCommand));
     Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
-    OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
-    saveOrder(order);
+    OrderCreatedEvent orderCreatedEvent = orderCreationStageTimer.record(OrderCreationStage.VALIDATE_AND_INITIATE,
+        () -> orderDomainService.validateAndInitiateOrder(order, restaurant));
+    orderCreationStageTimer.record(OrderCreationStage.SAVE_ORDER, () -> {
+      saveOrder(order);
+      orderSagaEngine.startSagas(List.of(order));
+    });
+    orderCreationStageTimer.record(OrderCreationStage.PUBLISH,
+        () -> orderCreatedPaymentRequestMessagePublisher.publish(orderCreatedEvent));
     log.info("Order created event: {}", orderCreatedEvent);
     return orderCreatedEvent;
   }
@@ -0,0 +1,79 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.cache.OrderTrackingCache;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.stream.OrderStatusSubscriptionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class OrderSagaHelper {
+  private final OrderRepository orderRepository;
+  private final OrderDataMapper orderDataMapper;
+  private final OrderTrackingCache orderTrackingCache;
+  private final OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry;
+
+  public OrderSagaHelper(OrderRepository orderRepository,
+                         OrderDataMapper orderDataMapper,
+                         OrderTrackingCache orderTrackingCache,
+                         OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry) {
+    this.orderRepository = orderRepository;
+    this.orderDataMapper = orderDataMapper;
+    this.orderTrackingCache = orderTrackingCache;
+    this.orderStatusSubscriptionRegistry = orderStatusSubscriptionRegistry;
+  }
+
+  public Map<OrderId, Order> findOrders(List<String> orderIds) {
+    List<OrderId> distinctOrderIds = orderIds.stream()
+        .distinct()
+        .map(orderId -> new OrderId(UUID.fromString(orderId)))
+        .toList();
+
+    Map<OrderId, Order> orders = new HashMap<>();
+    orderRepository.findOrdersByIds(distinctOrderIds).forEach(order -> orders.put(order.getId(), order));
+    log.debug("Loaded {} of {} orders referenced by the batch", orders.size(), distinctOrderIds.size());
+    return orders;
+  }
+
+  public void saveOrderStatuses(Collection<Order> orders) {
+    if (orders.isEmpty()) {
+      return;
+    }
+
+    orderRepository.updateOrderStatuses(new ArrayList<>(orders));
+    List<TrackOrderResponse> trackOrderResponses = orders.stream()
+        .map(orderDataMapper::orderToTrackOrderResponse)
+        .toList();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          trackOrderResponsesSaved(trackOrderResponses);
+        }
+      });
+    } else {
+      trackOrderResponsesSaved(trackOrderResponses);
+    }
+  }
+
+  private void trackOrderResponsesSaved(List<TrackOrderResponse> trackOrderResponses) {
+    trackOrderResponses.forEach(trackOrderResponse -> {
+      orderTrackingCache.put(trackOrderResponse);
+      orderStatusSubscriptionRegistry.publish(trackOrderResponse);
+    });
+  }
+}
@@ -0,0 +1,73 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderStatusStreamConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.stream.OrderStatusSubscription;
+import com.food.ordering.system.order.service.domain.stream.OrderStatusSubscriptionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class OrderStatusStreamHandler {
+  private final OrderTrackCommandHandler orderTrackCommandHandler;
+  private final OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry;
+  private final OrderStatusStreamConfigData orderStatusStreamConfigData;
+
+  public OrderStatusStreamHandler(OrderTrackCommandHandler orderTrackCommandHandler,
+                                  OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry,
+                                  OrderStatusStreamConfigData orderStatusStreamConfigData) {
+    this.orderTrackCommandHandler = orderTrackCommandHandler;
+    this.orderStatusSubscriptionRegistry = orderStatusSubscriptionRegistry;
+    this.orderStatusStreamConfigData = orderStatusStreamConfigData;
+  }
+
+  /**
+   * Subscribes before reading the current status, so a change committed in between is delivered either way. The
+   * current status is the first response the listener receives.
+   */
+  public OrderStatusSubscription subscribe(TrackOrderQuery trackOrderQuery, Consumer<TrackOrderResponse> listener) {
+    OrderStatusSubscription subscription = orderStatusSubscriptionRegistry.subscribe(
+        trackOrderQuery.getOrderTrackingId(), listener);
+    try {
+      subscription.offer(orderTrackCommandHandler.trackOrder(trackOrderQuery));
+    } catch (RuntimeException e) {
+      subscription.cancel();
+      throw e;
+    }
+    return subscription;
+  }
+
+  /**
+   * Completes with the first status other than the one the client has seen, or with the unchanged status once the
+   * long-poll timeout passes. Cancelling the returned future removes the subscription.
+   */
+  public CompletableFuture<TrackOrderResponse> awaitStatusChange(TrackOrderQuery trackOrderQuery,
+                                                                 OrderStatus seenStatus) {
+    CompletableFuture<TrackOrderResponse> statusChange = new CompletableFuture<>();
+    OrderStatusSubscription subscription = orderStatusSubscriptionRegistry.subscribe(
+        trackOrderQuery.getOrderTrackingId(), trackOrderResponse -> {
+          if (trackOrderResponse.getOrderStatus() != seenStatus) {
+            statusChange.complete(trackOrderResponse);
+          }
+        });
+    statusChange.whenComplete((trackOrderResponse, e) -> subscription.cancel());
+
+    try {
+      TrackOrderResponse current = orderTrackCommandHandler.trackOrder(trackOrderQuery);
+      subscription.offer(current);
+      statusChange.completeOnTimeout(current, orderStatusStreamConfigData.getLongPollTimeoutMs(),
+          TimeUnit.MILLISECONDS);
+    } catch (RuntimeException e) {
+      subscription.cancel();
+      throw e;
+    }
+    return statusChange;
+  }
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class OrderTrackHelper {
+  private final OrderRepository orderRepository;
+
+  public OrderTrackHelper(OrderRepository orderRepository) {
+    this.orderRepository = orderRepository;
+  }
+
+  @Transactional(readOnly = true)
+  public Optional<TrackOrderResponse> findTrackOrderResponse(TrackingId trackingId) {
+    return orderRepository.findTrackOrderResponseByTrackingId(trackingId);
+  }
+
+  @Transactional(readOnly = true)
+  public List<TrackOrderResponse> findTrackOrderResponses(List<TrackingId> trackingIds) {
+    return orderRepository.findTrackOrderResponsesByTrackingIds(trackingIds);
+  }
+}
@@ -1,23 +1,43 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.saga.OrderSagaEngine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Slf4j
 @Validated
 @Service
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
+  private final OrderSagaEngine orderSagaEngine;
+  private final OrderDataMapper orderDataMapper;
+
+  public PaymentResponseMessageListenerImpl(OrderSagaEngine orderSagaEngine,
+                                            OrderDataMapper orderDataMapper) {
+    this.orderSagaEngine = orderSagaEngine;
+    this.orderDataMapper = orderDataMapper;
+  }
 
   @Override
   public void paymentCompleted(PaymentResponse paymentResponse) {
-
+    paymentResponsesReceived(List.of(paymentResponse));
   }
 
   @Override
   public void paymentCanceled(PaymentResponse paymentResponse) {
+    paymentResponsesReceived(List.of(paymentResponse));
+  }
 
+  @Override
+  public void paymentResponsesReceived(List<PaymentResponse> paymentResponses) {
+    log.debug("Processing {} payment responses", paymentResponses.size());
+    orderSagaEngine.process(paymentResponses.stream()
+        .map(orderDataMapper::paymentResponseToSagaResponse)
+        .toList());
   }
 }
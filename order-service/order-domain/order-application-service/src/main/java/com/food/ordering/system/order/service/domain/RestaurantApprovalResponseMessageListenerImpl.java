@@ -1,22 +1,43 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.domain.saga.OrderSagaEngine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Slf4j
 @Validated
 @Component
 public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
+  private final OrderSagaEngine orderSagaEngine;
+  private final OrderDataMapper orderDataMapper;
+
+  public RestaurantApprovalResponseMessageListenerImpl(OrderSagaEngine orderSagaEngine,
+                                                       OrderDataMapper orderDataMapper) {
+    this.orderSagaEngine = orderSagaEngine;
+    this.orderDataMapper = orderDataMapper;
+  }
+
   @Override
   public void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse) {
-
+    approvalResponsesReceived(List.of(restaurantApprovalResponse));
   }
 
   @Override
   public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
+    approvalResponsesReceived(List.of(restaurantApprovalResponse));
+  }
 
+  @Override
+  public void approvalResponsesReceived(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+    log.debug("Processing {} restaurant approval responses", restaurantApprovalResponses.size());
+    orderSagaEngine.process(restaurantApprovalResponses.stream()
+        .map(orderDataMapper::restaurantApprovalResponseToSagaResponse)
+        .toList());
   }
 }
@@ -0,0 +1,89 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import com.food.ordering.system.order.service.domain.config.OrderTrackingCacheConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking.OrderTrackingChangeListener;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class OrderTrackingCache implements OrderTrackingChangeListener {
+  private static final String CACHE_NAME = "order-tracking";
+  private static final String NEGATIVE_CACHE_NAME = "order-tracking-unknown";
+
+  private final Cache<UUID, TrackOrderResponse> trackOrderResponses;
+  private final Cache<UUID, Boolean> unknownTrackingIds;
+  private final Counter invalidations;
+
+  public OrderTrackingCache(OrderTrackingCacheConfigData orderTrackingCacheConfigData, MeterRegistry meterRegistry) {
+    this.trackOrderResponses = Caffeine.newBuilder()
+        .maximumSize(orderTrackingCacheConfigData.getMaximumSize())
+        .expireAfterWrite(Duration.ofMillis(orderTrackingCacheConfigData.getExpireAfterWriteMs()))
+        .recordStats()
+        .build();
+    this.unknownTrackingIds = Caffeine.newBuilder()
+        .maximumSize(orderTrackingCacheConfigData.getNegativeMaximumSize())
+        .expireAfterWrite(Duration.ofMillis(orderTrackingCacheConfigData.getNegativeExpireAfterWriteMs()))
+        .recordStats()
+        .build();
+    this.invalidations = Counter.builder("cache.invalidations")
+        .tag("cache", CACHE_NAME)
+        .register(meterRegistry);
+    CaffeineCacheMetrics.monitor(meterRegistry, trackOrderResponses, CACHE_NAME);
+    CaffeineCacheMetrics.monitor(meterRegistry, unknownTrackingIds, NEGATIVE_CACHE_NAME);
+  }
+
+  public Optional<TrackOrderResponse> getTrackOrderResponse(TrackingId trackingId,
+                                                            Function<TrackingId, Optional<TrackOrderResponse>> loader) {
+    UUID key = trackingId.getValue();
+
+    if (unknownTrackingIds.getIfPresent(key) != null) {
+      return Optional.empty();
+    }
+
+    TrackOrderResponse trackOrderResponse = trackOrderResponses.get(key, id -> loader.apply(trackingId).orElse(null));
+
+    if (trackOrderResponse == null) {
+      unknownTrackingIds.put(key, Boolean.TRUE);
+    }
+    return Optional.ofNullable(trackOrderResponse);
+  }
+
+  /**
+   * Order statuses only move forward, so a write-through never replaces a cached response with a later status, e.g.
+   * one loaded after another instance committed the next transition while this one was still finishing its commit.
+   */
+  public void put(TrackOrderResponse trackOrderResponse) {
+    trackOrderResponses.asMap().merge(trackOrderResponse.getOrderTrackingId(), trackOrderResponse,
+        (cached, saved) -> saved.getOrderStatus().compareTo(cached.getOrderStatus()) >= 0 ? saved : cached);
+    unknownTrackingIds.invalidate(trackOrderResponse.getOrderTrackingId());
+  }
+
+  @Override
+  public void orderTrackingChanged(UUID trackingId) {
+    log.debug("Invalidating cached tracking information for tracking id: {}", trackingId);
+    trackOrderResponses.invalidate(trackingId);
+    unknownTrackingIds.invalidate(trackingId);
+    invalidations.increment();
+  }
+
+  @Override
+  public void allOrderTrackingChanged() {
+    log.debug("Invalidating all cached tracking information");
+    trackOrderResponses.invalidateAll();
+    unknownTrackingIds.invalidateAll();
+    invalidations.increment();
+  }
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.outbox")
+public class OrderOutboxConfigData {
+  private Boolean relayEnabled;
+  private String relayMode;
+  private Integer relayThreads;
+  private Integer stripes;
+  private Integer batchSize;
+  private Long pollIntervalMs;
+  private Long sendTimeoutMs;
+  private String replicationSlotName;
+  private Long replicationPollIntervalMs;
+}
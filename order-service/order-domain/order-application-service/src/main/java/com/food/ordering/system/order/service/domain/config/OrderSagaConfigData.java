@@ -0,0 +1,13 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.saga")
+public class OrderSagaConfigData {
+  private Integer maxCompareAndSetAttempts;
+  private Long compareAndSetBackoffMs;
+}
@@ -12,4 +12,5 @@ public class OrderServiceConfigData {
   private String paymentResponseTopicName;
   private String restaurantApprovalRequestTopicName;
   private String restaurantApprovalResponseTopicName;
+  private Integer createOrderBatchMaxSize;
 }
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.status-stream")
+public class OrderStatusStreamConfigData {
+  private Long eventStreamTimeoutMs;
+  private Long longPollTimeoutMs;
+  private Integer reloadChunkSize;
+  private Integer deliveryThreads;
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.tracking-cache")
+public class OrderTrackingCacheConfigData {
+  private Long maximumSize;
+  private Long expireAfterWriteMs;
+  private Long negativeMaximumSize;
+  private Long negativeExpireAfterWriteMs;
+  private String invalidationChannel;
+  private Integer invalidationPollTimeoutMs;
+  private Long reconnectDelayMs;
+}
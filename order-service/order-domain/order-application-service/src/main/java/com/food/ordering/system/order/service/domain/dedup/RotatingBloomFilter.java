@@ -0,0 +1,99 @@
+package com.food.ordering.system.order.service.domain.dedup;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Bloom filter of message ids seen in the current and the previous time window. Ids are added to the current window
+ * and looked up in both, so an id is remembered for at least one and at most two windows.
+ */
+class RotatingBloomFilter {
+  private final int bits;
+  private final int hashes;
+  private final long windowMs;
+  private final LongSupplier clock;
+
+  private volatile Window current;
+  private volatile Window previous;
+
+  RotatingBloomFilter(int expectedInsertions, double falsePositiveProbability, long windowMs, LongSupplier clock) {
+    this.bits = (int) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+    this.hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+    this.windowMs = windowMs;
+    this.clock = clock;
+    this.current = new Window(clock.getAsLong(), bits);
+    this.previous = new Window(clock.getAsLong() - windowMs, bits);
+  }
+
+  boolean mightContain(UUID id) {
+    rotateIfExpired();
+    long hash1 = mix(id.getMostSignificantBits());
+    long hash2 = mix(id.getLeastSignificantBits() ^ hash1);
+    return current.mightContain(hash1, hash2) || previous.mightContain(hash1, hash2);
+  }
+
+  void put(UUID id) {
+    rotateIfExpired();
+    long hash1 = mix(id.getMostSignificantBits());
+    long hash2 = mix(id.getLeastSignificantBits() ^ hash1);
+    current.put(hash1, hash2);
+  }
+
+  private void rotateIfExpired() {
+    long now = clock.getAsLong();
+    if (now - current.startMs < windowMs) {
+      return;
+    }
+    synchronized (this) {
+      if (now - current.startMs >= windowMs) {
+        previous = now - current.startMs < 2 * windowMs ? current : new Window(now - windowMs, bits);
+        current = new Window(now, bits);
+      }
+    }
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+
+  private final class Window {
+    private final long startMs;
+    private final AtomicLongArray words;
+
+    Window(long startMs, int bits) {
+      this.startMs = startMs;
+      this.words = new AtomicLongArray((bits + 63) >>> 6);
+    }
+
+    boolean mightContain(long hash1, long hash2) {
+      for (int i = 0; i < hashes; i++) {
+        int bit = bitIndex(hash1, hash2, i);
+        if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    void put(long hash1, long hash2) {
+      for (int i = 0; i < hashes; i++) {
+        int bit = bitIndex(hash1, hash2, i);
+        long mask = 1L << bit;
+        long word;
+        do {
+          word = words.get(bit >>> 6);
+        } while ((word & mask) == 0 && !words.compareAndSet(bit >>> 6, word, word | mask));
+      }
+    }
+
+    private int bitIndex(long hash1, long hash2, int i) {
+      return (int) Math.floorMod(hash1 + i * hash2, (long) bits);
+    }
+  }
+}
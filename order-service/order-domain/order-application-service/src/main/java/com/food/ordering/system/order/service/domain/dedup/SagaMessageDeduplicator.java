@@ -0,0 +1,102 @@
+package com.food.ordering.system.order.service.domain.dedup;
+
+import com.food.ordering.system.order.service.domain.config.MessageDeduplicationConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drops saga response messages that were already applied. Every new message id is claimed in processed_messages in
+ * the caller's transaction, so the claim commits or rolls back together with the order status change. Ids that the
+ * in-memory filter has seen recently are first looked up instead of claimed, which confirms the likely duplicates
+ * with a read and sends filter false positives on to the claim.
+ * <p>
+ * A caller that claimed messages but could not apply some of them in the same transaction releases those claims, so
+ * the messages are claimed again when they are retried.
+ */
+@Slf4j
+@Component
+public class SagaMessageDeduplicator {
+  private final ProcessedMessageRepository processedMessageRepository;
+  private final RotatingBloomFilter recentMessageIds;
+  private final Counter newMessages;
+  private final Counter duplicateMessages;
+  private final Counter filterFalsePositives;
+
+  public SagaMessageDeduplicator(ProcessedMessageRepository processedMessageRepository,
+                                 MessageDeduplicationConfigData messageDeduplicationConfigData,
+                                 MeterRegistry meterRegistry) {
+    this.processedMessageRepository = processedMessageRepository;
+    this.recentMessageIds = new RotatingBloomFilter(messageDeduplicationConfigData.getFilterExpectedMessagesPerWindow(),
+        messageDeduplicationConfigData.getFilterFalsePositiveProbability(),
+        messageDeduplicationConfigData.getFilterWindowMs(),
+        System::currentTimeMillis);
+    this.newMessages = Counter.builder("saga.messages.deduplication")
+        .tag("result", "new")
+        .register(meterRegistry);
+    this.duplicateMessages = Counter.builder("saga.messages.deduplication")
+        .tag("result", "duplicate")
+        .register(meterRegistry);
+    this.filterFalsePositives = Counter.builder("saga.messages.deduplication.filter.false.positives")
+        .register(meterRegistry);
+    Gauge.builder("saga.messages.deduplication.hit.ratio", this::duplicateRatio)
+        .register(meterRegistry);
+  }
+
+  public <T> List<T> discardDuplicates(List<T> messages, Function<T, String> messageId) {
+    Map<UUID, T> uniqueMessages = new LinkedHashMap<>();
+    messages.forEach(message -> uniqueMessages.putIfAbsent(UUID.fromString(messageId.apply(message)), message));
+
+    Set<UUID> likelyProcessed = uniqueMessages.keySet().stream()
+        .filter(recentMessageIds::mightContain)
+        .collect(Collectors.toSet());
+    Set<UUID> processed = likelyProcessed.isEmpty() ? Set.of()
+        : processedMessageRepository.findProcessed(likelyProcessed);
+    filterFalsePositives.increment(likelyProcessed.size() - processed.size());
+
+    List<UUID> candidates = uniqueMessages.keySet().stream()
+        .filter(id -> !processed.contains(id))
+        .toList();
+    Set<UUID> claimed = candidates.isEmpty() ? Set.of() : processedMessageRepository.saveUnprocessed(candidates);
+    claimed.forEach(recentMessageIds::put);
+
+    List<T> newMessageList = new ArrayList<>(claimed.size());
+    uniqueMessages.forEach((id, message) -> {
+      if (claimed.contains(id)) {
+        newMessageList.add(message);
+      }
+    });
+
+    int duplicates = messages.size() - newMessageList.size();
+    newMessages.increment(newMessageList.size());
+    duplicateMessages.increment(duplicates);
+    if (duplicates > 0) {
+      log.info("Discarded {} duplicate messages out of {}", duplicates, messages.size());
+    }
+    return newMessageList;
+  }
+
+  public void release(Collection<UUID> messageIds) {
+    if (!messageIds.isEmpty()) {
+      processedMessageRepository.deleteAll(messageIds);
+    }
+  }
+
+  private double duplicateRatio() {
+    double total = newMessages.count() + duplicateMessages.count();
+    return total == 0 ? 0 : duplicateMessages.count() / total;
+  }
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CreateOrderBatchCommand {
+  @NotNull
+  private final List<CreateOrderCommand> orders;
+}
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CreateOrderBatchItemResponse {
+  @NotNull
+  private final Integer index;
+  private final UUID orderTrackingId;
+  private final OrderStatus orderStatus;
+  @NotNull
+  private final String message;
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CreateOrderBatchResponse {
+  @NotNull
+  private final Integer createdCount;
+  @NotNull
+  private final Integer failedCount;
+  @NotNull
+  private final List<CreateOrderBatchItemResponse> orders;
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain.dto.create;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +21,7 @@ public class CreateOrderCommand {
   @NotNull
   private final BigDecimal price;
   @NotNull
-  private final List<OrderItemDTO> items;
+  private final List<@Valid @NotNull OrderItemDTO> items;
   @NotNull
   private final OrderAddress address;
 }
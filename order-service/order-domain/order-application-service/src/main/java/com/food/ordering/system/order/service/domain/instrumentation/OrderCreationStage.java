@@ -0,0 +1,22 @@
+package com.food.ordering.system.order.service.domain.instrumentation;
+
+public enum OrderCreationStage {
+  CUSTOMER_CHECK("customer-check"),
+  RESTAURANT_LOOKUP("restaurant-lookup"),
+  VALIDATE_AND_INITIATE("validate-and-initiate"),
+  SAVE_ORDER("save-order"),
+  PUBLISH("publish"),
+  PERSIST("persist"),
+  RESPONSE_MAPPING("response-mapping"),
+  TOTAL("total");
+
+  private final String tagValue;
+
+  OrderCreationStage(String tagValue) {
+    this.tagValue = tagValue;
+  }
+
+  public String getTagValue() {
+    return tagValue;
+  }
+}
@@ -0,0 +1,22 @@
+package com.food.ordering.system.order.service.domain.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One stage of an order creation request. The stages of a request are recorded on the same thread and nest inside
+ * its {@code total} event, so a recording shows the breakdown of every request.
+ */
+@Name("com.food.ordering.system.OrderCreationStage")
+@Label("Order Creation Stage")
+@Description("Duration of one stage of creating an order")
+@Category({"Food Ordering", "Order Service"})
+@StackTrace(false)
+class OrderCreationStageEvent extends Event {
+  @Label("Stage")
+  String stage;
+}
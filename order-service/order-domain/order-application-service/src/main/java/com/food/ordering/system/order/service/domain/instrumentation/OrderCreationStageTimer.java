@@ -0,0 +1,68 @@
+package com.food.ordering.system.order.service.domain.instrumentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times the stages of order creation into the {@code order.creation.stage} timer and an
+ * {@link OrderCreationStageEvent} per stage. Timers are registered up front so recording a stage is a clock read and a
+ * histogram update, and the JFR event costs nothing unless a recording enables it.
+ */
+@Component
+public class OrderCreationStageTimer {
+  private final Map<OrderCreationStage, Timer> timers = new EnumMap<>(OrderCreationStage.class);
+
+  public OrderCreationStageTimer(MeterRegistry meterRegistry) {
+    for (OrderCreationStage stage : OrderCreationStage.values()) {
+      timers.put(stage, Timer.builder("order.creation.stage")
+          .tag("stage", stage.getTagValue())
+          .publishPercentiles(0.5, 0.95, 0.99)
+          .publishPercentileHistogram()
+          .register(meterRegistry));
+    }
+  }
+
+  public <T> T record(OrderCreationStage stage, Supplier<T> action) {
+    OrderCreationStageEvent event = new OrderCreationStageEvent();
+    event.begin();
+    long start = System.nanoTime();
+    try {
+      return action.get();
+    } finally {
+      stop(stage, event, start);
+    }
+  }
+
+  public void record(OrderCreationStage stage, Runnable action) {
+    OrderCreationStageEvent event = new OrderCreationStageEvent();
+    event.begin();
+    long start = System.nanoTime();
+    try {
+      action.run();
+    } finally {
+      stop(stage, event, start);
+    }
+  }
+
+  public Map<OrderCreationStage, HistogramSnapshot> snapshots() {
+    Map<OrderCreationStage, HistogramSnapshot> snapshots = new EnumMap<>(OrderCreationStage.class);
+    timers.forEach((stage, timer) -> snapshots.put(stage, timer.takeSnapshot()));
+    return snapshots;
+  }
+
+  private void stop(OrderCreationStage stage, OrderCreationStageEvent event, long start) {
+    timers.get(stage).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    event.end();
+    if (event.shouldCommit()) {
+      event.stage = stage.getTagValue();
+      event.commit();
+    }
+  }
+}
@@ -1,27 +1,38 @@
 package com.food.ordering.system.order.service.domain.mapper;
 
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
 import com.food.ordering.system.order.service.domain.dto.create.OrderItemDTO;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.saga.SagaResponse;
+import com.food.ordering.system.order.service.domain.saga.SagaResponseType;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.UUID;
 
 @Component
 public class OrderDataMapper {
+  private final IdGenerator idGenerator;
+
+  public OrderDataMapper(IdGenerator idGenerator) {
+    this.idGenerator = idGenerator;
+  }
 
   public Restaurant createOrderCommandToRestaurant(CreateOrderCommand createOrderCommand) {
     return Restaurant.builder()
@@ -50,6 +61,28 @@ public class OrderDataMapper {
         .build();
   }
 
+  public SagaResponse paymentResponseToSagaResponse(PaymentResponse paymentResponse) {
+    return SagaResponse.builder()
+        .id(paymentResponse.getId())
+        .sagaId(paymentResponse.getSagaId())
+        .orderId(paymentResponse.getOrderId())
+        .type(PaymentStatus.COMPLETED == paymentResponse.getPaymentStatus()
+            ? SagaResponseType.PAYMENT_COMPLETED : SagaResponseType.PAYMENT_CANCELLED)
+        .failureMessages(paymentResponse.getFailureMessages())
+        .build();
+  }
+
+  public SagaResponse restaurantApprovalResponseToSagaResponse(RestaurantApprovalResponse restaurantApprovalResponse) {
+    return SagaResponse.builder()
+        .id(restaurantApprovalResponse.getId())
+        .sagaId(restaurantApprovalResponse.getSagaId())
+        .orderId(restaurantApprovalResponse.getOrderId())
+        .type(OrderApprovalStatus.APPROVED == restaurantApprovalResponse.getOrderApprovalStatus()
+            ? SagaResponseType.RESTAURANT_APPROVED : SagaResponseType.RESTAURANT_REJECTED)
+        .failureMessages(restaurantApprovalResponse.getFailureMessages())
+        .build();
+  }
+
   public TrackOrderResponse orderToTrackOrderResponse(Order order) {
     return TrackOrderResponse.builder()
         .orderTrackingId(order.getTrackingId().getValue())
@@ -71,7 +104,7 @@ public class OrderDataMapper {
 
   private StreetAddress orderAddressToStreetAddress(@NotNull OrderAddress address) {
     return new StreetAddress(
-        UUID.randomUUID(),
+        idGenerator.generateId(),
         address.getStreet(),
         address.getPostalCode(),
         address.getCity()
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderOutboxMessage {
+  private final UUID id;
+  private final UUID aggregateId;
+  private final String topic;
+  private final String messageKey;
+  private final String payloadType;
+  private final byte[] payload;
+  private final ZonedDateTime createdAt;
+}
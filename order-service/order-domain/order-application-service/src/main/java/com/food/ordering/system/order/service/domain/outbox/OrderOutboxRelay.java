@@ -0,0 +1,122 @@
+package com.food.ordering.system.order.service.domain.outbox;
+
+import com.food.ordering.system.order.service.domain.config.OrderOutboxConfigData;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.outbox.OrderOutboxChangeListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class OrderOutboxRelay implements OrderOutboxChangeListener {
+  private final OrderOutboxRelayHelper orderOutboxRelayHelper;
+  private final OrderOutboxConfigData orderOutboxConfigData;
+  private final Counter relayFailures;
+  private final ReentrantLock wakeUpLock = new ReentrantLock();
+  private final Condition wakeUp = wakeUpLock.newCondition();
+  private ExecutorService relayExecutor;
+  private volatile boolean running;
+  private volatile boolean changed;
+
+  public OrderOutboxRelay(OrderOutboxRelayHelper orderOutboxRelayHelper,
+                          OrderOutboxConfigData orderOutboxConfigData,
+                          MeterRegistry meterRegistry) {
+    this.orderOutboxRelayHelper = orderOutboxRelayHelper;
+    this.orderOutboxConfigData = orderOutboxConfigData;
+    this.relayFailures = Counter.builder("order.outbox.relay.failures")
+        .description("Outbox relay batches that failed and will be retried")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!Boolean.TRUE.equals(orderOutboxConfigData.getRelayEnabled())) {
+      log.info("Order outbox relay is disabled");
+      return;
+    }
+
+    int relayThreads = orderOutboxConfigData.getRelayThreads();
+    AtomicInteger threadNumber = new AtomicInteger();
+    relayExecutor = Executors.newFixedThreadPool(relayThreads, runnable -> {
+      Thread thread = new Thread(runnable, "order-outbox-relay-" + threadNumber.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    running = true;
+    for (int i = 0; i < relayThreads; i++) {
+      int firstStripe = i;
+      relayExecutor.execute(() -> relay(firstStripe));
+    }
+    log.info("Order outbox relay started with {} threads over {} stripes in {} mode",
+        relayThreads, orderOutboxConfigData.getStripes(), orderOutboxConfigData.getRelayMode());
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    if (relayExecutor != null) {
+      relayExecutor.shutdownNow();
+    }
+  }
+
+  @Override
+  public void outboxChanged() {
+    changed = true;
+    wakeUpLock.lock();
+    try {
+      wakeUp.signalAll();
+    } finally {
+      wakeUpLock.unlock();
+    }
+  }
+
+  private void relay(int firstStripe) {
+    int stripes = orderOutboxConfigData.getStripes();
+    while (running) {
+      changed = false;
+      int relayed = 0;
+      for (int i = 0; i < stripes && running; i++) {
+        relayed += relayStripe((firstStripe + i) % stripes);
+      }
+
+      if (relayed == 0 && !changed) {
+        awaitChange();
+      }
+    }
+  }
+
+  private int relayStripe(int stripe) {
+    try {
+      return orderOutboxRelayHelper.relayStripe(stripe);
+    } catch (Exception e) {
+      relayFailures.increment();
+      log.error("Could not relay outbox messages from stripe {}, will retry", stripe, e);
+      return 0;
+    }
+  }
+
+  private void awaitChange() {
+    wakeUpLock.lock();
+    try {
+      if (!changed) {
+        wakeUp.await(orderOutboxConfigData.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    } finally {
+      wakeUpLock.unlock();
+    }
+  }
+}
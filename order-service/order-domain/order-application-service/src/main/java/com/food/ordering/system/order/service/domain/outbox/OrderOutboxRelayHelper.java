@@ -0,0 +1,73 @@
+package com.food.ordering.system.order.service.domain.outbox;
+
+import com.food.ordering.system.order.service.domain.config.OrderOutboxConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox.OrderOutboxMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+public class OrderOutboxRelayHelper {
+  private final OrderOutboxRepository orderOutboxRepository;
+  private final OrderOutboxMessagePublisher orderOutboxMessagePublisher;
+  private final OrderOutboxConfigData orderOutboxConfigData;
+  private final Counter relayedMessages;
+  private final DistributionSummary relayBatchSize;
+  private final Timer relayLag;
+
+  public OrderOutboxRelayHelper(OrderOutboxRepository orderOutboxRepository,
+                                OrderOutboxMessagePublisher orderOutboxMessagePublisher,
+                                OrderOutboxConfigData orderOutboxConfigData,
+                                MeterRegistry meterRegistry) {
+    this.orderOutboxRepository = orderOutboxRepository;
+    this.orderOutboxMessagePublisher = orderOutboxMessagePublisher;
+    this.orderOutboxConfigData = orderOutboxConfigData;
+    this.relayedMessages = Counter.builder("order.outbox.relay.messages")
+        .description("Outbox messages published to Kafka")
+        .register(meterRegistry);
+    this.relayBatchSize = DistributionSummary.builder("order.outbox.relay.batch.size")
+        .description("Outbox messages published per relay batch")
+        .register(meterRegistry);
+    this.relayLag = Timer.builder("order.outbox.relay.lag")
+        .description("Time between an outbox message being written and acknowledged by Kafka")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Transactional
+  public int relayStripe(int stripe) {
+    if (!orderOutboxRepository.tryLockStripe(stripe)) {
+      return 0;
+    }
+
+    List<OrderOutboxMessage> outboxMessages = orderOutboxRepository.findAndLockBatch(stripe,
+        orderOutboxConfigData.getStripes(),
+        orderOutboxConfigData.getBatchSize());
+
+    if (outboxMessages.isEmpty()) {
+      return 0;
+    }
+
+    orderOutboxMessagePublisher.publish(outboxMessages);
+    orderOutboxRepository.deleteAll(outboxMessages.stream().map(OrderOutboxMessage::getId).toList());
+
+    ZonedDateTime publishedAt = ZonedDateTime.now();
+    outboxMessages.forEach(outboxMessage ->
+        relayLag.record(Duration.between(outboxMessage.getCreatedAt(), publishedAt)));
+    relayedMessages.increment(outboxMessages.size());
+    relayBatchSize.record(outboxMessages.size());
+
+    log.debug("Relayed {} outbox messages from stripe {}", outboxMessages.size(), stripe);
+    return outboxMessages.size();
+  }
+}
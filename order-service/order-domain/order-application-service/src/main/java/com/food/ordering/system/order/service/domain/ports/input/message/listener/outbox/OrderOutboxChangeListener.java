@@ -0,0 +1,5 @@
+package com.food.ordering.system.order.service.domain.ports.input.message.listener.outbox;
+
+public interface OrderOutboxChangeListener {
+  void outboxChanged();
+}
@@ -0,0 +1,9 @@
+package com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking;
+
+import java.util.UUID;
+
+public interface OrderTrackingChangeListener {
+  void orderTrackingChanged(UUID trackingId);
+
+  void allOrderTrackingChanged();
+}
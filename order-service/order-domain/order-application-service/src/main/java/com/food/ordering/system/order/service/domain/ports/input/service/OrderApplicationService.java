@@ -1,13 +1,28 @@
 package com.food.ordering.system.order.service.domain.ports.input.service;
 
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.stream.OrderStatusSubscription;
 import jakarta.validation.Valid;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 public interface OrderApplicationService {
   CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand);
 
+  CreateOrderBatchResponse createOrders(@Valid CreateOrderBatchCommand createOrderBatchCommand);
+
   TrackOrderResponse trackOrder(@Valid TrackOrderQuery trackOrderQuery);
+
+  OrderStatusSubscription subscribeToOrderStatus(@Valid TrackOrderQuery trackOrderQuery,
+                                                 Consumer<TrackOrderResponse> listener);
+
+  CompletableFuture<TrackOrderResponse> awaitOrderStatusChange(@Valid TrackOrderQuery trackOrderQuery,
+                                                               OrderStatus seenStatus);
 }
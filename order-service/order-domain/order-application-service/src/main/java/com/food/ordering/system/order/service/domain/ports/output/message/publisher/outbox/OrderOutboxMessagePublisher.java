@@ -0,0 +1,9 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox;
+
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxMessage;
+
+import java.util.List;
+
+public interface OrderOutboxMessagePublisher {
+  void publish(List<OrderOutboxMessage> outboxMessages);
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxMessage;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderOutboxRepository {
+  void saveAll(List<OrderOutboxMessage> outboxMessages);
+
+  boolean tryLockStripe(int stripe);
+
+  List<OrderOutboxMessage> findAndLockBatch(int stripe, int stripes, int batchSize);
+
+  void deleteAll(List<UUID> outboxMessageIds);
+}
@@ -1,12 +1,25 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
   Order save(Order order);
 
+  void saveAll(List<Order> orders);
+
   Optional<Order> findOrderByTrackingId(TrackingId trackingId);
+
+  Optional<TrackOrderResponse> findTrackOrderResponseByTrackingId(TrackingId trackingId);
+
+  List<TrackOrderResponse> findTrackOrderResponsesByTrackingIds(List<TrackingId> trackingIds);
+
+  List<Order> findOrdersByIds(List<OrderId> orderIds);
+
+  void updateOrderStatuses(List<Order> orders);
 }
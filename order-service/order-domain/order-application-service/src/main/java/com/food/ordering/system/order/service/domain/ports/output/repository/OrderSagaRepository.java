@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.saga.OrderSaga;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface OrderSagaRepository {
+  List<OrderSaga> findSagas(Collection<UUID> sagaIds);
+
+  void saveAll(List<OrderSaga> sagas);
+
+  /**
+   * Moves each saga to its status if its version is still the one it was read with, and returns the ids of the sagas
+   * that changed in the meantime or are being changed by another transaction.
+   */
+  Set<UUID> compareAndSetStatuses(List<OrderSaga> sagas);
+}
@@ -0,0 +1,13 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProcessedMessageRepository {
+  Set<UUID> findProcessed(Collection<UUID> messageIds);
+
+  Set<UUID> saveUnprocessed(Collection<UUID> messageIds);
+
+  void deleteAll(Collection<UUID> messageIds);
+}
@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderSaga {
+  private final UUID sagaId;
+  private final UUID orderId;
+  private final OrderStatus status;
+  private final long version;
+
+  public static OrderSaga start(Order order) {
+    UUID orderId = order.getId().getValue();
+    return new OrderSaga(orderId, orderId, order.getOrderStatus(), 0);
+  }
+
+  public OrderSaga withStatus(OrderStatus newStatus) {
+    return new OrderSaga(sagaId, orderId, newStatus, version);
+  }
+}
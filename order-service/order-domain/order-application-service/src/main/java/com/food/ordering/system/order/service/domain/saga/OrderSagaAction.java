@@ -0,0 +1,5 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+public enum OrderSagaAction {
+  PAY, APPROVE, INIT_CANCEL, CANCEL
+}
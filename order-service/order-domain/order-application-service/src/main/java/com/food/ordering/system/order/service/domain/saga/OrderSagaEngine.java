@@ -0,0 +1,291 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderSagaHelper;
+import com.food.ordering.system.order.service.domain.config.OrderSagaConfigData;
+import com.food.ordering.system.order.service.domain.dedup.SagaMessageDeduplicator;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies saga responses to orders through {@link OrderSagaTransitionTable}. The responses of a saga are folded over
+ * its persisted status in memory and the result is written with a compare-and-set on the saga version.
+ * <p>
+ * Each attempt runs in its own short transaction that claims the response ids, writes the sagas and updates the
+ * orders. The compare-and-set skips saga rows locked by another transaction instead of waiting for them; the claims
+ * and the orders update take ordinary row locks. Responses whose saga changed concurrently or was locked are left
+ * out of the attempt, their claims are released and the attempt commits. They are retried in a new transaction after
+ * a back-off that runs with no transaction, connection or lock held, so the other transaction has time to commit.
+ * {@link #process} must therefore not be called inside an existing transaction.
+ */
+@Slf4j
+@Component
+public class OrderSagaEngine {
+  private final OrderSagaRepository orderSagaRepository;
+  private final OrderSagaHelper orderSagaHelper;
+  private final OrderDomainService orderDomainService;
+  private final OrderPaidRestaurantRequestMessagePublisher orderPaidRestaurantRequestMessagePublisher;
+  private final OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher;
+  private final SagaMessageDeduplicator sagaMessageDeduplicator;
+  private final TransactionOperations transactionOperations;
+  private final OrderSagaConfigData orderSagaConfigData;
+  private final MeterRegistry meterRegistry;
+  private final Counter versionConflicts;
+
+  public OrderSagaEngine(OrderSagaRepository orderSagaRepository,
+                         OrderSagaHelper orderSagaHelper,
+                         OrderDomainService orderDomainService,
+                         OrderPaidRestaurantRequestMessagePublisher orderPaidRestaurantRequestMessagePublisher,
+                         OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher,
+                         SagaMessageDeduplicator sagaMessageDeduplicator,
+                         TransactionOperations transactionOperations,
+                         OrderSagaConfigData orderSagaConfigData,
+                         MeterRegistry meterRegistry) {
+    this.orderSagaRepository = orderSagaRepository;
+    this.orderSagaHelper = orderSagaHelper;
+    this.orderDomainService = orderDomainService;
+    this.orderPaidRestaurantRequestMessagePublisher = orderPaidRestaurantRequestMessagePublisher;
+    this.orderCancelledPaymentRequestMessagePublisher = orderCancelledPaymentRequestMessagePublisher;
+    this.sagaMessageDeduplicator = sagaMessageDeduplicator;
+    this.transactionOperations = transactionOperations;
+    this.orderSagaConfigData = orderSagaConfigData;
+    this.meterRegistry = meterRegistry;
+    this.versionConflicts = Counter.builder("order.saga.version.conflicts").register(meterRegistry);
+  }
+
+  public void startSagas(Collection<Order> orders) {
+    if (!orders.isEmpty()) {
+      orderSagaRepository.saveAll(orders.stream().map(OrderSaga::start).toList());
+    }
+  }
+
+  public void process(List<SagaResponse> sagaResponses) {
+    List<SagaResponse> pending = sagaResponses;
+    for (int attempt = 1; ; attempt++) {
+      List<SagaResponse> attemptResponses = pending;
+      pending = transactionOperations.execute(status -> processAttempt(attemptResponses));
+      if (pending.isEmpty()) {
+        return;
+      }
+      log.debug("Saga version conflict on attempt {} for {} responses", attempt, pending.size());
+      if (attempt >= orderSagaConfigData.getMaxCompareAndSetAttempts()) {
+        throw new OrderDomainException("Sagas of " + pending.size() + " responses kept changing concurrently after "
+            + attempt + " attempts");
+      }
+      backOff(attempt);
+    }
+  }
+
+  /**
+   * Applies the responses whose saga compare-and-set succeeds and returns the ones that have to be retried.
+   */
+  private List<SagaResponse> processAttempt(List<SagaResponse> attemptResponses) {
+    List<SagaResponse> sagaResponses = sagaMessageDeduplicator.discardDuplicates(attemptResponses,
+        SagaResponse::getId);
+    if (sagaResponses.isEmpty()) {
+      return List.of();
+    }
+
+    Map<UUID, OrderSaga> sagas = findSagas(sagaResponses);
+    Map<UUID, List<SagaResponse>> responsesBySaga = correlate(sagaResponses, sagas);
+    List<OrderSaga> changedSagas = new ArrayList<>();
+    Map<UUID, List<AppliedTransition>> transitionsBySaga = new HashMap<>();
+    for (Map.Entry<UUID, List<SagaResponse>> entry : responsesBySaga.entrySet()) {
+      OrderSaga saga = sagas.get(entry.getKey());
+      List<AppliedTransition> transitions = fold(saga, entry.getValue());
+      if (!transitions.isEmpty()) {
+        changedSagas.add(saga.withStatus(transitions.get(transitions.size() - 1).getTransition().getTargetStatus()));
+        transitionsBySaga.put(saga.getSagaId(), transitions);
+      }
+    }
+
+    Set<UUID> conflicts = changedSagas.isEmpty() ? Set.of()
+        : orderSagaRepository.compareAndSetStatuses(changedSagas);
+    List<AppliedTransition> appliedTransitions = new ArrayList<>();
+    transitionsBySaga.forEach((sagaId, transitions) -> {
+      if (!conflicts.contains(sagaId)) {
+        appliedTransitions.addAll(transitions);
+      }
+    });
+    List<SagaResponse> retries = new ArrayList<>();
+    conflicts.forEach(sagaId -> retries.addAll(responsesBySaga.get(sagaId)));
+    if (!retries.isEmpty()) {
+      versionConflicts.increment(conflicts.size());
+      sagaMessageDeduplicator.release(retries.stream()
+          .map(sagaResponse -> UUID.fromString(sagaResponse.getId()))
+          .toList());
+    }
+
+    applyToOrders(appliedTransitions);
+    log.info("Processed {} saga responses, {} transitions applied, {} responses to retry", sagaResponses.size(),
+        appliedTransitions.size(), retries.size());
+    return retries;
+  }
+
+  private Map<UUID, OrderSaga> findSagas(List<SagaResponse> sagaResponses) {
+    Set<UUID> ids = new HashSet<>();
+    sagaResponses.forEach(sagaResponse -> {
+      ids.add(UUID.fromString(sagaResponse.getSagaId()));
+      ids.add(UUID.fromString(sagaResponse.getOrderId()));
+    });
+    Map<UUID, OrderSaga> sagas = index(orderSagaRepository.findSagas(ids));
+
+    Set<String> unknownOrderIds = new LinkedHashSet<>();
+    sagaResponses.forEach(sagaResponse -> {
+      if (sagaFor(sagaResponse, sagas) == null) {
+        unknownOrderIds.add(sagaResponse.getOrderId());
+      }
+    });
+    if (!unknownOrderIds.isEmpty()) {
+      sagas.putAll(adoptOrders(unknownOrderIds));
+    }
+    return sagas;
+  }
+
+  /**
+   * Starts sagas for orders created before saga state was persisted, from their current status. A concurrent adoption
+   * of the same order is harmless, both rows start at version 0 and the compare-and-set orders the updates.
+   */
+  private Map<UUID, OrderSaga> adoptOrders(Set<String> orderIds) {
+    List<OrderSaga> adopted = orderSagaHelper.findOrders(new ArrayList<>(orderIds)).values().stream()
+        .map(OrderSaga::start)
+        .toList();
+    if (!adopted.isEmpty()) {
+      orderSagaRepository.saveAll(adopted);
+      log.info("Started sagas for {} orders that had none", adopted.size());
+    }
+    return index(adopted);
+  }
+
+  private Map<UUID, List<SagaResponse>> correlate(List<SagaResponse> sagaResponses, Map<UUID, OrderSaga> sagas) {
+    Map<UUID, List<SagaResponse>> responsesBySaga = new LinkedHashMap<>();
+    for (SagaResponse sagaResponse : sagaResponses) {
+      OrderSaga saga = sagaFor(sagaResponse, sagas);
+      if (saga == null) {
+        log.warn("Order {} not found for saga response {}", sagaResponse.getOrderId(), sagaResponse.getId());
+        continue;
+      }
+      responsesBySaga.computeIfAbsent(saga.getSagaId(), sagaId -> new ArrayList<>()).add(sagaResponse);
+    }
+    return responsesBySaga;
+  }
+
+  /**
+   * Responses carry the saga id of their request. Requests published before saga ids became stable carry a random
+   * one, so those responses fall back to the order id, which is the id of every persisted saga.
+   */
+  private OrderSaga sagaFor(SagaResponse sagaResponse, Map<UUID, OrderSaga> sagas) {
+    OrderSaga saga = sagas.get(UUID.fromString(sagaResponse.getSagaId()));
+    return saga != null ? saga : sagas.get(UUID.fromString(sagaResponse.getOrderId()));
+  }
+
+  private List<AppliedTransition> fold(OrderSaga saga, List<SagaResponse> sagaResponses) {
+    List<AppliedTransition> transitions = new ArrayList<>();
+    OrderStatus status = saga.getStatus();
+    for (SagaResponse sagaResponse : sagaResponses) {
+      OrderSagaTransition transition = OrderSagaTransitionTable.find(status, sagaResponse.getType());
+      countTransition(status, sagaResponse.getType(), transition != null);
+      if (transition == null) {
+        log.info("Ignoring saga response {} of type {} for order {} in status {}", sagaResponse.getId(),
+            sagaResponse.getType(), saga.getOrderId(), status);
+        continue;
+      }
+      transitions.add(new AppliedTransition(saga.getOrderId(), sagaResponse, transition));
+      status = transition.getTargetStatus();
+    }
+    return transitions;
+  }
+
+  private void applyToOrders(List<AppliedTransition> appliedTransitions) {
+    if (appliedTransitions.isEmpty()) {
+      return;
+    }
+
+    Map<OrderId, Order> orders = orderSagaHelper.findOrders(appliedTransitions.stream()
+        .map(appliedTransition -> appliedTransition.getOrderId().toString())
+        .toList());
+    Set<Order> changedOrders = new LinkedHashSet<>();
+    List<OrderPaidEvent> orderPaidEvents = new ArrayList<>();
+    List<OrderCancelledEvent> orderCancelledEvents = new ArrayList<>();
+
+    for (AppliedTransition appliedTransition : appliedTransitions) {
+      Order order = orders.get(new OrderId(appliedTransition.getOrderId()));
+      if (order == null) {
+        log.warn("Order {} not found for saga response {}", appliedTransition.getOrderId(),
+            appliedTransition.getSagaResponse().getId());
+        continue;
+      }
+      List<String> failureMessages = appliedTransition.getSagaResponse().getFailureMessages();
+      switch (appliedTransition.getTransition().getAction()) {
+        case PAY -> orderPaidEvents.add(orderDomainService.payOrder(order));
+        case APPROVE -> orderDomainService.approveOrder(order);
+        case INIT_CANCEL -> orderCancelledEvents.add(orderDomainService.cancelOrderPayment(order, failureMessages));
+        case CANCEL -> orderDomainService.cancelOrder(order, failureMessages);
+      }
+      changedOrders.add(order);
+    }
+
+    orderSagaHelper.saveOrderStatuses(changedOrders);
+    if (!orderPaidEvents.isEmpty()) {
+      orderPaidRestaurantRequestMessagePublisher.publishAll(orderPaidEvents);
+    }
+    if (!orderCancelledEvents.isEmpty()) {
+      orderCancelledPaymentRequestMessagePublisher.publishAll(orderCancelledEvents);
+    }
+  }
+
+  private void countTransition(OrderStatus status, SagaResponseType responseType, boolean applied) {
+    meterRegistry.counter("order.saga.transitions",
+        "status", status.name(),
+        "response", responseType.name(),
+        "result", applied ? "applied" : "ignored").increment();
+  }
+
+  private void backOff(int attempt) {
+    try {
+      Thread.sleep(orderSagaConfigData.getCompareAndSetBackoffMs() * (attempt - 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new OrderDomainException("Interrupted while retrying saga compare-and-set", e);
+    }
+  }
+
+  private static Map<UUID, OrderSaga> index(List<OrderSaga> sagas) {
+    Map<UUID, OrderSaga> sagasById = new HashMap<>();
+    sagas.forEach(saga -> sagasById.put(saga.getSagaId(), saga));
+    return sagasById;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class AppliedTransition {
+    private final UUID orderId;
+    private final SagaResponse sagaResponse;
+    private final OrderSagaTransition transition;
+  }
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderSagaTransition {
+  private final OrderStatus targetStatus;
+  private final OrderSagaAction action;
+}
@@ -0,0 +1,32 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+/**
+ * Every transition of the order saga, indexed by current status and response type. A missing entry means the
+ * response does not apply in that status, e.g. a redelivered payment response for an order that is already paid.
+ */
+public final class OrderSagaTransitionTable {
+  private static final OrderSagaTransition[][] TRANSITIONS =
+      new OrderSagaTransition[OrderStatus.values().length][SagaResponseType.values().length];
+
+  static {
+    add(OrderStatus.PENDING, SagaResponseType.PAYMENT_COMPLETED, OrderStatus.PAID, OrderSagaAction.PAY);
+    add(OrderStatus.PENDING, SagaResponseType.PAYMENT_CANCELLED, OrderStatus.CANCELED, OrderSagaAction.CANCEL);
+    add(OrderStatus.PAID, SagaResponseType.RESTAURANT_APPROVED, OrderStatus.APPROVED, OrderSagaAction.APPROVE);
+    add(OrderStatus.PAID, SagaResponseType.RESTAURANT_REJECTED, OrderStatus.CANCELING, OrderSagaAction.INIT_CANCEL);
+    add(OrderStatus.CANCELING, SagaResponseType.PAYMENT_CANCELLED, OrderStatus.CANCELED, OrderSagaAction.CANCEL);
+  }
+
+  private OrderSagaTransitionTable() {
+  }
+
+  public static OrderSagaTransition find(OrderStatus status, SagaResponseType responseType) {
+    return TRANSITIONS[status.ordinal()][responseType.ordinal()];
+  }
+
+  private static void add(OrderStatus status, SagaResponseType responseType,
+                          OrderStatus targetStatus, OrderSagaAction action) {
+    TRANSITIONS[status.ordinal()][responseType.ordinal()] = new OrderSagaTransition(targetStatus, action);
+  }
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SagaResponse {
+  private final String id;
+  private final String sagaId;
+  private final String orderId;
+  private final SagaResponseType type;
+  private final List<String> failureMessages;
+}
@@ -0,0 +1,5 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+public enum SagaResponseType {
+  PAYMENT_COMPLETED, PAYMENT_CANCELLED, RESTAURANT_APPROVED, RESTAURANT_REJECTED
+}
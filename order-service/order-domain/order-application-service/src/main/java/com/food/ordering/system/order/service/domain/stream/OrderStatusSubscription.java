@@ -0,0 +1,95 @@
+package com.food.ordering.system.order.service.domain.stream;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * A subscriber to the status changes of one order. Every order transition moves to a later {@link OrderStatus}
+ * constant, so a response is only delivered when its status is later than the last accepted one. That drops the
+ * repeated and out-of-order updates that arrive when a change is seen both from the local commit and from the
+ * database notification.
+ * <p>
+ * Accepted responses are handed to the listener on the delivery executor, one at a time per subscription. Only the
+ * latest undelivered response is kept, so a client that reads slowly holds up its own updates and a single delivery
+ * thread, never the fan-out of other subscriptions.
+ */
+@Slf4j
+public class OrderStatusSubscription {
+  private final UUID trackingId;
+  private final Consumer<TrackOrderResponse> listener;
+  private final OrderStatusSubscriptionRegistry registry;
+  private final Executor deliveryExecutor;
+  private OrderStatus lastStatus;
+  private TrackOrderResponse pending;
+  private boolean delivering;
+  private boolean cancelled;
+
+  OrderStatusSubscription(UUID trackingId,
+                          Consumer<TrackOrderResponse> listener,
+                          OrderStatusSubscriptionRegistry registry,
+                          Executor deliveryExecutor) {
+    this.trackingId = trackingId;
+    this.listener = listener;
+    this.registry = registry;
+    this.deliveryExecutor = deliveryExecutor;
+  }
+
+  public UUID getTrackingId() {
+    return trackingId;
+  }
+
+  public boolean offer(TrackOrderResponse trackOrderResponse) {
+    OrderStatus status = trackOrderResponse.getOrderStatus();
+    synchronized (this) {
+      if (cancelled || (lastStatus != null && status.ordinal() <= lastStatus.ordinal())) {
+        return false;
+      }
+
+      lastStatus = status;
+      pending = trackOrderResponse;
+      if (delivering) {
+        return true;
+      }
+      delivering = true;
+    }
+    deliveryExecutor.execute(this::deliverPending);
+    return true;
+  }
+
+  public void cancel() {
+    synchronized (this) {
+      if (cancelled) {
+        return;
+      }
+      cancelled = true;
+      pending = null;
+    }
+    registry.remove(this);
+  }
+
+  private void deliverPending() {
+    while (true) {
+      TrackOrderResponse trackOrderResponse;
+      synchronized (this) {
+        trackOrderResponse = pending;
+        pending = null;
+        if (trackOrderResponse == null) {
+          delivering = false;
+          return;
+        }
+      }
+
+      try {
+        listener.accept(trackOrderResponse);
+      } catch (RuntimeException e) {
+        log.debug("Dropping order status subscriber of tracking id {}: {}", trackingId, e.getMessage());
+        cancel();
+      }
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.food.ordering.system.order.service.domain.stream;
+
+import com.food.ordering.system.order.service.domain.OrderTrackHelper;
+import com.food.ordering.system.order.service.domain.config.OrderStatusStreamConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking.OrderTrackingChangeListener;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Fans order status changes out to the subscribers of each tracking id. Changes committed on this node are delivered
+ * as they are saved by the saga; changes from other nodes arrive as order tracking notifications and are reloaded
+ * only for tracking ids that have subscribers. Subscribers of a tracking id are kept in a small array that is replaced
+ * on change, as almost every order has a single subscriber.
+ * <p>
+ * Notified tracking ids are collected into a set and reloaded by one reload thread in chunks of reload-chunk-size,
+ * one query per chunk, so a burst of notifications or a reconnect of the notification listener, which reloads every
+ * subscribed order, costs a few queries instead of one per order. Writes to client connections run on
+ * delivery-threads separate threads, never on the reload thread or the saga consumer threads.
+ */
+@Slf4j
+@Component
+public class OrderStatusSubscriptionRegistry implements OrderTrackingChangeListener {
+  private static final OrderStatusSubscription[] NO_SUBSCRIPTIONS = new OrderStatusSubscription[0];
+
+  private final ConcurrentHashMap<UUID, OrderStatusSubscription[]> subscriptions = new ConcurrentHashMap<>();
+  private final AtomicInteger subscriptionCount = new AtomicInteger();
+  private final Set<UUID> pendingReloads = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean reloadScheduled = new AtomicBoolean();
+  private final OrderTrackHelper orderTrackHelper;
+  private final int reloadChunkSize;
+  private final ExecutorService reloadExecutor;
+  private final ExecutorService deliveryExecutor;
+  private final Counter deliveredChanges;
+
+  @Autowired
+  public OrderStatusSubscriptionRegistry(OrderTrackHelper orderTrackHelper,
+                                         OrderStatusStreamConfigData orderStatusStreamConfigData,
+                                         MeterRegistry meterRegistry) {
+    this(orderTrackHelper, orderStatusStreamConfigData, meterRegistry,
+        Executors.newSingleThreadExecutor(daemonThreads("order-status-reload")),
+        Executors.newFixedThreadPool(orderStatusStreamConfigData.getDeliveryThreads(),
+            daemonThreads("order-status-delivery")));
+  }
+
+  OrderStatusSubscriptionRegistry(OrderTrackHelper orderTrackHelper,
+                                  OrderStatusStreamConfigData orderStatusStreamConfigData,
+                                  MeterRegistry meterRegistry,
+                                  ExecutorService reloadExecutor,
+                                  ExecutorService deliveryExecutor) {
+    this.orderTrackHelper = orderTrackHelper;
+    this.reloadChunkSize = orderStatusStreamConfigData.getReloadChunkSize();
+    this.reloadExecutor = reloadExecutor;
+    this.deliveryExecutor = deliveryExecutor;
+    this.deliveredChanges = Counter.builder("order.status.subscriptions.delivered").register(meterRegistry);
+    Gauge.builder("order.status.subscriptions", subscriptionCount, AtomicInteger::get).register(meterRegistry);
+    Gauge.builder("order.status.subscriptions.pending.reloads", pendingReloads, Set::size).register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void stop() {
+    reloadExecutor.shutdownNow();
+    deliveryExecutor.shutdownNow();
+  }
+
+  public OrderStatusSubscription subscribe(UUID trackingId, Consumer<TrackOrderResponse> listener) {
+    OrderStatusSubscription subscription = new OrderStatusSubscription(trackingId, listener, this, deliveryExecutor);
+    subscriptions.merge(trackingId, new OrderStatusSubscription[]{subscription}, (current, added) -> {
+      OrderStatusSubscription[] merged = Arrays.copyOf(current, current.length + 1);
+      merged[current.length] = subscription;
+      return merged;
+    });
+    subscriptionCount.incrementAndGet();
+    return subscription;
+  }
+
+  public void publish(TrackOrderResponse trackOrderResponse) {
+    deliver(trackOrderResponse);
+  }
+
+  @Override
+  public void orderTrackingChanged(UUID trackingId) {
+    if (subscriptions.containsKey(trackingId)) {
+      pendingReloads.add(trackingId);
+      scheduleReload();
+    }
+  }
+
+  @Override
+  public void allOrderTrackingChanged() {
+    if (!subscriptions.isEmpty()) {
+      log.info("Reloading order status of {} subscribed tracking ids", subscriptions.size());
+      pendingReloads.addAll(subscriptions.keySet());
+      scheduleReload();
+    }
+  }
+
+  void remove(OrderStatusSubscription subscription) {
+    subscriptions.computeIfPresent(subscription.getTrackingId(), (trackingId, current) -> {
+      OrderStatusSubscription[] remaining = Arrays.stream(current)
+          .filter(existing -> existing != subscription)
+          .toArray(OrderStatusSubscription[]::new);
+      return remaining.length == 0 ? null : remaining;
+    });
+    subscriptionCount.decrementAndGet();
+  }
+
+  private void scheduleReload() {
+    if (reloadScheduled.compareAndSet(false, true)) {
+      reloadExecutor.execute(this::reloadPending);
+    }
+  }
+
+  private void reloadPending() {
+    reloadScheduled.set(false);
+    List<TrackingId> chunk = new ArrayList<>(reloadChunkSize);
+    Iterator<UUID> trackingIds = pendingReloads.iterator();
+    while (trackingIds.hasNext()) {
+      UUID trackingId = trackingIds.next();
+      trackingIds.remove();
+      if (subscriptions.containsKey(trackingId)) {
+        chunk.add(new TrackingId(trackingId));
+      }
+      if (chunk.size() == reloadChunkSize) {
+        reload(chunk);
+        chunk = new ArrayList<>(reloadChunkSize);
+      }
+    }
+    if (!chunk.isEmpty()) {
+      reload(chunk);
+    }
+  }
+
+  private void reload(List<TrackingId> trackingIds) {
+    try {
+      orderTrackHelper.findTrackOrderResponses(trackingIds).forEach(this::deliver);
+    } catch (RuntimeException e) {
+      log.warn("Could not reload order status for {} tracking ids", trackingIds.size(), e);
+    }
+  }
+
+  private void deliver(TrackOrderResponse trackOrderResponse) {
+    for (OrderStatusSubscription subscription : subscriptions.getOrDefault(trackOrderResponse.getOrderTrackingId(),
+        NO_SUBSCRIPTIONS)) {
+      if (subscription.offer(trackOrderResponse)) {
+        deliveredChanges.increment();
+      }
+    }
+  }
+
+  private static ThreadFactory daemonThreads(String name) {
+    AtomicInteger threadCount = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -6,6 +6,8 @@ import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
@@ -33,8 +35,12 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -55,6 +61,7 @@ class OrderApplicationServiceImplTest {
   private CreateOrderCommand createOrderCommand;
   private CreateOrderCommand createOrderCommandWrongPrice;
   private CreateOrderCommand createOrderCommandWrongProductPrice;
+  private Restaurant restaurantResponse;
   private final UUID CUSTOMER_ID = UUID.fromString("d1b3b3b3-3b3b-3b3b-3b3b-3b3b3b3b3b01");
   private final UUID RESTAURANT_ID = UUID.fromString("d1b3b3b3-3b3b-3b3b-3b3b-3b3b3b3b3b02");
   private final UUID ORDER_ID = UUID.fromString("d1b3b3b3-3b3b-3b3b-3b3b-3b3b3b3b3b03");
@@ -135,7 +142,7 @@ class OrderApplicationServiceImplTest {
     Customer customer = new Customer();
     customer.setId(new CustomerId(CUSTOMER_ID));
 
-    Restaurant restaurantResponse = Restaurant.builder()
+    restaurantResponse = Restaurant.builder()
         .restaurantId(new RestaurantId(createOrderCommand.getRestaurantId()))
         .products(List.of(new Product(new ProductId(PRODUCT_ID), "product-1", new Money(new BigDecimal("50.00"))),
             new Product(new ProductId(PRODUCT_ID), "product-2", new Money(new BigDecimal("50.00")))))
@@ -146,6 +153,7 @@ class OrderApplicationServiceImplTest {
     order.setId(new OrderId(ORDER_ID));
 
     when(customerRepository.findCustomer(CUSTOMER_ID)).thenReturn(Optional.of(customer));
+    when(customerRepository.findCustomers(anyCollection())).thenReturn(List.of(customer));
     when(restaurantRepository.findRestaurantInformation(orderDataMapper.createOrderCommandToRestaurant(createOrderCommand)))
         .thenReturn(Optional.of(restaurantResponse));
     when(orderRepository.save(any(Order.class))).thenReturn(order);
@@ -186,4 +194,40 @@ class OrderApplicationServiceImplTest {
     OrderDomainException orderDomainException = assertThrows(OrderDomainException.class, () -> orderApplicationService.createOrder(createOrderCommand));
     assertEquals("Restaurant "+ RESTAURANT_ID + " is not active!", orderDomainException.getMessage());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testCreateOrders() {
+    when(restaurantRepository.findRestaurantInformation(orderDataMapper.createOrderCommandToRestaurant(createOrderCommand)))
+        .thenReturn(Optional.of(restaurantResponse));
+    UUID unknownCustomerId = UUID.randomUUID();
+    CreateOrderCommand createOrderCommandUnknownCustomer = CreateOrderCommand.builder()
+        .customerId(unknownCustomerId)
+        .restaurantId(RESTAURANT_ID)
+        .address(createOrderCommand.getAddress())
+        .price(PRICE)
+        .items(createOrderCommand.getItems())
+        .build();
+    CreateOrderCommand createOrderCommandWithoutItems = CreateOrderCommand.builder()
+        .customerId(CUSTOMER_ID)
+        .restaurantId(RESTAURANT_ID)
+        .address(createOrderCommand.getAddress())
+        .price(PRICE)
+        .build();
+
+    CreateOrderBatchResponse createOrderBatchResponse = orderApplicationService.createOrders(CreateOrderBatchCommand.builder()
+        .orders(List.of(createOrderCommand, createOrderCommandWrongPrice, createOrderCommandUnknownCustomer,
+            createOrderCommandWithoutItems))
+        .build());
+
+    assertEquals(1, createOrderBatchResponse.getCreatedCount());
+    assertEquals(3, createOrderBatchResponse.getFailedCount());
+    assertEquals(OrderStatus.PENDING, createOrderBatchResponse.getOrders().get(0).getOrderStatus());
+    assertNotNull(createOrderBatchResponse.getOrders().get(0).getOrderTrackingId());
+    assertEquals("Total price: 250.00 is not equal to order items total: 200.00!",
+        createOrderBatchResponse.getOrders().get(1).getMessage());
+    assertEquals("Customer " + unknownCustomerId + " not found", createOrderBatchResponse.getOrders().get(2).getMessage());
+    assertEquals("items must not be null", createOrderBatchResponse.getOrders().get(3).getMessage());
+    assertNull(createOrderBatchResponse.getOrders().get(3).getOrderTrackingId());
+    verify(orderRepository).saveAll(argThat(orders -> orders.size() == 1));
+  }
+}
@@ -1,13 +1,22 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7Generator;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox.OrderOutboxMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionOperations;
 
 import static org.mockito.Mockito.mock;
 
@@ -29,6 +38,21 @@ public class OrderTestConfiguration {
     return mock(OrderPaidRestaurantRequestMessagePublisher.class);
   }
 
+  @Bean
+  public OrderOutboxMessagePublisher orderOutboxMessagePublisher() {
+    return mock(OrderOutboxMessagePublisher.class);
+  }
+
+  @Bean
+  public OrderOutboxRepository orderOutboxRepository() {
+    return mock(OrderOutboxRepository.class);
+  }
+
+  @Bean
+  public MeterRegistry meterRegistry() {
+    return new SimpleMeterRegistry();
+  }
+
   @Bean
   public OrderRepository orderRepository() {
     return mock(OrderRepository.class);
@@ -45,7 +69,27 @@ public class OrderTestConfiguration {
   }
 
   @Bean
-  public OrderDomainService orderDomainService() {
-    return new OrderDomainServiceImpl();
+  public ProcessedMessageRepository processedMessageRepository() {
+    return mock(ProcessedMessageRepository.class);
+  }
+
+  @Bean
+  public OrderSagaRepository orderSagaRepository() {
+    return mock(OrderSagaRepository.class);
+  }
+
+  @Bean
+  public TransactionOperations transactionOperations() {
+    return TransactionOperations.withoutTransaction();
+  }
+
+  @Bean
+  public IdGenerator idGenerator() {
+    return new UuidV7Generator();
+  }
+
+  @Bean
+  public OrderDomainService orderDomainService(IdGenerator idGenerator) {
+    return new OrderDomainServiceImpl(idGenerator);
   }
 }
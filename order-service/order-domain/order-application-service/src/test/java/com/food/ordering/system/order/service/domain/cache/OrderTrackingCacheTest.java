@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderTrackingCacheConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class OrderTrackingCacheTest {
+  private final OrderTrackingCache orderTrackingCache = new OrderTrackingCache(configData(), new SimpleMeterRegistry());
+
+  @Test
+  public void testLateWriteThroughDoesNotReplaceLaterStatus() {
+    UUID trackingId = UUID.randomUUID();
+
+    orderTrackingCache.put(response(trackingId, OrderStatus.APPROVED));
+    orderTrackingCache.put(response(trackingId, OrderStatus.PAID));
+
+    assertEquals(OrderStatus.APPROVED, cached(trackingId));
+  }
+
+  @Test
+  public void testWriteThroughMovesStatusForward() {
+    UUID trackingId = UUID.randomUUID();
+
+    orderTrackingCache.put(response(trackingId, OrderStatus.PAID));
+    orderTrackingCache.put(response(trackingId, OrderStatus.CANCELING));
+
+    assertEquals(OrderStatus.CANCELING, cached(trackingId));
+  }
+
+  private OrderStatus cached(UUID trackingId) {
+    return orderTrackingCache.getTrackOrderResponse(new TrackingId(trackingId), id -> fail("Expected a cached response"))
+        .map(TrackOrderResponse::getOrderStatus)
+        .orElseThrow();
+  }
+
+  private TrackOrderResponse response(UUID trackingId, OrderStatus orderStatus) {
+    return TrackOrderResponse.builder()
+        .orderTrackingId(trackingId)
+        .orderStatus(orderStatus)
+        .build();
+  }
+
+  private static OrderTrackingCacheConfigData configData() {
+    OrderTrackingCacheConfigData configData = new OrderTrackingCacheConfigData();
+    configData.setMaximumSize(100L);
+    configData.setExpireAfterWriteMs(60_000L);
+    configData.setNegativeMaximumSize(100L);
+    configData.setNegativeExpireAfterWriteMs(2_000L);
+    return configData;
+  }
+}
@@ -0,0 +1,126 @@
+package com.food.ordering.system.order.service.domain.dedup;
+
+import com.food.ordering.system.order.service.domain.config.MessageDeduplicationConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SagaMessageDeduplicatorTest {
+  private final InMemoryProcessedMessageRepository processedMessageRepository = new InMemoryProcessedMessageRepository();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SagaMessageDeduplicator sagaMessageDeduplicator =
+      new SagaMessageDeduplicator(processedMessageRepository, configData(), meterRegistry);
+
+  @Test
+  public void testRedeliveredMessagesAreDiscarded() {
+    List<String> firstDelivery = messageIds(100);
+
+    assertEquals(firstDelivery, sagaMessageDeduplicator.discardDuplicates(firstDelivery, Function.identity()));
+    assertEquals(List.of(), sagaMessageDeduplicator.discardDuplicates(firstDelivery, Function.identity()));
+
+    assertEquals(100, processedMessageRepository.processed.size());
+    assertEquals(100.0, meterRegistry.get("saga.messages.deduplication").tag("result", "new").counter().count());
+    assertEquals(100.0, meterRegistry.get("saga.messages.deduplication").tag("result", "duplicate").counter().count());
+    assertEquals(0.5, meterRegistry.get("saga.messages.deduplication.hit.ratio").gauge().value());
+  }
+
+  @Test
+  public void testRecentlySeenMessagesAreConfirmedWithoutClaiming() {
+    List<String> messageIds = messageIds(10);
+    sagaMessageDeduplicator.discardDuplicates(messageIds, Function.identity());
+    processedMessageRepository.claimedIds.clear();
+
+    sagaMessageDeduplicator.discardDuplicates(messageIds, Function.identity());
+
+    assertEquals(10, processedMessageRepository.lookedUpIds.size());
+    assertTrue(processedMessageRepository.claimedIds.isEmpty());
+  }
+
+  @Test
+  public void testMessagesProcessedElsewhereAreDiscardedByTheClaim() {
+    List<String> messageIds = messageIds(10);
+    messageIds.subList(0, 4).forEach(id -> processedMessageRepository.processed.add(UUID.fromString(id)));
+
+    List<String> newMessageIds = sagaMessageDeduplicator.discardDuplicates(messageIds, Function.identity());
+
+    assertEquals(messageIds.subList(4, 10), newMessageIds);
+    assertTrue(processedMessageRepository.lookedUpIds.isEmpty());
+  }
+
+  @Test
+  public void testDuplicatesWithinOneBatchAreProcessedOnce() {
+    String messageId = UUID.randomUUID().toString();
+
+    assertEquals(List.of(messageId),
+        sagaMessageDeduplicator.discardDuplicates(List.of(messageId, messageId), Function.identity()));
+    assertEquals(1.0, meterRegistry.get("saga.messages.deduplication").tag("result", "duplicate").counter().count());
+  }
+
+  @Test
+  public void testFilterForgetsIdsAfterTwoWindows() {
+    AtomicLong clock = new AtomicLong();
+    RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.001, 1_000, clock::get);
+    Set<UUID> ids = IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID()).collect(Collectors.toSet());
+    ids.forEach(filter::put);
+
+    clock.set(1_500);
+    assertTrue(ids.stream().allMatch(filter::mightContain));
+
+    clock.set(2_500);
+    assertFalse(ids.stream().allMatch(filter::mightContain));
+    long falsePositives = IntStream.range(0, 10_000).filter(i -> filter.mightContain(UUID.randomUUID())).count();
+    assertTrue(falsePositives < 50, falsePositives + " false positives in 10000 lookups");
+  }
+
+  private static List<String> messageIds(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> UUID.randomUUID().toString())
+        .toList();
+  }
+
+  private static MessageDeduplicationConfigData configData() {
+    MessageDeduplicationConfigData configData = new MessageDeduplicationConfigData();
+    configData.setFilterExpectedMessagesPerWindow(10_000);
+    configData.setFilterFalsePositiveProbability(0.001);
+    configData.setFilterWindowMs(600_000L);
+    return configData;
+  }
+
+  private static class InMemoryProcessedMessageRepository implements ProcessedMessageRepository {
+    private final Set<UUID> processed = new HashSet<>();
+    private final Set<UUID> lookedUpIds = new HashSet<>();
+    private final Set<UUID> claimedIds = new HashSet<>();
+
+    @Override
+    public Set<UUID> findProcessed(Collection<UUID> messageIds) {
+      lookedUpIds.addAll(messageIds);
+      return messageIds.stream().filter(processed::contains).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<UUID> saveUnprocessed(Collection<UUID> messageIds) {
+      claimedIds.addAll(messageIds);
+      return messageIds.stream().filter(processed::add).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void deleteAll(Collection<UUID> messageIds) {
+      processed.removeAll(messageIds);
+    }
+  }
+}
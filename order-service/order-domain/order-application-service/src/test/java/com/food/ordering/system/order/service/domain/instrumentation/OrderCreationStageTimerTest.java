@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.domain.instrumentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderCreationStageTimerTest {
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final OrderCreationStageTimer orderCreationStageTimer = new OrderCreationStageTimer(meterRegistry);
+
+  @Test
+  public void testEveryStageHasATimer() {
+    for (OrderCreationStage stage : OrderCreationStage.values()) {
+      assertEquals(0, meterRegistry.get("order.creation.stage").tag("stage", stage.getTagValue()).timer().count());
+    }
+    assertEquals(OrderCreationStage.values().length, orderCreationStageTimer.snapshots().size());
+  }
+
+  @Test
+  public void testFailedStageIsStillTimed() {
+    assertEquals("paid", orderCreationStageTimer.record(OrderCreationStage.PUBLISH, () -> "paid"));
+    assertThrows(IllegalStateException.class, () -> orderCreationStageTimer.record(OrderCreationStage.PUBLISH,
+        (Runnable) () -> {
+          throw new IllegalStateException("broker unavailable");
+        }));
+
+    assertEquals(2, orderCreationStageTimer.snapshots().get(OrderCreationStage.PUBLISH).count());
+  }
+
+  @Test
+  public void testStagesAreRecordedAsJfrEvents() throws Exception {
+    Path recordingFile = Files.createTempFile("order-creation-stages", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("com.food.ordering.system.OrderCreationStage");
+      recording.start();
+      orderCreationStageTimer.record(OrderCreationStage.TOTAL,
+          () -> orderCreationStageTimer.record(OrderCreationStage.CUSTOMER_CHECK, () -> {
+          }));
+      recording.stop();
+      recording.dump(recordingFile);
+
+      List<String> stages = RecordingFile.readAllEvents(recordingFile).stream()
+          .map(event -> event.getString("stage"))
+          .sorted()
+          .toList();
+      assertEquals(List.of("customer-check", "total"), stages);
+    } finally {
+      Files.deleteIfExists(recordingFile);
+    }
+  }
+}
@@ -0,0 +1,265 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.domain.id.UuidV7Generator;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.OrderSagaHelper;
+import com.food.ordering.system.order.service.domain.OrderTestFixtures;
+import com.food.ordering.system.order.service.domain.config.MessageDeduplicationConfigData;
+import com.food.ordering.system.order.service.domain.config.OrderSagaConfigData;
+import com.food.ordering.system.order.service.domain.dedup.SagaMessageDeduplicator;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderSagaEngineTest {
+  private final InMemoryOrderSagaRepository orderSagaRepository = new InMemoryOrderSagaRepository();
+  private final OrderSagaHelper orderSagaHelper = mock(OrderSagaHelper.class);
+  private final OrderPaidRestaurantRequestMessagePublisher orderPaidRestaurantRequestMessagePublisher =
+      mock(OrderPaidRestaurantRequestMessagePublisher.class);
+  private final OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher =
+      mock(OrderCancelledPaymentRequestMessagePublisher.class);
+  private final ProcessedMessageRepository processedMessageRepository = processedMessageRepository();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger transactions = new AtomicInteger();
+  private final TransactionOperations transactionOperations = new TransactionOperations() {
+    @Override
+    public <T> T execute(TransactionCallback<T> action) {
+      transactions.incrementAndGet();
+      return action.doInTransaction(new SimpleTransactionStatus());
+    }
+  };
+  private final OrderSagaEngine orderSagaEngine = new OrderSagaEngine(orderSagaRepository, orderSagaHelper,
+      new OrderDomainServiceImpl(new UuidV7Generator()), orderPaidRestaurantRequestMessagePublisher,
+      orderCancelledPaymentRequestMessagePublisher,
+      new SagaMessageDeduplicator(processedMessageRepository, deduplicationConfigData(), meterRegistry),
+      transactionOperations, configData(), meterRegistry);
+
+  @Test
+  public void testTransitionTableCoversTheOrderSaga() {
+    assertTransition(OrderStatus.PENDING, SagaResponseType.PAYMENT_COMPLETED, OrderStatus.PAID, OrderSagaAction.PAY);
+    assertTransition(OrderStatus.PENDING, SagaResponseType.PAYMENT_CANCELLED, OrderStatus.CANCELED, OrderSagaAction.CANCEL);
+    assertTransition(OrderStatus.PAID, SagaResponseType.RESTAURANT_APPROVED, OrderStatus.APPROVED, OrderSagaAction.APPROVE);
+    assertTransition(OrderStatus.PAID, SagaResponseType.RESTAURANT_REJECTED, OrderStatus.CANCELING,
+        OrderSagaAction.INIT_CANCEL);
+    assertTransition(OrderStatus.CANCELING, SagaResponseType.PAYMENT_CANCELLED, OrderStatus.CANCELED,
+        OrderSagaAction.CANCEL);
+
+    int transitions = 0;
+    for (OrderStatus status : OrderStatus.values()) {
+      for (SagaResponseType responseType : SagaResponseType.values()) {
+        transitions += OrderSagaTransitionTable.find(status, responseType) != null ? 1 : 0;
+      }
+    }
+    assertEquals(5, transitions);
+    assertNull(OrderSagaTransitionTable.find(OrderStatus.APPROVED, SagaResponseType.PAYMENT_COMPLETED));
+  }
+
+  @Test
+  public void testResponseMovesSagaAndOrder() {
+    Order order = order(OrderStatus.PENDING);
+
+    orderSagaEngine.process(List.of(response(order, order.getId().getValue(), SagaResponseType.PAYMENT_COMPLETED)));
+
+    assertSaga(order, OrderStatus.PAID, 1);
+    assertEquals(OrderStatus.PAID, order.getOrderStatus());
+    verify(orderPaidRestaurantRequestMessagePublisher).publishAll(anyList());
+  }
+
+  @Test
+  public void testResponsesOfOneSagaAreFoldedIntoOneUpdate() {
+    Order order = order(OrderStatus.PENDING);
+    UUID sagaId = order.getId().getValue();
+
+    orderSagaEngine.process(List.of(
+        response(order, sagaId, SagaResponseType.PAYMENT_COMPLETED),
+        response(order, sagaId, SagaResponseType.RESTAURANT_APPROVED)));
+
+    assertSaga(order, OrderStatus.APPROVED, 1);
+    assertEquals(OrderStatus.APPROVED, order.getOrderStatus());
+  }
+
+  @Test
+  public void testLostRaceIsFoldedAgainOverTheNewStatus() {
+    Order order = order(OrderStatus.PENDING);
+    orderSagaRepository.concurrentUpdates = 1;
+
+    orderSagaEngine.process(List.of(response(order, order.getId().getValue(), SagaResponseType.PAYMENT_COMPLETED)));
+
+    assertSaga(order, OrderStatus.PAID, 1);
+    assertEquals(OrderStatus.PENDING, order.getOrderStatus());
+    verify(orderPaidRestaurantRequestMessagePublisher, never()).publishAll(anyList());
+    assertEquals(1.0, meterRegistry.get("order.saga.version.conflicts").counter().count());
+    assertEquals(1.0, meterRegistry.get("order.saga.transitions").tag("result", "ignored").counter().count());
+  }
+
+  @Test
+  public void testLostRaceIsRetriedInANewTransactionWithItsClaimReleased() {
+    Order order = order(OrderStatus.PENDING);
+    Order otherOrder = order(OrderStatus.PENDING);
+    SagaResponse response = response(order, order.getId().getValue(), SagaResponseType.PAYMENT_COMPLETED);
+    orderSagaRepository.concurrentUpdates = 1;
+    orderSagaRepository.concurrentStatus = OrderStatus.PENDING;
+
+    orderSagaEngine.process(List.of(response,
+        response(otherOrder, otherOrder.getId().getValue(), SagaResponseType.PAYMENT_COMPLETED)));
+
+    assertEquals(2, transactions.get());
+    verify(processedMessageRepository).deleteAll(List.of(UUID.fromString(response.getId())));
+    assertSaga(order, OrderStatus.PAID, 2);
+    assertSaga(otherOrder, OrderStatus.PAID, 1);
+  }
+
+  @Test
+  public void testSagaThatKeepsChangingFailsTheBatch() {
+    Order order = order(OrderStatus.PENDING);
+    orderSagaRepository.concurrentUpdates = Integer.MAX_VALUE;
+    orderSagaRepository.concurrentStatus = OrderStatus.PENDING;
+
+    assertThrows(OrderDomainException.class, () -> orderSagaEngine.process(
+        List.of(response(order, order.getId().getValue(), SagaResponseType.PAYMENT_COMPLETED))));
+  }
+
+  @Test
+  public void testLegacySagaIdFallsBackToOrderId() {
+    Order order = order(OrderStatus.PAID);
+
+    orderSagaEngine.process(List.of(response(order, UUID.randomUUID(), SagaResponseType.RESTAURANT_REJECTED)));
+
+    assertSaga(order, OrderStatus.CANCELING, 1);
+    verify(orderCancelledPaymentRequestMessagePublisher).publishAll(anyList());
+  }
+
+  @Test
+  public void testOrderWithoutSagaIsAdopted() {
+    Order order = order(OrderStatus.PENDING);
+    orderSagaRepository.sagas.clear();
+
+    orderSagaEngine.process(List.of(response(order, UUID.randomUUID(), SagaResponseType.PAYMENT_CANCELLED)));
+
+    assertSaga(order, OrderStatus.CANCELED, 1);
+    assertEquals(OrderStatus.CANCELED, order.getOrderStatus());
+  }
+
+  private Order order(OrderStatus status) {
+    Order order = OrderTestFixtures.order(List.of())
+        .orderId(new OrderId(UUID.randomUUID()))
+        .orderStatus(status)
+        .build();
+    orderSagaRepository.saveAll(List.of(OrderSaga.start(order)));
+    Map<OrderId, Order> orders = Map.of(order.getId(), order);
+    when(orderSagaHelper.findOrders(anyList())).thenReturn(orders);
+    return order;
+  }
+
+  private SagaResponse response(Order order, UUID sagaId, SagaResponseType type) {
+    return SagaResponse.builder()
+        .id(UUID.randomUUID().toString())
+        .sagaId(sagaId.toString())
+        .orderId(order.getId().getValue().toString())
+        .type(type)
+        .failureMessages(List.of())
+        .build();
+  }
+
+  private void assertSaga(Order order, OrderStatus status, long version) {
+    OrderSaga saga = orderSagaRepository.sagas.get(order.getId().getValue());
+    assertEquals(status, saga.getStatus());
+    assertEquals(version, saga.getVersion());
+  }
+
+  private static void assertTransition(OrderStatus status, SagaResponseType responseType,
+                                       OrderStatus targetStatus, OrderSagaAction action) {
+    OrderSagaTransition transition = OrderSagaTransitionTable.find(status, responseType);
+    assertEquals(targetStatus, transition.getTargetStatus());
+    assertEquals(action, transition.getAction());
+  }
+
+  private static ProcessedMessageRepository processedMessageRepository() {
+    ProcessedMessageRepository processedMessageRepository = mock(ProcessedMessageRepository.class);
+    when(processedMessageRepository.saveUnprocessed(anyCollection()))
+        .thenAnswer(invocation -> new HashSet<UUID>(invocation.getArgument(0)));
+    return processedMessageRepository;
+  }
+
+  private static MessageDeduplicationConfigData deduplicationConfigData() {
+    MessageDeduplicationConfigData configData = new MessageDeduplicationConfigData();
+    configData.setFilterExpectedMessagesPerWindow(1_000);
+    configData.setFilterFalsePositiveProbability(0.001);
+    configData.setFilterWindowMs(600_000L);
+    return configData;
+  }
+
+  private static OrderSagaConfigData configData() {
+    OrderSagaConfigData configData = new OrderSagaConfigData();
+    configData.setMaxCompareAndSetAttempts(3);
+    configData.setCompareAndSetBackoffMs(0L);
+    return configData;
+  }
+
+  private static class InMemoryOrderSagaRepository implements OrderSagaRepository {
+    private final Map<UUID, OrderSaga> sagas = new HashMap<>();
+    private int concurrentUpdates;
+    private OrderStatus concurrentStatus = OrderStatus.PAID;
+
+    @Override
+    public List<OrderSaga> findSagas(Collection<UUID> sagaIds) {
+      return sagaIds.stream().map(sagas::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public void saveAll(List<OrderSaga> newSagas) {
+      newSagas.forEach(saga -> sagas.putIfAbsent(saga.getSagaId(), saga));
+    }
+
+    @Override
+    public Set<UUID> compareAndSetStatuses(List<OrderSaga> changedSagas) {
+      Set<UUID> conflicts = new HashSet<>();
+      for (OrderSaga changed : changedSagas) {
+        OrderSaga current = sagas.get(changed.getSagaId());
+        if (concurrentUpdates > 0) {
+          concurrentUpdates--;
+          current = new OrderSaga(current.getSagaId(), current.getOrderId(), concurrentStatus, current.getVersion() + 1);
+          sagas.put(current.getSagaId(), current);
+        }
+        if (current.getVersion() != changed.getVersion()) {
+          conflicts.add(changed.getSagaId());
+          continue;
+        }
+        sagas.put(changed.getSagaId(), new OrderSaga(changed.getSagaId(), changed.getOrderId(), changed.getStatus(),
+            changed.getVersion() + 1));
+      }
+      return conflicts;
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.food.ordering.system.order.service.domain.stream;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderTrackHelper;
+import com.food.ordering.system.order.service.domain.config.OrderStatusStreamConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderStatusSubscriptionRegistryTest {
+  private final OrderTrackHelper orderTrackHelper = mock(OrderTrackHelper.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final OrderStatusSubscriptionRegistry registry = new OrderStatusSubscriptionRegistry(orderTrackHelper,
+      configData(), meterRegistry, new ExecutorServiceAdapter(new SyncTaskExecutor()),
+      new ExecutorServiceAdapter(new SyncTaskExecutor()));
+
+  @Test
+  public void testOnlyLaterStatusesAreDelivered() {
+    UUID trackingId = UUID.randomUUID();
+    List<OrderStatus> received = new ArrayList<>();
+    registry.subscribe(trackingId, trackOrderResponse -> received.add(trackOrderResponse.getOrderStatus()));
+
+    registry.publish(response(trackingId, OrderStatus.PAID));
+    registry.publish(response(trackingId, OrderStatus.PAID));
+    registry.publish(response(trackingId, OrderStatus.PENDING));
+    registry.publish(response(trackingId, OrderStatus.APPROVED));
+    registry.publish(response(UUID.randomUUID(), OrderStatus.CANCELED));
+
+    assertEquals(List.of(OrderStatus.PAID, OrderStatus.APPROVED), received);
+    assertEquals(2.0, meterRegistry.get("order.status.subscriptions.delivered").counter().count());
+  }
+
+  @Test
+  public void testCancelledSubscriptionIsRemoved() {
+    UUID trackingId = UUID.randomUUID();
+    List<OrderStatus> first = new ArrayList<>();
+    List<OrderStatus> second = new ArrayList<>();
+    OrderStatusSubscription subscription = registry.subscribe(trackingId,
+        trackOrderResponse -> first.add(trackOrderResponse.getOrderStatus()));
+    registry.subscribe(trackingId, trackOrderResponse -> second.add(trackOrderResponse.getOrderStatus()));
+    assertEquals(2.0, meterRegistry.get("order.status.subscriptions").gauge().value());
+
+    subscription.cancel();
+    subscription.cancel();
+    registry.publish(response(trackingId, OrderStatus.PAID));
+
+    assertEquals(List.of(), first);
+    assertEquals(List.of(OrderStatus.PAID), second);
+    assertEquals(1.0, meterRegistry.get("order.status.subscriptions").gauge().value());
+  }
+
+  @Test
+  public void testNotificationsAreReloadedOnlyForSubscribedOrders() {
+    UUID trackingId = UUID.randomUUID();
+    List<OrderStatus> received = new ArrayList<>();
+    registry.subscribe(trackingId, trackOrderResponse -> received.add(trackOrderResponse.getOrderStatus()));
+    when(orderTrackHelper.findTrackOrderResponses(any()))
+        .thenReturn(List.of(response(trackingId, OrderStatus.CANCELING)));
+
+    registry.orderTrackingChanged(UUID.randomUUID());
+    verify(orderTrackHelper, never()).findTrackOrderResponses(any());
+
+    registry.orderTrackingChanged(trackingId);
+    verify(orderTrackHelper).findTrackOrderResponses(List.of(new TrackingId(trackingId)));
+    assertEquals(List.of(OrderStatus.CANCELING), received);
+  }
+
+  @Test
+  public void testAllSubscribedOrdersAreReloadedInChunks() {
+    List<UUID> trackingIds = new ArrayList<>();
+    List<OrderStatus> received = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      UUID trackingId = UUID.randomUUID();
+      trackingIds.add(trackingId);
+      registry.subscribe(trackingId, trackOrderResponse -> received.add(trackOrderResponse.getOrderStatus()));
+    }
+    when(orderTrackHelper.findTrackOrderResponses(any())).thenAnswer(invocation ->
+        invocation.<List<TrackingId>>getArgument(0).stream()
+            .map(trackingId -> response(trackingId.getValue(), OrderStatus.PAID))
+            .toList());
+
+    registry.allOrderTrackingChanged();
+
+    ArgumentCaptor<List<TrackingId>> chunks = ArgumentCaptor.captor();
+    verify(orderTrackHelper, times(3)).findTrackOrderResponses(chunks.capture());
+    assertEquals(List.of(2, 2, 1), chunks.getAllValues().stream().map(List::size).toList());
+    assertEquals(Set.copyOf(trackingIds), chunks.getAllValues().stream()
+        .flatMap(List::stream)
+        .map(TrackingId::getValue)
+        .collect(Collectors.toSet()));
+    assertEquals(5, received.size());
+  }
+
+  @Test
+  public void testSlowSubscriberOnlyReceivesLatestPendingStatus() {
+    List<Runnable> deliveries = new ArrayList<>();
+    OrderStatusSubscriptionRegistry queuedRegistry = new OrderStatusSubscriptionRegistry(orderTrackHelper,
+        configData(), new SimpleMeterRegistry(), new ExecutorServiceAdapter(new SyncTaskExecutor()),
+        new ExecutorServiceAdapter(deliveries::add));
+    UUID trackingId = UUID.randomUUID();
+    List<OrderStatus> received = new ArrayList<>();
+    queuedRegistry.subscribe(trackingId, trackOrderResponse -> received.add(trackOrderResponse.getOrderStatus()));
+
+    queuedRegistry.publish(response(trackingId, OrderStatus.PAID));
+    queuedRegistry.publish(response(trackingId, OrderStatus.APPROVED));
+    assertEquals(List.of(), received);
+    assertEquals(1, deliveries.size());
+
+    deliveries.get(0).run();
+    assertEquals(List.of(OrderStatus.APPROVED), received);
+  }
+
+  @Test
+  public void testFailingSubscriberIsDropped() {
+    UUID trackingId = UUID.randomUUID();
+    registry.subscribe(trackingId, trackOrderResponse -> {
+      throw new IllegalStateException("connection closed");
+    });
+
+    registry.publish(response(trackingId, OrderStatus.PAID));
+
+    assertEquals(0.0, meterRegistry.get("order.status.subscriptions").gauge().value());
+  }
+
+  private static OrderStatusStreamConfigData configData() {
+    OrderStatusStreamConfigData configData = new OrderStatusStreamConfigData();
+    configData.setReloadChunkSize(2);
+    configData.setDeliveryThreads(1);
+    return configData;
+  }
+
+  private TrackOrderResponse response(UUID trackingId, OrderStatus orderStatus) {
+    return TrackOrderResponse.builder()
+        .orderTrackingId(trackingId)
+        .orderStatus(orderStatus)
+        .build();
+  }
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
@@ -16,13 +17,19 @@ import java.util.List;
 @Slf4j
 public class OrderDomainServiceImpl implements OrderDomainService {
   private static final String UTC = "UTC";
+
+  private final IdGenerator idGenerator;
+
+  public OrderDomainServiceImpl(IdGenerator idGenerator) {
+    this.idGenerator = idGenerator;
+  }
   
   @Override
   public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
     validateRestaurant(restaurant);
     setOrderProductInformation(order, restaurant);
     order.validateOrder();
-    order.initializeOrder();
+    order.initializeOrder(idGenerator);
     log.info("Order {} initiated", order.getId().getValue());
     return new OrderCreatedEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
   }
@@ -60,11 +67,12 @@ public class OrderDomainServiceImpl implements OrderDomainService {
   }
   
   private void setOrderProductInformation(Order order, Restaurant restaurant) {
-    order.getItems().forEach(orderItem -> restaurant.getProducts().forEach(restaurantProduct -> {
+    order.getItems().forEach(orderItem -> {
       Product currentProduct = orderItem.getProduct();
-      if (currentProduct.equals(restaurantProduct)) {
+      Product restaurantProduct = restaurant.getProduct(currentProduct.getId());
+      if (restaurantProduct != null) {
         currentProduct.updateWithConfirmedNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice());
       }
-    }));
+    });
   }
 }
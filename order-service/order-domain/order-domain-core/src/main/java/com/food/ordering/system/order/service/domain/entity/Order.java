@@ -1,6 +1,7 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderId;
@@ -13,11 +14,8 @@ import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 public class Order extends AggregateRoot<OrderId> {
-  public final static String FAILURE_MESSAGE_DELIMITER = ",";
-
   private final CustomerId customerId;
   private final RestaurantId restaurantId;
   private final StreetAddress deliveryAddress;
@@ -28,9 +26,9 @@ public class Order extends AggregateRoot<OrderId> {
   private OrderStatus orderStatus;
   private List<String> failureMessages;
   
-  public void initializeOrder() {
-    setId(new OrderId(UUID.randomUUID()));
-    trackingId = new TrackingId(UUID.randomUUID());
+  public void initializeOrder(IdGenerator idGenerator) {
+    setId(new OrderId(idGenerator.generateId()));
+    trackingId = new TrackingId(idGenerator.generateId());
     orderStatus = OrderStatus.PENDING;
     initializeOrderItems();
   }
@@ -60,6 +58,7 @@ public class Order extends AggregateRoot<OrderId> {
       throw new OrderDomainException("Order is not in the correct state for cancellation!");
     }
     orderStatus = OrderStatus.CANCELING;
+    updateFailureMessages(failureMessages);
   }
   
   public void cancel(List<String> failureMessages) {
@@ -75,13 +74,13 @@ public class Order extends AggregateRoot<OrderId> {
       return;
     }
     
-    var nonEmptyFailureMessages = failureMessages.stream().filter(message -> !message.isBlank()).toList();
-    
-    if (this.failureMessages == null) {
-      this.failureMessages = nonEmptyFailureMessages;
-    }
-    
-    this.failureMessages.addAll(nonEmptyFailureMessages);
+    List<String> updatedFailureMessages = this.failureMessages != null
+        ? new ArrayList<>(this.failureMessages)
+        : new ArrayList<>(failureMessages.size());
+    failureMessages.stream()
+        .filter(message -> message != null && !message.isBlank())
+        .forEach(updatedFailureMessages::add);
+    this.failureMessages = updatedFailureMessages;
   }
 
   private void validateInitialOrder() {
@@ -98,10 +97,12 @@ public class Order extends AggregateRoot<OrderId> {
   }
   
   private void validateItemsPrice() {
-    Money orderItemsTotal = items.stream().map(orderItem -> {
+    Money orderItemsTotal = Money.ZERO;
+
+    for (OrderItem orderItem : items) {
       validateItemPrice(orderItem);
-      return orderItem.getSubTotal();
-    }).reduce(Money.ZERO, Money::add);
+      orderItemsTotal = orderItemsTotal.add(orderItem.getSubTotal());
+    }
     
     if (!price.equals(orderItemsTotal)) {
       throw new OrderDomainException("Total price: " + price.getAmount() 
@@ -5,8 +5,6 @@ import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
 
-import java.math.BigDecimal;
-
 public class OrderItem extends BaseEntity<OrderItemId> {
   private OrderId orderId;
   private final Product product;
@@ -20,10 +18,10 @@ public class OrderItem extends BaseEntity<OrderItemId> {
     super.setId(orderItemId);
   }
   
-  boolean isPriceValid() {
+  public boolean isPriceValid() {
     return price.isGreaterThanZero() 
         && price.equals(product.getPrice()) 
-        && price.multiply(BigDecimal.valueOf(quantity)).equals(subTotal);
+        && price.multiply(quantity).equals(subTotal);
   }
 
   private OrderItem(Builder builder) {
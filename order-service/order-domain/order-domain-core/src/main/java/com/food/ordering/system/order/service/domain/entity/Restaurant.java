@@ -1,18 +1,24 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
   private final List<Product> products;
+  private final Map<ProductId, Product> productIndex;
   private boolean isActive;
 
   private Restaurant(Builder builder) {
     super.setId(builder.restaurantId);
     products = builder.products;
+    productIndex = indexProducts(builder.products);
     isActive = builder.isActive;
   }
 
@@ -21,10 +27,24 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
     return new ArrayList<>(products);
   }
 
+  public Product getProduct(ProductId productId) {
+    return productIndex.get(productId);
+  }
+
   public boolean isActive() {
     return isActive;
   }
 
+  private static Map<ProductId, Product> indexProducts(List<Product> products) {
+    if (products == null || products.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<ProductId, Product> index = new HashMap<>((int) (products.size() / 0.75f) + 1);
+    products.forEach(product -> index.put(product.getId(), product));
+    return Collections.unmodifiableMap(index);
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -0,0 +1,112 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.id.UuidV7Generator;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderDomainServiceImplTest {
+  private static final BigDecimal PRODUCT_PRICE = new BigDecimal("10.00");
+
+  private final OrderDomainService orderDomainService = new OrderDomainServiceImpl(new UuidV7Generator());
+
+  @Test
+  public void testProductMatchingIsLinearInOrderItems() {
+    for (int menuSize : new int[]{10, 1_000, 10_000}) {
+      for (int itemCount : new int[]{10, 100, 1_000}) {
+        Restaurant restaurant = restaurant(menuSize);
+        Order order = order(restaurant, itemCount);
+
+        CountingProductId.reset();
+        orderDomainService.validateAndInitiateOrder(order, restaurant);
+        long productIdComparisons = CountingProductId.count();
+
+        assertTrue(productIdComparisons <= 4L * itemCount,
+            "Matching " + itemCount + " items against a menu of " + menuSize + " products took "
+                + productIdComparisons + " product id comparisons");
+      }
+    }
+  }
+
+  @Test
+  public void testProductInformationIsConfirmedFromRestaurant() {
+    Restaurant restaurant = restaurant(100);
+    Order order = order(restaurant, 50);
+
+    orderDomainService.validateAndInitiateOrder(order, restaurant);
+
+    order.getItems().forEach(orderItem -> {
+      Product restaurantProduct = restaurant.getProduct(orderItem.getProduct().getId());
+      assertEquals(restaurantProduct.getName(), orderItem.getProduct().getName());
+      assertEquals(restaurantProduct.getPrice(), orderItem.getProduct().getPrice());
+    });
+  }
+
+  private Restaurant restaurant(int menuSize) {
+    List<Product> products = new ArrayList<>(menuSize);
+    for (int i = 0; i < menuSize; i++) {
+      products.add(new Product(new CountingProductId(new UUID(0, i)), "product-" + i, new Money(PRODUCT_PRICE)));
+    }
+
+    return Restaurant.builder()
+        .restaurantId(new RestaurantId(UUID.randomUUID()))
+        .products(products)
+        .isActive(true)
+        .build();
+  }
+
+  private Order order(Restaurant restaurant, int itemCount) {
+    List<Product> menu = restaurant.getProducts();
+    List<OrderItem> items = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      UUID productId = menu.get(i % menu.size()).getId().getValue();
+      items.add(OrderTestFixtures.orderItem(new CountingProductId(productId), 1, new Money(PRODUCT_PRICE)));
+    }
+
+    return OrderTestFixtures.order(items)
+        .restaurantId(restaurant.getId())
+        .build();
+  }
+
+  private static class CountingProductId extends ProductId {
+    private static final AtomicLong COMPARISONS = new AtomicLong();
+
+    CountingProductId(UUID value) {
+      super(value);
+    }
+
+    static void reset() {
+      COMPARISONS.set(0);
+    }
+
+    static long count() {
+      return COMPARISONS.get();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      COMPARISONS.incrementAndGet();
+      return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+      COMPARISONS.incrementAndGet();
+      return super.hashCode();
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.id.UuidV7Generator;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Orders for tests of every order-service module, shared through the order-domain-core test-jar. The builders come
+ * filled in with random ids and a delivery address, so a test only sets what it asserts on.
+ */
+public final class OrderTestFixtures {
+
+  private OrderTestFixtures() {
+  }
+
+  public static Order.Builder order(List<OrderItem> items) {
+    Money price = Money.ZERO;
+    for (OrderItem item : items) {
+      price = price.add(item.getSubTotal());
+    }
+
+    return Order.builder()
+        .customerId(new CustomerId(UUID.randomUUID()))
+        .restaurantId(new RestaurantId(UUID.randomUUID()))
+        .deliveryAddress(new StreetAddress(UUID.randomUUID(), "Street", "12345", "City"))
+        .price(price)
+        .items(items);
+  }
+
+  public static Order initializedOrder(List<OrderItem> items) {
+    return initialize(order(items).build());
+  }
+
+  public static Order initialize(Order order) {
+    order.initializeOrder(new UuidV7Generator());
+    return order;
+  }
+
+  public static OrderItem orderItem(Money price) {
+    return orderItem(new ProductId(UUID.randomUUID()), 1, price);
+  }
+
+  public static OrderItem orderItem(ProductId productId, int quantity, Money price) {
+    return OrderItem.builder()
+        .product(new Product(productId))
+        .quantity(quantity)
+        .price(price)
+        .subTotal(price.multiply(quantity))
+        .build();
+  }
+}
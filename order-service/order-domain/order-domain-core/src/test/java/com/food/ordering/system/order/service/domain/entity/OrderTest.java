@@ -0,0 +1,42 @@
+package com.food.ordering.system.order.service.domain.entity;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderTestFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OrderTest {
+  private static final BigDecimal PRICE = new BigDecimal("10.00");
+
+  @Test
+  public void testCancelAfterInitCancelKeepsAllFailureMessages() {
+    Order order = order(List.of());
+    order.pay();
+
+    order.initCancel(List.of("Restaurant is closed, try later", " "));
+    order.cancel(List.of("Payment refunded"));
+
+    assertEquals(OrderStatus.CANCELED, order.getOrderStatus());
+    assertEquals(List.of("Restaurant is closed, try later", "Payment refunded"), order.getFailureMessages());
+  }
+
+  @Test
+  public void testCancelDoesNotModifyImmutableFailureMessages() {
+    Order order = order(List.of("Previous failure"));
+
+    order.cancel(List.of("Insufficient credit"));
+
+    assertEquals(List.of("Previous failure", "Insufficient credit"), order.getFailureMessages());
+  }
+
+  private Order order(List<String> failureMessages) {
+    return OrderTestFixtures.initialize(OrderTestFixtures.order(List.of(OrderTestFixtures.orderItem(new Money(PRICE))))
+        .failureMessages(failureMessages)
+        .build());
+  }
+}
@@ -1,11 +1,12 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
-import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
-import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.consumer.parallel.KeyOrderedBatchProcessor;
+import com.food.ordering.system.kafka.consumer.retry.KafkaRetryTopics;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
@@ -13,38 +14,57 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
-public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentResponseAvroModel> {
+public class PaymentResponseKafkaListener implements KafkaConsumer<SpecificRecordBase> {
   private final PaymentResponseMessageListener paymentResponseMessageListener;
   private final OrderMessagingDataMapper orderMessagingDataMapper;
+  private final KeyOrderedBatchProcessor keyOrderedBatchProcessor;
+  private final KafkaRetryTopics kafkaRetryTopics;
 
   public PaymentResponseKafkaListener(PaymentResponseMessageListener paymentResponseMessageListener,
-                                      OrderMessagingDataMapper orderMessagingDataMapper) {
+                                      OrderMessagingDataMapper orderMessagingDataMapper,
+                                      KeyOrderedBatchProcessor keyOrderedBatchProcessor,
+                                      KafkaRetryTopics kafkaRetryTopics) {
     this.paymentResponseMessageListener = paymentResponseMessageListener;
     this.orderMessagingDataMapper = orderMessagingDataMapper;
+    this.keyOrderedBatchProcessor = keyOrderedBatchProcessor;
+    this.kafkaRetryTopics = kafkaRetryTopics;
   }
 
   @Override
   @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}",
       topics = "${order-service.payment-response-topic-name}")
-  public void receive(@Payload List<PaymentResponseAvroModel> messages,
+  public void receive(@Payload List<SpecificRecordBase> messages,
                       @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
                       @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
                       @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
     log.info("{} number of messages received with keys: {}, partitions: {} and offsets: {}",
         messages.size(), keys.toString(), partitions.toString(), offsets.toString());
 
-    messages.forEach(paymentResponseAvroModel -> {
-      if (PaymentStatus.COMPLETED == paymentResponseAvroModel.getPaymentStatus()) {
-        paymentResponseMessageListener.paymentCompleted(orderMessagingDataMapper
-            .paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
-      } else if (PaymentStatus.CANCELLED == paymentResponseAvroModel.getPaymentStatus()
-          || PaymentStatus.FAILED == paymentResponseAvroModel.getPaymentStatus()) {
-        paymentResponseMessageListener.paymentCanceled(orderMessagingDataMapper
-            .paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
-      }
-    });
+    process(messages, keys, Map.of());
+  }
+
+  @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}-retry",
+      topics = "#{@kafkaRetryTopics.retryTopics('${order-service.payment-response-topic-name}')}",
+      containerFactory = "kafkaRetryListenerContainerFactory")
+  public void receiveRetry(@Payload List<SpecificRecordBase> messages,
+                           @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+                           @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+                           @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                           @Header(KafkaHeaders.RECEIVED_TOPIC) List<String> topics,
+                           @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+    log.info("{} number of retried messages received from topics: {} with keys: {}, partitions: {} and offsets: {}",
+        messages.size(), topics.toString(), keys.toString(), partitions.toString(), offsets.toString());
+    process(messages, keys, kafkaRetryTopics.deferredUntil(topics, partitions, timestamps));
+  }
+
+  private void process(List<SpecificRecordBase> messages, List<String> keys, Map<Integer, Long> deferredUntil) {
+    keyOrderedBatchProcessor.process(messages, keys, deferredUntil, laneMessages ->
+        paymentResponseMessageListener.paymentResponsesReceived(laneMessages.stream()
+            .map(orderMessagingDataMapper::paymentResponseAvroModelToPaymentResponse)
+            .toList()));
   }
 }
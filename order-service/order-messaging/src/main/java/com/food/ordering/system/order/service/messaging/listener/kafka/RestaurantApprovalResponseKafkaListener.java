@@ -1,11 +1,12 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
-import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.consumer.parallel.KeyOrderedBatchProcessor;
+import com.food.ordering.system.kafka.consumer.retry.KafkaRetryTopics;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
@@ -13,22 +14,30 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
-public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<RestaurantApprovalResponseAvroModel> {
+public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<SpecificRecordBase> {
   private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
   private final OrderMessagingDataMapper orderMessagingDataMapper;
+  private final KeyOrderedBatchProcessor keyOrderedBatchProcessor;
+  private final KafkaRetryTopics kafkaRetryTopics;
 
-  public RestaurantApprovalResponseKafkaListener(RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener, OrderMessagingDataMapper orderMessagingDataMapper) {
+  public RestaurantApprovalResponseKafkaListener(RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener,
+                                                       OrderMessagingDataMapper orderMessagingDataMapper,
+                                                       KeyOrderedBatchProcessor keyOrderedBatchProcessor,
+                                                       KafkaRetryTopics kafkaRetryTopics) {
     this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
     this.orderMessagingDataMapper = orderMessagingDataMapper;
+    this.keyOrderedBatchProcessor = keyOrderedBatchProcessor;
+    this.kafkaRetryTopics = kafkaRetryTopics;
   }
 
   @Override
   @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}",
       topics = "${order-service.restaurant-approval-response-topic-name}")
-  public void receive(@Payload List<RestaurantApprovalResponseAvroModel> messages,
+  public void receive(@Payload List<SpecificRecordBase> messages,
                       @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
                       @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
                       @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
@@ -38,17 +47,27 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
             partitions.toString(),
             offsets.toString());
 
-    messages.forEach(restaurantApprovalResponseAvroModel -> {
-      if (OrderApprovalStatus.APPROVED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
-        log.info("Processing approved order for order id: {}", restaurantApprovalResponseAvroModel.getOrderId());
-        restaurantApprovalResponseMessageListener.orderApproved(orderMessagingDataMapper
-            .approvalResponseAvroModelToRestaurantApprovalResponse(restaurantApprovalResponseAvroModel));
-      } else if (OrderApprovalStatus.REJECTED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
-        log.info("Processing rejected order for order id: {} with failure messages: {}",
-            restaurantApprovalResponseAvroModel.getOrderId(), restaurantApprovalResponseAvroModel.getFailureMessages());
-        restaurantApprovalResponseMessageListener.orderRejected(orderMessagingDataMapper
-            .approvalResponseAvroModelToRestaurantApprovalResponse(restaurantApprovalResponseAvroModel));
-      }
-    });
+    process(messages, keys, Map.of());
+  }
+
+  @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}-retry",
+      topics = "#{@kafkaRetryTopics.retryTopics('${order-service.restaurant-approval-response-topic-name}')}",
+      containerFactory = "kafkaRetryListenerContainerFactory")
+  public void receiveRetry(@Payload List<SpecificRecordBase> messages,
+                           @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+                           @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+                           @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                           @Header(KafkaHeaders.RECEIVED_TOPIC) List<String> topics,
+                           @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+    log.info("{} number of retried messages received from topics: {} with keys: {}, partitions: {} and offsets: {}",
+        messages.size(), topics.toString(), keys.toString(), partitions.toString(), offsets.toString());
+    process(messages, keys, kafkaRetryTopics.deferredUntil(topics, partitions, timestamps));
+  }
+
+  private void process(List<SpecificRecordBase> messages, List<String> keys, Map<Integer, Long> deferredUntil) {
+    keyOrderedBatchProcessor.process(messages, keys, deferredUntil, laneMessages ->
+        restaurantApprovalResponseMessageListener.approvalResponsesReceived(laneMessages.stream()
+            .map(orderMessagingDataMapper::approvalResponseAvroModelToRestaurantApprovalResponse)
+            .toList()));
   }
 }
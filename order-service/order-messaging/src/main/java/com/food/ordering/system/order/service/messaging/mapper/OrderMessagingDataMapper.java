@@ -1,74 +1,125 @@
 package com.food.ordering.system.order.service.messaging.mapper;
 
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
-import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
-import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
-import com.food.ordering.system.kafka.order.avro.model.Product;
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
-import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.v2.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2;
+import com.food.ordering.system.kafka.order.avro.model.v2.PaymentResponseAvroModelV2;
+import com.food.ordering.system.kafka.order.avro.model.v2.Product;
+import com.food.ordering.system.kafka.order.avro.model.v2.RestaurantApprovalRequestAvroModelV2;
+import com.food.ordering.system.kafka.order.avro.model.v2.RestaurantApprovalResponseAvroModelV2;
+import com.food.ordering.system.kafka.order.avro.model.v2.RestaurantOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.v2.Uuid;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.UUID;
 
 @Component
 public class OrderMessagingDataMapper {
-  public PaymentRequestAvroModel orderCreatedEventToPaymentRequestAvroModel(OrderCreatedEvent orderCreatedEvent) {
+  private static final int PRICE_SCALE = 2;
+
+  private final IdGenerator idGenerator;
+
+  public OrderMessagingDataMapper(IdGenerator idGenerator) {
+    this.idGenerator = idGenerator;
+  }
+
+  public PaymentRequestAvroModelV2 orderCreatedEventToPaymentRequestAvroModel(OrderCreatedEvent orderCreatedEvent) {
     Order order = orderCreatedEvent.getOrder();
-    return PaymentRequestAvroModel.newBuilder()
-        .setId(UUID.randomUUID())
-        .setSagaId(UUID.randomUUID())
-        .setCustomerId(order.getCustomerId().getValue())
-        .setOrderId(order.getId().getValue())
-        .setPrice(order.getPrice().getAmount())
+    return PaymentRequestAvroModelV2.newBuilder()
+        .setId(toUuid(idGenerator.generateId()))
+        .setSagaId(toUuid(order.getId().getValue()))
+        .setCustomerId(toUuid(order.getCustomerId().getValue()))
+        .setOrderId(toUuid(order.getId().getValue()))
+        .setPriceCents(order.getPrice().getCents())
         .setCreatedAt(orderCreatedEvent.getCreatedAt().toInstant())
         .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
         .build();
   }
 
-  public PaymentRequestAvroModel orderCancelledEventToPaymentRequestAvroModel(OrderCancelledEvent orderCancelledEvent) {
+  public PaymentRequestAvroModelV2 orderCancelledEventToPaymentRequestAvroModel(OrderCancelledEvent orderCancelledEvent) {
     Order order = orderCancelledEvent.getOrder();
-    return PaymentRequestAvroModel.newBuilder()
-        .setId(UUID.randomUUID())
-        .setSagaId(UUID.randomUUID())
-        .setCustomerId(order.getCustomerId().getValue())
-        .setOrderId(order.getId().getValue())
-        .setPrice(order.getPrice().getAmount())
+    return PaymentRequestAvroModelV2.newBuilder()
+        .setId(toUuid(idGenerator.generateId()))
+        .setSagaId(toUuid(order.getId().getValue()))
+        .setCustomerId(toUuid(order.getCustomerId().getValue()))
+        .setOrderId(toUuid(order.getId().getValue()))
+        .setPriceCents(order.getPrice().getCents())
         .setCreatedAt(orderCancelledEvent.getCreatedAt().toInstant())
         .setPaymentOrderStatus(PaymentOrderStatus.CANCELLED)
         .build();
   }
 
-  public RestaurantApprovalRequestAvroModel orderPaidEventToRestaurantApprovalRequestAvroModel(OrderPaidEvent orderPaidEvent) {
+  public RestaurantApprovalRequestAvroModelV2 orderPaidEventToRestaurantApprovalRequestAvroModel(OrderPaidEvent orderPaidEvent) {
     Order order = orderPaidEvent.getOrder();
 
-    return RestaurantApprovalRequestAvroModel.newBuilder()
-        .setId(UUID.randomUUID())
-        .setSagaId(UUID.randomUUID())
-        .setOrderId(order.getId().getValue())
-        .setRestaurantId(order.getRestaurantId().getValue())
-        .setRestaurantOrderStatus(RestaurantOrderStatus.valueOf(order.getOrderStatus().name()))
+    return RestaurantApprovalRequestAvroModelV2.newBuilder()
+        .setId(toUuid(idGenerator.generateId()))
+        .setSagaId(toUuid(order.getId().getValue()))
+        .setOrderId(toUuid(order.getId().getValue()))
+        .setRestaurantId(toUuid(order.getRestaurantId().getValue()))
         .setProducts(order.getItems().stream()
             .map(orderItem -> Product.newBuilder()
-                .setId(orderItem.getProduct().getId().getValue().toString())
+                .setId(toUuid(orderItem.getProduct().getId().getValue()))
                 .setQuantity(orderItem.getQuantity())
                 .build())
             .toList())
-        .setPrice(order.getPrice().getAmount())
+        .setPriceCents(order.getPrice().getCents())
         .setCreatedAt(orderPaidEvent.getCreatedAt().toInstant())
         .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
         .build();
   }
 
-  public PaymentResponse paymentResponseAvroModelToPaymentResponse(PaymentResponseAvroModel paymentResponseAvroModel) {
+  public PaymentResponse paymentResponseAvroModelToPaymentResponse(SpecificRecordBase paymentResponseAvroModel) {
+    if (paymentResponseAvroModel instanceof PaymentResponseAvroModelV2 paymentResponseAvroModelV2) {
+      return paymentResponseAvroModelV2ToPaymentResponse(paymentResponseAvroModelV2);
+    }
+    if (paymentResponseAvroModel instanceof PaymentResponseAvroModel paymentResponseAvroModelV1) {
+      return paymentResponseAvroModelV1ToPaymentResponse(paymentResponseAvroModelV1);
+    }
+    throw new OrderDomainException("Unsupported payment response message: " +
+        paymentResponseAvroModel.getSchema().getFullName());
+  }
+
+  public RestaurantApprovalResponse approvalResponseAvroModelToRestaurantApprovalResponse(SpecificRecordBase restaurantApprovalResponseAvroModel) {
+    if (restaurantApprovalResponseAvroModel instanceof RestaurantApprovalResponseAvroModelV2 approvalResponseAvroModelV2) {
+      return approvalResponseAvroModelV2ToRestaurantApprovalResponse(approvalResponseAvroModelV2);
+    }
+    if (restaurantApprovalResponseAvroModel instanceof RestaurantApprovalResponseAvroModel approvalResponseAvroModelV1) {
+      return approvalResponseAvroModelV1ToRestaurantApprovalResponse(approvalResponseAvroModelV1);
+    }
+    throw new OrderDomainException("Unsupported restaurant approval response message: " +
+        restaurantApprovalResponseAvroModel.getSchema().getFullName());
+  }
+
+  private PaymentResponse paymentResponseAvroModelV2ToPaymentResponse(PaymentResponseAvroModelV2 paymentResponseAvroModel) {
+    return PaymentResponse.builder()
+        .id(toUUID(paymentResponseAvroModel.getId()).toString())
+        .sagaId(toUUID(paymentResponseAvroModel.getSagaId()).toString())
+        .paymentId(toUUID(paymentResponseAvroModel.getPaymentId()).toString())
+        .customerId(toUUID(paymentResponseAvroModel.getCustomerId()).toString())
+        .orderId(toUUID(paymentResponseAvroModel.getOrderId()).toString())
+        .price(BigDecimal.valueOf(paymentResponseAvroModel.getPriceCents(), PRICE_SCALE))
+        .createdAt(paymentResponseAvroModel.getCreatedAt())
+        .paymentStatus(PaymentStatus.valueOf(paymentResponseAvroModel.getPaymentStatus().name()))
+        .failureMessages(paymentResponseAvroModel.getFailureMessages())
+        .build();
+  }
+
+  private PaymentResponse paymentResponseAvroModelV1ToPaymentResponse(PaymentResponseAvroModel paymentResponseAvroModel) {
     return PaymentResponse.builder()
         .id(paymentResponseAvroModel.getId().toString())
         .sagaId(paymentResponseAvroModel.getSagaId().toString())
@@ -82,7 +133,19 @@ public class OrderMessagingDataMapper {
         .build();
   }
 
-  public RestaurantApprovalResponse approvalResponseAvroModelToRestaurantApprovalResponse(RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel) {
+  private RestaurantApprovalResponse approvalResponseAvroModelV2ToRestaurantApprovalResponse(RestaurantApprovalResponseAvroModelV2 restaurantApprovalResponseAvroModel) {
+    return RestaurantApprovalResponse.builder()
+        .id(toUUID(restaurantApprovalResponseAvroModel.getId()).toString())
+        .sagaId(toUUID(restaurantApprovalResponseAvroModel.getSagaId()).toString())
+        .restaurantId(toUUID(restaurantApprovalResponseAvroModel.getRestaurantId()).toString())
+        .orderId(toUUID(restaurantApprovalResponseAvroModel.getOrderId()).toString())
+        .createdAt(restaurantApprovalResponseAvroModel.getCreatedAt())
+        .orderApprovalStatus(OrderApprovalStatus.valueOf(restaurantApprovalResponseAvroModel.getOrderApprovalStatus().name()))
+        .failureMessages(restaurantApprovalResponseAvroModel.getFailureMessages())
+        .build();
+  }
+
+  private RestaurantApprovalResponse approvalResponseAvroModelV1ToRestaurantApprovalResponse(RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel) {
     return RestaurantApprovalResponse.builder()
         .id(restaurantApprovalResponseAvroModel.getId().toString())
         .sagaId(restaurantApprovalResponseAvroModel.getSagaId().toString())
@@ -93,4 +156,16 @@ public class OrderMessagingDataMapper {
         .failureMessages(restaurantApprovalResponseAvroModel.getFailureMessages())
         .build();
   }
+
+  private static Uuid toUuid(UUID uuid) {
+    return new Uuid(ByteBuffer.allocate(16)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits())
+        .array());
+  }
+
+  private static UUID toUUID(Uuid uuid) {
+    ByteBuffer bytes = ByteBuffer.wrap(uuid.bytes());
+    return new UUID(bytes.getLong(), bytes.getLong());
+  }
 }
@@ -1,7 +1,6 @@
 package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
-import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
-import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.order.avro.model.v2.PaymentRequestAvroModelV2;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
@@ -9,43 +8,46 @@ import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDat
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.UUID;
+
 @Slf4j
 @Component
 public class CreateOrderKafkaMessagePublisher implements OrderCreatedPaymentRequestMessagePublisher {
   private final OrderMessagingDataMapper orderMessagingDataMapper;
   private final OrderServiceConfigData orderServiceConfigData;
-  private final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
   private final OrderKafkaMessageHelper orderKafkaMessageHelper;
 
   public CreateOrderKafkaMessagePublisher(OrderMessagingDataMapper orderMessagingDataMapper,
                                           OrderServiceConfigData orderServiceConfigData,
-                                          KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer,
                                           OrderKafkaMessageHelper orderKafkaMessageHelper) {
     this.orderMessagingDataMapper = orderMessagingDataMapper;
     this.orderServiceConfigData = orderServiceConfigData;
-    this.kafkaProducer = kafkaProducer;
     this.orderKafkaMessageHelper = orderKafkaMessageHelper;
   }
 
   @Override
   public void publish(OrderCreatedEvent domainEvent) {
-    String orderId = domainEvent.getOrder().getId().getValue().toString();
+    UUID orderId = domainEvent.getOrder().getId().getValue();
     log.info("Received order created event for order with id: {}", orderId);
 
-    try {
-      PaymentRequestAvroModel paymentRequestAvroModel = orderMessagingDataMapper.orderCreatedEventToPaymentRequestAvroModel(domainEvent);
-
-      kafkaProducer.send(orderServiceConfigData.getPaymentRequestTopicName(),
-          orderId,
-          paymentRequestAvroModel,
-          orderKafkaMessageHelper.getKafkaCallback(orderServiceConfigData.getPaymentResponseTopicName(),
-              paymentRequestAvroModel,
-              orderId,
-              "PaymentRequestAvroModel"));
-
-      log.info("PaymentRequestAvroModel sent to Kafka for order id: {}", paymentRequestAvroModel.getOrderId());
-    } catch (Exception e) {
-      log.error("Error while sending PaymentRequestAvroModel to Kafka for order id: {}, error: {}", orderId, e.getMessage());
-    }
+    PaymentRequestAvroModelV2 paymentRequestAvroModel = orderMessagingDataMapper.orderCreatedEventToPaymentRequestAvroModel(domainEvent);
+    orderKafkaMessageHelper.saveOutboxMessages(List.of(
+        orderKafkaMessageHelper.createOutboxMessage(orderServiceConfigData.getPaymentRequestTopicName(), orderId, paymentRequestAvroModel)));
+
+    log.info("PaymentRequestAvroModel written to outbox for order id: {}", orderId);
+  }
+
+  @Override
+  public void publishAll(List<OrderCreatedEvent> domainEvents) {
+    log.info("Received {} OrderCreatedEvents", domainEvents.size());
+
+    orderKafkaMessageHelper.saveOutboxMessages(domainEvents.stream()
+        .map(domainEvent -> orderKafkaMessageHelper.createOutboxMessage(orderServiceConfigData.getPaymentRequestTopicName(),
+            domainEvent.getOrder().getId().getValue(),
+            orderMessagingDataMapper.orderCreatedEventToPaymentRequestAvroModel(domainEvent)))
+        .toList());
+
+    log.info("{} OrderCreatedEvents written to outbox", domainEvents.size());
   }
 }
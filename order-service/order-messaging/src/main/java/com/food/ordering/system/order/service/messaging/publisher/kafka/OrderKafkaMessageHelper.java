@@ -1,15 +1,69 @@
 package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.kafka.producer.serializer.KafkaMessageSerializer;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.outbox.OrderOutboxChangeListener;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
 import java.util.function.BiConsumer;
 
 @Slf4j
 @Component
 public class OrderKafkaMessageHelper {
+  private final KafkaMessageSerializer<SpecificRecordBase> kafkaMessageSerializer;
+  private final OrderOutboxRepository orderOutboxRepository;
+  private final OrderOutboxChangeListener orderOutboxChangeListener;
+  private final IdGenerator idGenerator;
+
+  public OrderKafkaMessageHelper(KafkaMessageSerializer<SpecificRecordBase> kafkaMessageSerializer,
+                                 OrderOutboxRepository orderOutboxRepository,
+                                 OrderOutboxChangeListener orderOutboxChangeListener,
+                                 IdGenerator idGenerator) {
+    this.kafkaMessageSerializer = kafkaMessageSerializer;
+    this.orderOutboxRepository = orderOutboxRepository;
+    this.orderOutboxChangeListener = orderOutboxChangeListener;
+    this.idGenerator = idGenerator;
+  }
+
+  public OrderOutboxMessage createOutboxMessage(String topicName, UUID orderId, SpecificRecordBase avroModel) {
+    return OrderOutboxMessage.builder()
+        .id(idGenerator.generateId())
+        .aggregateId(orderId)
+        .topic(topicName)
+        .messageKey(orderId.toString())
+        .payloadType(avroModel.getSchema().getFullName())
+        .payload(kafkaMessageSerializer.serialize(topicName, avroModel))
+        .createdAt(ZonedDateTime.now(ZoneId.of("UTC")))
+        .build();
+  }
+
+  public void saveOutboxMessages(List<OrderOutboxMessage> outboxMessages) {
+    orderOutboxRepository.saveAll(outboxMessages);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          orderOutboxChangeListener.outboxChanged();
+        }
+      });
+    } else {
+      orderOutboxChangeListener.outboxChanged();
+    }
+  }
 
   public <T> BiConsumer<SendResult<String, T>, Throwable> getKafkaCallback(String responceTopicName,
                                                                            T requestAvroModel,
@@ -18,14 +72,13 @@ public class OrderKafkaMessageHelper {
     return (result, ex) -> {
       if (ex == null) {
         RecordMetadata metadata = result.getRecordMetadata();
-        log.info("Received success response from Kafka for order id: {}, " +
-                "topic: {}, partition: {}, offset: {}, timestamp: {}, at time: {}",
+        log.debug("Received success response from Kafka for order id: {}, " +
+                "topic: {}, partition: {}, offset: {}, timestamp: {}",
             orderId,
             metadata.topic(),
             metadata.partition(),
             metadata.offset(),
-            metadata.timestamp(),
-            System.nanoTime());
+            Instant.ofEpochMilli(metadata.timestamp()));
       } else {
         log.error("Error while sending " + requestAvroModelName + " message {} to topic {}", requestAvroModel.toString(), responceTopicName, ex);
       }
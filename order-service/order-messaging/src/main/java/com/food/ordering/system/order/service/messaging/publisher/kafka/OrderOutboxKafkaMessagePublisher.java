@@ -0,0 +1,74 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.kafka.producer.service.KafkaPayloadProducer;
+import com.food.ordering.system.order.service.domain.config.OrderOutboxConfigData;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox.OrderOutboxMessagePublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+public class OrderOutboxKafkaMessagePublisher implements OrderOutboxMessagePublisher {
+  private final KafkaPayloadProducer kafkaPayloadProducer;
+  private final OrderOutboxConfigData orderOutboxConfigData;
+
+  public OrderOutboxKafkaMessagePublisher(KafkaPayloadProducer kafkaPayloadProducer,
+                                          OrderOutboxConfigData orderOutboxConfigData) {
+    this.kafkaPayloadProducer = kafkaPayloadProducer;
+    this.orderOutboxConfigData = orderOutboxConfigData;
+  }
+
+  @Override
+  public void publish(List<OrderOutboxMessage> outboxMessages) {
+    List<CompletableFuture<SendResult<String, byte[]>>> sendFutures = kafkaPayloadProducer.sendAll(outboxMessages.stream()
+        .map(outboxMessage -> new ProducerRecord<>(outboxMessage.getTopic(),
+            outboxMessage.getMessageKey(),
+            outboxMessage.getPayload()))
+        .toList());
+    CompletableFuture<?>[] sendResults = new CompletableFuture[sendFutures.size()];
+    for (int i = 0; i < sendResults.length; i++) {
+      sendResults[i] = logSendResult(outboxMessages.get(i), sendFutures.get(i));
+    }
+
+    try {
+      CompletableFuture.allOf(sendResults).get(orderOutboxConfigData.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new KafkaProducerException("Could not publish " + outboxMessages.size() + " outbox messages to Kafka", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new KafkaProducerException("Interrupted while publishing outbox messages to Kafka", e);
+    }
+  }
+
+  private CompletableFuture<SendResult<String, byte[]>> logSendResult(OrderOutboxMessage outboxMessage,
+                                                                      CompletableFuture<SendResult<String, byte[]>> sendFuture) {
+    return sendFuture.whenComplete((result, ex) -> {
+          if (ex == null) {
+            log.debug("Outbox message {} of type {} for order id: {} sent to topic: {}, partition: {}, offset: {}",
+                outboxMessage.getId(),
+                outboxMessage.getPayloadType(),
+                outboxMessage.getAggregateId(),
+                result.getRecordMetadata().topic(),
+                result.getRecordMetadata().partition(),
+                result.getRecordMetadata().offset());
+          } else {
+            log.error("Error while sending outbox message {} of type {} for order id: {} to topic {}",
+                outboxMessage.getId(),
+                outboxMessage.getPayloadType(),
+                outboxMessage.getAggregateId(),
+                outboxMessage.getTopic(),
+                ex);
+          }
+        });
+  }
+}
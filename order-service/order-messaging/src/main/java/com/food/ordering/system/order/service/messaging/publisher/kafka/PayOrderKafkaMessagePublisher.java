@@ -1,7 +1,6 @@
 package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
-import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.order.avro.model.v2.RestaurantApprovalRequestAvroModelV2;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
@@ -9,42 +8,49 @@ import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDat
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.UUID;
+
 @Slf4j
 @Component
 public class PayOrderKafkaMessagePublisher implements OrderPaidRestaurantRequestMessagePublisher {
   private final OrderMessagingDataMapper orderMessagingDataMapper;
   private final OrderServiceConfigData orderServiceConfigData;
-  private final KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer;
   private final OrderKafkaMessageHelper orderKafkaMessageHelper;
 
   public PayOrderKafkaMessagePublisher(OrderMessagingDataMapper orderMessagingDataMapper,
                                        OrderServiceConfigData orderServiceConfigData,
-                                       KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer,
                                        OrderKafkaMessageHelper orderKafkaMessageHelper) {
     this.orderMessagingDataMapper = orderMessagingDataMapper;
     this.orderServiceConfigData = orderServiceConfigData;
-    this.kafkaProducer = kafkaProducer;
     this.orderKafkaMessageHelper = orderKafkaMessageHelper;
   }
 
   @Override
   public void publish(OrderPaidEvent domainEvent) {
-    String orderId = domainEvent.getOrder().getId().getValue().toString();
-
-    try {
-      RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel =
-          orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModel(domainEvent);
-
-      kafkaProducer.send(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
-          orderId,
-          restaurantApprovalRequestAvroModel,
-          orderKafkaMessageHelper.getKafkaCallback(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
-              restaurantApprovalRequestAvroModel,
-              orderId,
-              "RestaurantApprovalRequestAvroModel"));
-      log.info("RestaurantApprovalRequestAvroModel sent to Kafka for order id: {}", orderId);
-    } catch (Exception e) {
-      log.error("Error while sending RestaurantApprovalRequestAvroModel to Kafka for order id: {}, error: {}", orderId, e.getMessage());
-    }
+    UUID orderId = domainEvent.getOrder().getId().getValue();
+    log.info("Received order paid event for order with id: {}", orderId);
+
+    RestaurantApprovalRequestAvroModelV2 restaurantApprovalRequestAvroModel =
+        orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModel(domainEvent);
+    orderKafkaMessageHelper.saveOutboxMessages(List.of(
+        orderKafkaMessageHelper.createOutboxMessage(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
+            orderId,
+            restaurantApprovalRequestAvroModel)));
+
+    log.info("RestaurantApprovalRequestAvroModel written to outbox for order id: {}", orderId);
+  }
+
+  @Override
+  public void publishAll(List<OrderPaidEvent> domainEvents) {
+    log.info("Received {} OrderPaidEvents", domainEvents.size());
+
+    orderKafkaMessageHelper.saveOutboxMessages(domainEvents.stream()
+        .map(domainEvent -> orderKafkaMessageHelper.createOutboxMessage(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
+            domainEvent.getOrder().getId().getValue(),
+            orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModel(domainEvent)))
+        .toList());
+
+    log.info("{} OrderPaidEvents written to outbox", domainEvents.size());
   }
 }
@@ -0,0 +1,98 @@
+package com.food.ordering.system.order.service.messaging.mapper;
+
+import com.food.ordering.system.domain.id.UuidV7Generator;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.v2.PaymentResponseAvroModelV2;
+import com.food.ordering.system.kafka.order.avro.model.v2.RestaurantApprovalRequestAvroModelV2;
+import com.food.ordering.system.kafka.order.avro.model.v2.Uuid;
+import com.food.ordering.system.order.service.domain.OrderTestFixtures;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OrderMessagingDataMapperTest {
+  private static final UUID ID = UUID.fromString("0190b6f4-7c2e-7a31-8d4c-2f6b1e9a0c11");
+  private static final UUID SAGA_ID = UUID.fromString("0190b6f4-7c2e-7a31-8d4c-2f6b1e9a0c12");
+  private static final UUID PAYMENT_ID = UUID.fromString("0190b6f4-7c2e-7a31-8d4c-2f6b1e9a0c13");
+  private static final UUID CUSTOMER_ID = UUID.fromString("0190b6f4-7c2e-7a31-8d4c-2f6b1e9a0c14");
+  private static final UUID ORDER_ID = UUID.fromString("0190b6f4-7c2e-7a31-8d4c-2f6b1e9a0c15");
+  private static final Instant CREATED_AT = Instant.ofEpochMilli(1_720_000_000_000L);
+
+  private final OrderMessagingDataMapper orderMessagingDataMapper = new OrderMessagingDataMapper(new UuidV7Generator());
+
+  @Test
+  public void testPaymentResponsesAreReadFromBothSchemaVersions() {
+    PaymentResponseAvroModel paymentResponseAvroModelV1 = PaymentResponseAvroModel.newBuilder()
+        .setId(ID)
+        .setSagaId(SAGA_ID)
+        .setPaymentId(PAYMENT_ID)
+        .setCustomerId(CUSTOMER_ID)
+        .setOrderId(ORDER_ID)
+        .setPrice(new BigDecimal("123.45"))
+        .setCreatedAt(CREATED_AT)
+        .setPaymentStatus(PaymentStatus.FAILED)
+        .setFailureMessages(List.of("Insufficient credit, limit reached"))
+        .build();
+    PaymentResponseAvroModelV2 paymentResponseAvroModelV2 = PaymentResponseAvroModelV2.newBuilder()
+        .setId(uuid(ID))
+        .setSagaId(uuid(SAGA_ID))
+        .setPaymentId(uuid(PAYMENT_ID))
+        .setCustomerId(uuid(CUSTOMER_ID))
+        .setOrderId(uuid(ORDER_ID))
+        .setPriceCents(12_345L)
+        .setCreatedAt(CREATED_AT)
+        .setPaymentStatus(com.food.ordering.system.kafka.order.avro.model.v2.PaymentStatus.FAILED)
+        .setFailureMessages(List.of("Insufficient credit, limit reached"))
+        .build();
+
+    PaymentResponse fromV1 = orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModelV1);
+    PaymentResponse fromV2 = orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModelV2);
+
+    for (PaymentResponse paymentResponse : List.of(fromV1, fromV2)) {
+      assertEquals(ID.toString(), paymentResponse.getId());
+      assertEquals(SAGA_ID.toString(), paymentResponse.getSagaId());
+      assertEquals(PAYMENT_ID.toString(), paymentResponse.getPaymentId());
+      assertEquals(CUSTOMER_ID.toString(), paymentResponse.getCustomerId());
+      assertEquals(ORDER_ID.toString(), paymentResponse.getOrderId());
+      assertEquals(new BigDecimal("123.45"), paymentResponse.getPrice());
+      assertEquals(CREATED_AT, paymentResponse.getCreatedAt());
+      assertEquals(com.food.ordering.system.domain.valueobject.PaymentStatus.FAILED, paymentResponse.getPaymentStatus());
+      assertEquals(List.of("Insufficient credit, limit reached"), paymentResponse.getFailureMessages());
+    }
+  }
+
+  @Test
+  public void testRestaurantApprovalRequestIsWrittenWithBinaryIdsAndMinorUnitPrice() {
+    UUID productId = UUID.randomUUID();
+    Order order = OrderTestFixtures.initializedOrder(List.of(
+        OrderTestFixtures.orderItem(new ProductId(productId), 2, new Money(new BigDecimal("10.25")))));
+
+    RestaurantApprovalRequestAvroModelV2 restaurantApprovalRequestAvroModel = orderMessagingDataMapper
+        .orderPaidEventToRestaurantApprovalRequestAvroModel(new OrderPaidEvent(order, ZonedDateTime.now(ZoneOffset.UTC)));
+
+    assertEquals(uuid(order.getId().getValue()), restaurantApprovalRequestAvroModel.getOrderId());
+    assertEquals(uuid(productId), restaurantApprovalRequestAvroModel.getProducts().get(0).getId());
+    assertEquals(2_050L, restaurantApprovalRequestAvroModel.getPriceCents());
+  }
+
+  private static Uuid uuid(UUID uuid) {
+    return new Uuid(ByteBuffer.allocate(16)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits())
+        .array());
+  }
+}